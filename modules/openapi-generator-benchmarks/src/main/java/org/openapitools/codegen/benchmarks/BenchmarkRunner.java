@@ -0,0 +1,48 @@
+package org.openapitools.codegen.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Entry point of {@code benchmarks.jar}. Accepts the regular JMH command line options, but writes JSON results to
+ * {@value #DEFAULT_RESULT} unless a result file or format is given, so that runs of different versions can be
+ * compared.
+ */
+public final class BenchmarkRunner {
+    static final String DEFAULT_RESULT = "target/benchmarks/jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+        if (commandLine.shouldList() || commandLine.shouldListWithParams() || commandLine.shouldListProfilers()
+                || commandLine.shouldListResultFormats()) {
+            // leave the listing options to the JMH main class
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (!commandLine.getResult().hasValue() && !commandLine.getResultFormat().hasValue()) {
+            File result = new File(DEFAULT_RESULT);
+            if (result.getParentFile() != null) {
+                result.getParentFile().mkdirs();
+            }
+            options.resultFormat(ResultFormatType.JSON).result(result.getPath());
+        }
+        new Runner(options.build()).run();
+    }
+}
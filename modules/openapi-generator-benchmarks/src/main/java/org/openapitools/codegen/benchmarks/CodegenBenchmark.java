@@ -0,0 +1,116 @@
+package org.openapitools.codegen.benchmarks;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openapitools.codegen.ClientOptInput;
+import org.openapitools.codegen.CodegenConfig;
+import org.openapitools.codegen.CodegenConfigLoader;
+import org.openapitools.codegen.CodegenConstants;
+import org.openapitools.codegen.InlineModelResolver;
+import org.openapitools.codegen.OpenAPINormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generator specific stages: converting schemas and operations with {@code fromModel}/{@code fromOperation}, and
+ * the complete {@link org.openapitools.codegen.DefaultGenerator#generate()} run including template rendering, with
+ * the output written to an in-memory file system.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodegenBenchmark {
+    private static final String OUTPUT_DIR = "/openapi-generator-benchmarks";
+
+    @State(Scope.Thread)
+    public static class GeneratorState {
+        @Param({"java", "typescript-fetch", "python", "go"})
+        public String generator;
+
+        CodegenConfig newConfig() {
+            CodegenConfig codegenConfig = CodegenConfigLoader.forName(generator);
+            // nothing is written to this directory, the generated files are kept in memory, see InMemoryGenerator
+            codegenConfig.setOutputDir(OUTPUT_DIR);
+            codegenConfig.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+            return codegenConfig;
+        }
+    }
+
+    /**
+     * A config prepared the way {@link org.openapitools.codegen.DefaultGenerator} prepares it before models and
+     * operations are processed.
+     */
+    @State(Scope.Thread)
+    public static class PreparedState {
+        CodegenConfig config;
+        OpenAPI openAPI;
+
+        @Setup(Level.Trial)
+        public void setUp(SpecState spec, GeneratorState generator) {
+            openAPI = spec.parse();
+            config = generator.newConfig();
+            config.processOpts();
+            new OpenAPINormalizer(openAPI, config.openapiNormalizer()).normalize();
+            new InlineModelResolver().flatten(openAPI);
+            config.preprocessOpenAPI(openAPI);
+            config.setOpenAPI(openAPI);
+        }
+    }
+
+    /**
+     * A fresh document and config for every invocation, as {@code generate()} modifies both.
+     */
+    @State(Scope.Thread)
+    public static class GenerateState {
+        ClientOptInput input;
+
+        @Setup(Level.Invocation)
+        public void setUp(SpecState spec, GeneratorState generator) {
+            input = new ClientOptInput().openAPI(spec.parse()).config(generator.newConfig());
+        }
+    }
+
+    @Benchmark
+    @SuppressWarnings("rawtypes")
+    public void fromModel(PreparedState state, Blackhole blackhole) {
+        for (Map.Entry<String, Schema> entry : state.openAPI.getComponents().getSchemas().entrySet()) {
+            blackhole.consume(state.config.fromModel(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    @Benchmark
+    public void fromOperation(PreparedState state, Blackhole blackhole) {
+        for (Map.Entry<String, PathItem> path : state.openAPI.getPaths().entrySet()) {
+            for (Map.Entry<PathItem.HttpMethod, Operation> operation : path.getValue().readOperationsMap().entrySet()) {
+                String httpMethod = operation.getKey().name().toLowerCase(Locale.ROOT);
+                blackhole.consume(state.config.fromOperation(path.getKey(), httpMethod, operation.getValue(), path.getValue().getServers()));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<File> generate(GenerateState state) {
+        return new InMemoryGenerator().opts(state.input).generate();
+    }
+}
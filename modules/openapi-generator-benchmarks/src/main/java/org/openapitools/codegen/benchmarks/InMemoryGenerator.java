@@ -0,0 +1,23 @@
+package org.openapitools.codegen.benchmarks;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import org.openapitools.codegen.ClientOptInput;
+import org.openapitools.codegen.DefaultGenerator;
+import org.openapitools.codegen.Generator;
+import org.openapitools.codegen.templating.FileSystemOutputSink;
+
+import java.nio.file.FileSystem;
+
+/**
+ * A {@link DefaultGenerator} which writes the rendered files to an in-memory file system, so that disk I/O does not
+ * dominate the measurement of template rendering.
+ */
+public class InMemoryGenerator extends DefaultGenerator {
+    private final FileSystem fileSystem = Jimfs.newFileSystem(Configuration.unix());
+
+    @Override
+    public Generator opts(ClientOptInput opts) {
+        return super.opts(opts.outputSink(new FileSystemOutputSink(fileSystem)));
+    }
+}
@@ -0,0 +1,60 @@
+package org.openapitools.codegen.benchmarks;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openapitools.codegen.InlineModelResolver;
+import org.openapitools.codegen.OpenAPINormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generator independent stages: parsing, normalization and inline model resolution.
+ * <p>
+ * Normalization and inline model resolution modify the document, so both run against a fresh copy parsed outside
+ * of the measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PipelineBenchmark {
+
+    @State(Scope.Thread)
+    public static class ParsedSpec {
+        OpenAPI openAPI;
+
+        @Setup(Level.Invocation)
+        public void setUp(SpecState state) {
+            openAPI = state.parse();
+        }
+    }
+
+    @Benchmark
+    public OpenAPI parse(SpecState state) {
+        return state.parse();
+    }
+
+    @Benchmark
+    public OpenAPI normalize(ParsedSpec parsed) {
+        new OpenAPINormalizer(parsed.openAPI, Collections.emptyMap()).normalize();
+        return parsed.openAPI;
+    }
+
+    @Benchmark
+    public OpenAPI inlineModelResolver(ParsedSpec parsed) {
+        new InlineModelResolver().flatten(parsed.openAPI);
+        return parsed.openAPI;
+    }
+}
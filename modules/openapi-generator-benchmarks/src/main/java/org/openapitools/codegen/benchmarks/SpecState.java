@@ -0,0 +1,49 @@
+package org.openapitools.codegen.benchmarks;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Shared size parameters of the synthetic document. Override them on the command line, e.g.
+ * {@code -p schemas=1000 -p paths=500 -p depth=4}.
+ */
+@State(Scope.Benchmark)
+public class SpecState {
+    /**
+     * Number of component schemas.
+     */
+    @Param({"100"})
+    public int schemas;
+
+    /**
+     * Number of resources, each adding two paths and five operations.
+     */
+    @Param({"50"})
+    public int paths;
+
+    /**
+     * Maximum length of {@code allOf} chains.
+     */
+    @Param({"2"})
+    public int depth;
+
+    /**
+     * The synthetic document serialized to JSON.
+     */
+    public String spec;
+
+    @Setup
+    public void setUp() {
+        spec = SyntheticSpec.toJson(SyntheticSpec.build(schemas, paths, depth));
+    }
+
+    /**
+     * @return a freshly parsed copy of the document
+     */
+    public OpenAPI parse() {
+        return SyntheticSpec.parse(spec);
+    }
+}
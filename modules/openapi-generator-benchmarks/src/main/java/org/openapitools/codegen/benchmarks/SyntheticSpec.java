@@ -0,0 +1,160 @@
+package org.openapitools.codegen.benchmarks;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Builds synthetic OpenAPI documents of a configurable size.
+ * <p>
+ * Every schema has scalar, enum, array, reference and inline object properties. Schemas are chained through
+ * {@code allOf} up to the given composition depth. Every path has a collection and an item resource with the usual
+ * CRUD operations.
+ */
+public final class SyntheticSpec {
+    private static final int TAGS = 10;
+
+    private SyntheticSpec() {
+    }
+
+    /**
+     * Builds a synthetic document.
+     *
+     * @param schemas          number of component schemas
+     * @param paths            number of resources; each adds two paths with five operations in total
+     * @param compositionDepth maximum length of {@code allOf} chains, 0 for no composition
+     * @return the document
+     */
+    public static OpenAPI build(int schemas, int paths, int compositionDepth) {
+        OpenAPI openAPI = new OpenAPI()
+                .info(new Info().title("Synthetic").version("1.0.0").description("Synthetic document for benchmarks"))
+                .components(new Components())
+                .paths(new Paths());
+
+        for (int i = 0; i < schemas; i++) {
+            openAPI.getComponents().addSchemas(modelName(i), model(i, compositionDepth));
+        }
+        for (int j = 0; j < paths; j++) {
+            String model = modelName(j % Math.max(1, schemas));
+            String tag = "Resource" + (j % TAGS);
+            openAPI.getPaths().addPathItem("/resource" + j, collection(j, tag, model));
+            openAPI.getPaths().addPathItem("/resource" + j + "/{id}", item(j, tag, model));
+        }
+        return openAPI;
+    }
+
+    /**
+     * Serializes a synthetic document to JSON.
+     */
+    public static String toJson(OpenAPI openAPI) {
+        return Json.pretty(openAPI);
+    }
+
+    /**
+     * Parses a document the way {@link org.openapitools.codegen.config.CodegenConfigurator} does.
+     */
+    public static OpenAPI parse(String spec) {
+        ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        SwaggerParseResult result = new OpenAPIParser().readContents(spec, null, options);
+        if (result.getOpenAPI() == null) {
+            throw new IllegalStateException("Unable to parse synthetic spec: " + result.getMessages());
+        }
+        return result.getOpenAPI();
+    }
+
+    private static String modelName(int i) {
+        return "Model" + i;
+    }
+
+    private static String ref(String name) {
+        return "#/components/schemas/" + name;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Schema model(int i, int compositionDepth) {
+        ObjectSchema own = new ObjectSchema();
+        own.addProperty("id", new IntegerSchema().format("int64"));
+        own.addProperty("name" + i, new StringSchema().maxLength(64));
+        own.addProperty("status", new StringSchema()._enum(Arrays.asList("available", "pending", "sold")));
+        own.addProperty("tags", new ArraySchema().items(new StringSchema()));
+        own.addProperty("details", new ObjectSchema()
+                .addProperty("createdAt", new StringSchema().format("date-time"))
+                .addProperty("count", new IntegerSchema()));
+        if (i > 0) {
+            own.addProperty("related", new Schema<>().$ref(ref(modelName(i - 1))));
+        }
+        own.setRequired(Collections.singletonList("id"));
+
+        // chain every model to its predecessor unless that would exceed the composition depth
+        if (compositionDepth > 0 && i % (compositionDepth + 1) != 0) {
+            ComposedSchema composed = new ComposedSchema();
+            composed.addAllOfItem(new Schema<>().$ref(ref(modelName(i - 1))));
+            composed.addAllOfItem(own);
+            return composed;
+        }
+        return own;
+    }
+
+    private static PathItem collection(int j, String tag, String model) {
+        Operation list = operation("list" + j, tag)
+                .addParametersItem(new QueryParameter().name("limit").schema(new IntegerSchema()))
+                .addParametersItem(new QueryParameter().name("offset").schema(new IntegerSchema()))
+                .responses(responses(new ArraySchema().items(new Schema<>().$ref(ref(model)))));
+        Operation create = operation("create" + j, tag)
+                .requestBody(new RequestBody().required(true).content(json(new Schema<>().$ref(ref(model)))))
+                .responses(responses(new Schema<>().$ref(ref(model))));
+        return new PathItem().get(list).post(create);
+    }
+
+    private static PathItem item(int j, String tag, String model) {
+        List<io.swagger.v3.oas.models.parameters.Parameter> id = Collections.singletonList(
+                new PathParameter().name("id").required(true).schema(new IntegerSchema().format("int64")));
+        Operation get = operation("get" + j, tag).parameters(id)
+                .responses(responses(new Schema<>().$ref(ref(model))));
+        Operation update = operation("update" + j, tag).parameters(id)
+                .requestBody(new RequestBody().required(true).content(json(new Schema<>().$ref(ref(model)))))
+                .responses(responses(new Schema<>().$ref(ref(model))));
+        Operation delete = operation("delete" + j, tag).parameters(id)
+                .responses(new ApiResponses().addApiResponse("204", new ApiResponse().description("deleted")));
+        return new PathItem().get(get).put(update).delete(delete);
+    }
+
+    private static Operation operation(String operationId, String tag) {
+        return new Operation().operationId(operationId).addTagsItem(tag).summary(operationId);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static ApiResponses responses(Schema schema) {
+        return new ApiResponses().addApiResponse("200", new ApiResponse().description("ok").content(json(schema)));
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Content json(Schema schema) {
+        return new Content().addMediaType("application/json", new MediaType().schema(schema));
+    }
+}
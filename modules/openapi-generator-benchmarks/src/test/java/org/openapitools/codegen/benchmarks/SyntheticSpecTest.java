@@ -0,0 +1,33 @@
+package org.openapitools.codegen.benchmarks;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+public class SyntheticSpecTest {
+
+    @Test
+    public void buildsRequestedSize() {
+        OpenAPI openAPI = SyntheticSpec.parse(SyntheticSpec.toJson(SyntheticSpec.build(7, 3, 2)));
+
+        assertEquals(openAPI.getComponents().getSchemas().size(), 7);
+        assertEquals(openAPI.getPaths().size(), 6);
+        assertEquals(openAPI.getPaths().values().stream().mapToInt(p -> p.readOperations().size()).sum(), 15);
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    public void limitsCompositionDepth() {
+        OpenAPI openAPI = SyntheticSpec.build(6, 1, 2);
+
+        // Model0 <- Model1 <- Model2, Model3 <- Model4 <- Model5
+        for (int i = 0; i < 6; i++) {
+            Schema schema = openAPI.getComponents().getSchemas().get("Model" + i);
+            assertEquals(schema.getAllOf() != null, i % 3 != 0, "Model" + i);
+        }
+        assertEquals(((Schema) openAPI.getComponents().getSchemas().get("Model2").getAllOf().get(0)).get$ref(),
+                "#/components/schemas/Model1");
+    }
+}
@@ -35,6 +35,20 @@ import static org.openapitools.codegen.Constants.CLI_NAME;
 public class OpenAPIGenerator {
 
     public static void main(String[] args) {
+        int status = run(args, true);
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * Runs the command line interface.
+     *
+     * @param args            the command line arguments
+     * @param allowForwarding whether commands run with {@code --use-daemon} may be forwarded to a running daemon
+     * @return the exit status
+     */
+    public static int run(String[] args, boolean allowForwarding) {
         BuildInfo buildInfo = new BuildInfo();
         Cli.CliBuilder<OpenApiGeneratorCommand> builder =
                 Cli.<OpenApiGeneratorCommand>builder(CLI_NAME)
@@ -54,7 +68,8 @@ public class OpenAPIGenerator {
                                 Validate.class,
                                 Version.class,
                                 CompletionCommand.class,
-                                GenerateBatch.class
+                                GenerateBatch.class,
+                                Daemon.class
                         );
 
         builder.withGroup("author")
@@ -63,7 +78,15 @@ public class OpenAPIGenerator {
                 .withCommands(AuthorTemplate.class);
 
         try {
-            builder.build().parse(args).run();
+            OpenApiGeneratorCommand command = builder.build().parse(args);
+            if (allowForwarding && command.getDaemonOptions() != null && command.getDaemonOptions().useDaemon) {
+                Integer status = DaemonClient.forward(args);
+                if (status != null) {
+                    return status;
+                }
+                // no daemon is serving the working directory, run the command in this process
+            }
+            command.run();
 
             // If CLI runs without a command, consider this an error. This exists after initial parse/run
             // so we can present the configured "default command".
@@ -73,14 +96,17 @@ public class OpenAPIGenerator {
             // it would prevent scripting using the command directly. Example:
             //     java -jar cli.jar list --short | tr ',' '\n' | xargs -I{} echo "Doing something with {}"
             if (args.length == 0) {
-                System.exit(1);
+                return 1;
             }
+            return 0;
         } catch (ParseArgumentsUnexpectedException e) {
             System.err.printf(Locale.ROOT, "[error] %s%n%nSee '%s help' for usage.%n", e.getMessage(), CLI_NAME);
-            System.exit(1);
+            return 1;
         } catch (ParseOptionMissingException | ParseOptionMissingValueException e) {
             System.err.printf(Locale.ROOT, "[error] %s%n", e.getMessage());
-            System.exit(1);
+            return 1;
+        } catch (ExitException e) {
+            return e.getStatus();
         }
     }
 }
@@ -0,0 +1,354 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.cmd;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.util.ContextInitializer;
+import ch.qos.logback.core.joran.spi.JoranException;
+import io.airlift.airline.Command;
+import io.airlift.airline.Option;
+import org.openapitools.codegen.OpenAPIGenerator;
+import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.templating.MustacheTemplateCache;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static org.openapitools.codegen.Constants.CLI_NAME;
+
+/**
+ * Keeps a warm JVM serving the commands run with {@code --use-daemon} from the same working directory, see
+ * {@link DaemonClient}.
+ * <p>
+ * Commands are run one at a time, with the console output redirected to the client: a command replaces
+ * {@code System.out} and {@code System.err}, and may change the global settings and the logging configuration, which
+ * are reset after it. Concurrent clients wait for the running command to complete. A client whose post-processing
+ * variables (e.g. {@code JAVA_POST_PROCESS_FILE}) differ from the daemon's environment is turned away, and runs the
+ * command itself.
+ * <p>
+ * Everything which outlives a single command stays warm between requests: loaded classes, the registered generators
+ * and the compiled templates. Parsed specs are not shared, as generation modifies the document in place.
+ */
+@SuppressWarnings({"unused", "java:S106"})
+@Command(name = "daemon", description = "Serve the generate, batch and validate commands run with --use-daemon from the current working directory.")
+public class Daemon extends OpenApiGeneratorCommand {
+    // the time a client has to send its request once connected
+    private static final int REQUEST_TIMEOUT_MILLIS = 10_000;
+    // held while a command runs, as commands change process wide state, see run
+    private static final Object COMMAND_LOCK = new Object();
+
+    @Option(name = {"--idle-timeout"}, title = "minutes",
+            description = "shut down after the given number of minutes without requests (default: 60)")
+    private Integer idleTimeout;
+
+    @Option(name = {"--max-memory"}, title = "percent",
+            description = "shut down when, after a request, more than the given percentage of the maximum heap is still in use "
+                    + "once the caches have been cleared (default: 75)")
+    private Integer maxMemory;
+
+    @Option(name = {"--stop"}, description = "stop the daemon serving the current working directory")
+    private Boolean stop;
+
+    // the variables of the daemon's environment which clients must share, see DaemonClient#generationEnvironment
+    Map<String, String> environment = DaemonClient.generationEnvironment(System.getenv());
+    // the percentage of the maximum heap in use
+    LongSupplier heapUsage = Daemon::heapUsage;
+
+    @Override
+    public void execute() {
+        Path workingDirectory = DaemonClient.workingDirectory();
+        if (Boolean.TRUE.equals(stop)) {
+            if (DaemonClient.stop()) {
+                System.out.println("Stopped the daemon serving " + workingDirectory);
+            } else {
+                System.out.println("No daemon is serving " + workingDirectory);
+            }
+            return;
+        }
+        if (DaemonClient.isRunning()) {
+            System.err.printf(Locale.ROOT, "[error] A daemon is already serving %s. Stop it with '%s daemon --stop'.%n", workingDirectory, CLI_NAME);
+            throw new ExitException(1);
+        }
+
+        int idleMinutes = idleTimeout == null ? 60 : Math.max(idleTimeout, 1);
+        int memoryLimit = maxMemory == null ? 75 : Math.min(Math.max(maxMemory, 1), 100);
+        listen((int) TimeUnit.MINUTES.toMillis(idleMinutes), memoryLimit);
+    }
+
+    /**
+     * Serves requests until the daemon is asked to stop, is idle for the given time, or uses too much memory.
+     *
+     * @param idleTimeoutMillis the time without requests after which the daemon stops
+     * @param memoryLimit       the percentage of the maximum heap the daemon may still use after a request
+     */
+    void listen(int idleTimeoutMillis, int memoryLimit) {
+        Path workingDirectory = DaemonClient.workingDirectory();
+        String token = newToken();
+
+        try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            server.setSoTimeout(idleTimeoutMillis);
+            writeState(workingDirectory, server.getLocalPort(), token);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> deleteState(workingDirectory, token)));
+            System.out.printf(Locale.ROOT, "Daemon serving %s on port %d.%n", workingDirectory, server.getLocalPort());
+
+            while (true) {
+                Socket socket;
+                try {
+                    socket = server.accept();
+                } catch (SocketTimeoutException e) {
+                    System.out.printf(Locale.ROOT, "Stopping the daemon after %d seconds without requests.%n", TimeUnit.MILLISECONDS.toSeconds(idleTimeoutMillis));
+                    break;
+                }
+                try (socket) {
+                    if (!serve(socket, token, workingDirectory)) {
+                        System.out.println("Stopping the daemon on request.");
+                        break;
+                    }
+                } catch (IOException e) {
+                    System.err.println("[warn] Unable to serve a request: " + e.getMessage());
+                }
+                if (!isWithinMemoryLimit(memoryLimit)) {
+                    System.out.printf(Locale.ROOT, "Stopping the daemon, more than %d%% of the heap is in use.%n", memoryLimit);
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("[error] Unable to start the daemon: " + e.getMessage());
+            throw new ExitException(1);
+        } finally {
+            deleteState(workingDirectory, token);
+        }
+    }
+
+    /**
+     * Serves a single request.
+     *
+     * @return false if the daemon was asked to stop
+     */
+    private boolean serve(Socket socket, String token, Path workingDirectory) throws IOException {
+        socket.setSoTimeout(REQUEST_TIMEOUT_MILLIS);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+        byte[] presented;
+        try {
+            presented = in.readUTF().getBytes(StandardCharsets.UTF_8);
+        } catch (EOFException e) {
+            // a client checking whether the daemon is running
+            return true;
+        }
+        if (!MessageDigest.isEqual(presented, token.getBytes(StandardCharsets.UTF_8))) {
+            return true;
+        }
+        byte request = in.readByte();
+        if (request == DaemonClient.REQUEST_STOP) {
+            out.writeByte(DaemonClient.FRAME_EXIT);
+            out.flush();
+            return false;
+        }
+
+        String clientDirectory = in.readUTF();
+        String charset = in.readUTF();
+        Map<String, String> clientEnvironment = new TreeMap<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            clientEnvironment.put(in.readUTF(), in.readUTF());
+        }
+        String[] args = new String[in.readInt()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = in.readUTF();
+        }
+        socket.setSoTimeout(0);
+
+        if (request != DaemonClient.REQUEST_RUN || !workingDirectory.toString().equals(clientDirectory) || !Charset.isSupported(charset)) {
+            out.writeByte(DaemonClient.FRAME_REJECTED);
+            out.flush();
+            return true;
+        }
+        if (!clientEnvironment.equals(environment)) {
+            System.out.println("Not serving a request, its post-processing environment variables differ from the daemon's.");
+            out.writeByte(DaemonClient.FRAME_REJECTED);
+            out.flush();
+            return true;
+        }
+
+        int status = run(args, out, Charset.forName(charset));
+        synchronized (out) {
+            out.writeByte(DaemonClient.FRAME_EXIT);
+            out.writeInt(status);
+            out.flush();
+        }
+        return true;
+    }
+
+    /**
+     * Runs a command with its console output sent to the client. Only one command runs at a time, as the console
+     * streams, the global settings and the logging configuration are shared by the whole process.
+     */
+    private int run(String[] args, DataOutputStream out, Charset charset) {
+        synchronized (COMMAND_LOCK) {
+            return runExclusively(args, out, charset);
+        }
+    }
+
+    private int runExclusively(String[] args, DataOutputStream out, Charset charset) {
+        PrintStream stdout = System.out;
+        PrintStream stderr = System.err;
+        System.setOut(new PrintStream(new BufferedOutputStream(new FrameOutputStream(out, DaemonClient.FRAME_STDOUT)), true, charset));
+        System.setErr(new PrintStream(new BufferedOutputStream(new FrameOutputStream(out, DaemonClient.FRAME_STDERR)), true, charset));
+        try {
+            GlobalSettings.reset();
+            return OpenAPIGenerator.run(args, false);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return 1;
+        } finally {
+            System.out.flush();
+            System.err.flush();
+            System.setOut(stdout);
+            System.setErr(stderr);
+            // commands may change the global settings and the log levels
+            GlobalSettings.reset();
+            resetLogging();
+        }
+    }
+
+    private static void resetLogging() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+        try {
+            new ContextInitializer(context).autoConfig();
+        } catch (JoranException e) {
+            System.err.println("[warn] Unable to restore the logging configuration: " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return true if the heap usage is within the limit, if need be after clearing the caches
+     */
+    @SuppressWarnings("java:S1215")
+    private boolean isWithinMemoryLimit(int percent) {
+        if (heapUsage.getAsLong() <= percent) {
+            return true;
+        }
+        MustacheTemplateCache.invalidateAll();
+        System.gc();
+        return heapUsage.getAsLong() <= percent;
+    }
+
+    private static long heapUsage() {
+        Runtime runtime = Runtime.getRuntime();
+        return (runtime.totalMemory() - runtime.freeMemory()) * 100 / runtime.maxMemory();
+    }
+
+    private static String newToken() {
+        byte[] bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    private void writeState(Path workingDirectory, int port, String token) throws IOException {
+        Properties state = new Properties();
+        state.setProperty(DaemonClient.STATE_PORT, Integer.toString(port));
+        state.setProperty(DaemonClient.STATE_TOKEN, token);
+        state.setProperty(DaemonClient.STATE_VERSION, buildInfo.getVersion());
+        state.setProperty(DaemonClient.STATE_PID, Long.toString(ProcessHandle.current().pid()));
+        state.setProperty(DaemonClient.STATE_WORKING_DIRECTORY, workingDirectory.toString());
+
+        Path stateFile = DaemonClient.stateFile(workingDirectory);
+        Files.createDirectories(stateFile.getParent());
+        Path temp = stateFile.resolveSibling(stateFile.getFileName() + ".tmp");
+        Files.deleteIfExists(temp);
+        // only the current user may read the token
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(temp, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        }
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            state.store(writer, "openapi-generator daemon");
+        }
+        Files.move(temp, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void deleteState(Path workingDirectory, String token) {
+        // another daemon may have replaced the state file in the meantime
+        Properties state = DaemonClient.readState(workingDirectory);
+        if (state != null && token.equals(state.getProperty(DaemonClient.STATE_TOKEN))) {
+            try {
+                Files.deleteIfExists(DaemonClient.stateFile(workingDirectory));
+            } catch (IOException ignored) {
+                // the state is ignored once the daemon stopped listening
+            }
+        }
+    }
+
+    /**
+     * Sends everything written to it as frames of the given type.
+     */
+    private static final class FrameOutputStream extends OutputStream {
+        private final DataOutputStream out;
+        private final byte type;
+
+        private FrameOutputStream(DataOutputStream out, byte type) {
+            this.out = out;
+            this.type = type;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return;
+            }
+            // stdout and stderr may be written by several threads, e.g. during a batch
+            synchronized (out) {
+                out.writeByte(type);
+                out.writeInt(len);
+                out.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            synchronized (out) {
+                out.flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.cmd;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Forwards commands to a {@link Daemon} started in the same working directory.
+ * <p>
+ * A running daemon is found through its state file, which holds the loopback port it listens on and a token clients
+ * have to present. A request consists of the token, the kind of request, the working directory, the charset of the
+ * client's console, the environment variables which affect generation (see {@link #generationEnvironment(Map)}) and
+ * the command line arguments. The daemon answers with frames holding the output of the command and finally its exit
+ * status.
+ */
+public final class DaemonClient {
+    static final byte REQUEST_RUN = 'R';
+    static final byte REQUEST_STOP = 'S';
+
+    static final byte FRAME_STDOUT = 'O';
+    static final byte FRAME_STDERR = 'E';
+    static final byte FRAME_EXIT = 'X';
+    // the daemon can't serve the request, the client runs the command itself
+    static final byte FRAME_REJECTED = 'N';
+
+    static final String STATE_PORT = "port";
+    static final String STATE_TOKEN = "token";
+    static final String STATE_VERSION = "version";
+    static final String STATE_PID = "pid";
+    static final String STATE_WORKING_DIRECTORY = "workingDirectory";
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 1000;
+    // suffix of the variables naming the post-processing command of each language, e.g. JAVA_POST_PROCESS_FILE
+    private static final String POST_PROCESS_FILE_SUFFIX = "_POST_PROCESS_FILE";
+
+    private DaemonClient() {
+    }
+
+    /**
+     * Runs a command in the daemon started in the current working directory, copying its output to the console.
+     *
+     * @param args the command line arguments
+     * @return the exit status of the command, or null if no daemon could run it
+     */
+    public static Integer forward(String[] args) {
+        return forward(args, generationEnvironment(System.getenv()), System.out, System.err);
+    }
+
+    /**
+     * Runs a command in the daemon started in the current working directory.
+     *
+     * @param args        the command line arguments
+     * @param environment the client's variables of {@link #generationEnvironment(Map)}
+     * @param stdout      receives the standard output of the command
+     * @param stderr      receives the error output of the command
+     * @return the exit status of the command, or null if no daemon could run it
+     */
+    static Integer forward(String[] args, Map<String, String> environment, PrintStream stdout, PrintStream stderr) {
+        Properties state = readState(workingDirectory());
+        if (state == null) {
+            return null;
+        }
+        try (Socket socket = connect(state)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            out.writeUTF(state.getProperty(STATE_TOKEN));
+            out.writeByte(REQUEST_RUN);
+            out.writeUTF(workingDirectory().toString());
+            out.writeUTF(Charset.defaultCharset().name());
+            out.writeInt(environment.size());
+            for (Map.Entry<String, String> variable : environment.entrySet()) {
+                out.writeUTF(variable.getKey());
+                out.writeUTF(variable.getValue());
+            }
+            out.writeInt(args.length);
+            for (String arg : args) {
+                out.writeUTF(arg);
+            }
+            out.flush();
+
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            boolean started = false;
+            while (true) {
+                int type;
+                try {
+                    type = in.readByte();
+                } catch (EOFException e) {
+                    if (!started) {
+                        // e.g. the daemon is shutting down, or was replaced by another one
+                        return null;
+                    }
+                    stderr.println("[error] The daemon closed the connection before the command completed.");
+                    return 1;
+                }
+                switch (type) {
+                    case FRAME_STDOUT:
+                    case FRAME_STDERR:
+                        started = true;
+                        byte[] bytes = new byte[in.readInt()];
+                        in.readFully(bytes);
+                        PrintStream console = type == FRAME_STDOUT ? stdout : stderr;
+                        console.write(bytes, 0, bytes.length);
+                        console.flush();
+                        break;
+                    case FRAME_EXIT:
+                        return in.readInt();
+                    case FRAME_REJECTED:
+                        return null;
+                    default:
+                        throw new IOException("Unexpected frame from the daemon: " + type);
+                }
+            }
+        } catch (IOException e) {
+            // no daemon is listening any more, run the command in this process
+            return null;
+        }
+    }
+
+    /**
+     * @return true if a daemon is serving the current working directory
+     */
+    public static boolean isRunning() {
+        Properties state = readState(workingDirectory());
+        if (state == null) {
+            return false;
+        }
+        try (Socket socket = connect(state)) {
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Asks the daemon started in the current working directory to shut down.
+     *
+     * @return true if a daemon was running
+     */
+    public static boolean stop() {
+        Properties state = readState(workingDirectory());
+        if (state == null) {
+            return false;
+        }
+        try (Socket socket = connect(state)) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            out.writeUTF(state.getProperty(STATE_TOKEN));
+            out.writeByte(REQUEST_STOP);
+            out.flush();
+            // wait for the daemon to acknowledge the request
+            return socket.getInputStream().read() == FRAME_EXIT;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static Socket connect(Properties state) throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(state.getProperty(STATE_PORT))),
+                    CONNECT_TIMEOUT_MILLIS);
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+        return socket;
+    }
+
+    /**
+     * The daemon can't change its environment, it only runs commands for clients with the same values of these
+     * variables.
+     *
+     * @param environment the environment of a process
+     * @return the variables read by the generators, by name
+     */
+    static Map<String, String> generationEnvironment(Map<String, String> environment) {
+        Map<String, String> variables = new TreeMap<>();
+        for (Map.Entry<String, String> variable : environment.entrySet()) {
+            if (variable.getKey().endsWith(POST_PROCESS_FILE_SUFFIX)) {
+                variables.put(variable.getKey(), variable.getValue());
+            }
+        }
+        return variables;
+    }
+
+    static Path workingDirectory() {
+        return Paths.get("").toAbsolutePath().normalize();
+    }
+
+    /**
+     * @param workingDirectory the working directory of a daemon
+     * @return the file in which the daemon started in the given directory records its state
+     */
+    static Path stateFile(Path workingDirectory) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] digest = md.digest(workingDirectory.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder name = new StringBuilder("daemon-");
+            for (int i = 0; i < 8; i++) {
+                name.append(Character.forDigit((digest[i] >> 4) & 0xF, 16)).append(Character.forDigit(digest[i] & 0xF, 16));
+            }
+            return Paths.get(System.getProperty("user.home"), ".openapi-generator", name.append(".properties").toString());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * @return the state of the daemon started in the given directory by this version of the CLI, or null if there is none
+     */
+    static Properties readState(Path workingDirectory) {
+        Path stateFile = stateFile(workingDirectory);
+        if (!Files.isRegularFile(stateFile)) {
+            return null;
+        }
+        Properties state = new Properties();
+        try (Reader reader = Files.newBufferedReader(stateFile, StandardCharsets.UTF_8)) {
+            state.load(reader);
+        } catch (IOException e) {
+            return null;
+        }
+        if (!state.getProperty(STATE_PORT, "").matches("\\d{1,5}") || state.getProperty(STATE_TOKEN) == null
+                || !new BuildInfo().getVersion().equals(state.getProperty(STATE_VERSION))
+                || !workingDirectory.toString().equals(state.getProperty(STATE_WORKING_DIRECTORY))) {
+            return null;
+        }
+        return state;
+    }
+}
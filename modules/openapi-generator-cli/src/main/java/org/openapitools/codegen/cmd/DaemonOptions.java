@@ -1,6 +1,5 @@
 /*
  * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
- * Copyright 2018 SmartBear Software
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,14 +14,15 @@
  * limitations under the License.
  */
 
-package org.openapitools.codegen.online.model;
+package org.openapitools.codegen.cmd;
 
-import lombok.Getter;
-import lombok.Setter;
+import io.airlift.airline.Option;
 
-@Getter
-@Setter
-public class Generated {
-    private String filename;
-    private String friendlyName;
+/**
+ * Options of the commands which can be run by a {@link Daemon}.
+ */
+public class DaemonOptions {
+    @Option(name = "--use-daemon", description = "run the command in the daemon serving the current working directory, "
+            + "if one is running (see the 'daemon' command)")
+    public boolean useDaemon;
 }
@@ -28,6 +28,7 @@ import org.openapitools.codegen.config.MergedSpecBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.inject.Inject;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
@@ -40,6 +41,9 @@ import static org.openapitools.codegen.config.CodegenConfiguratorUtils.*;
 @Command(name = "generate", description = "Generate code with the specified generator.")
 public class Generate extends OpenApiGeneratorCommand {
 
+    @Inject
+    public DaemonOptions daemonOptions = new DaemonOptions();
+
     CodegenConfigurator configurator;
     Generator generator;
 
@@ -331,6 +335,27 @@ public class Generate extends OpenApiGeneratorCommand {
             description = "Only write output files that have changed.")
     private Boolean minimalUpdate;
 
+    @Option(name = {"--incremental-update"},
+            title = "incremental update",
+            description = "Skip rendering files whose inputs (template data, template and generator options) are unchanged since the previous run with this option. Fingerprints of the inputs are kept in .openapi-generator/FINGERPRINTS.")
+    private Boolean incrementalUpdate;
+
+    @Option(name = {"--render-threads"},
+            title = "render threads",
+            description = "Number of threads used to render model, API and supporting files. Defaults to 1 (sequential).")
+    private Integer renderThreads;
+
+    @Option(name = {"--profile"},
+            title = "profile file",
+            description = "Records the time spent in each stage of the generation, and writes it as JSON to the given file. "
+                    + "A .collapsed file next to it holds the same stages in the collapsed stack format of flame graph tools.")
+    private String profile;
+
+    @Override
+    public DaemonOptions getDaemonOptions() {
+        return daemonOptions;
+    }
+
     @Override
     public void execute() {
         if (StringUtils.isNotBlank(inputSpecRootDirectory)) {
@@ -357,7 +382,7 @@ public class Generate extends OpenApiGeneratorCommand {
             } else if (StringUtils.isEmpty(spec)) {
                 // if user doesn't pass configFile and does not pass spec, we can fail immediately because one of these two is required to run.
                 System.err.println("[error] Required option '-i' is missing");
-                System.exit(1);
+                throw new ExitException(1);
             }
 
             // if a config file wasn't specified, or we were unable to read it
@@ -384,7 +409,7 @@ public class Generate extends OpenApiGeneratorCommand {
             if (!spec.matches("^http(s)?://.*") && !new File(spec).exists()) {
                 System.err.println("[error] The spec file is not found: " + spec);
                 System.err.println("[error] Check the path of the OpenAPI spec and try again.");
-                System.exit(1);
+                throw new ExitException(1);
             }
             configurator.setInputSpec(spec);
         }
@@ -498,6 +523,18 @@ public class Generate extends OpenApiGeneratorCommand {
             configurator.setEnableMinimalUpdate(minimalUpdate);
         }
 
+        if (incrementalUpdate != null) {
+            configurator.setEnableIncrementalUpdate(incrementalUpdate);
+        }
+
+        if (renderThreads != null) {
+            configurator.setRenderThreads(renderThreads);
+        }
+
+        if (isNotEmpty(profile)) {
+            configurator.setProfile(profile);
+        }
+
         if (strictSpecBehavior != null) {
             configurator.setStrictSpecBehavior(strictSpecBehavior);
         }
@@ -536,7 +573,7 @@ public class Generate extends OpenApiGeneratorCommand {
         } catch (GeneratorNotFoundException e) {
             System.err.println(e.getMessage());
             System.err.println("[error] Check the spelling of the generator's name and try again.");
-            System.exit(1);
+            throw new ExitException(1);
         }
     }
 }
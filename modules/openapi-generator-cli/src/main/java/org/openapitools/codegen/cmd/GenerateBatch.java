@@ -39,6 +39,7 @@ import org.openapitools.codegen.config.GlobalSettings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.inject.Inject;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -61,6 +62,9 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
     private static AtomicInteger successes = new AtomicInteger(0);
     private final Logger LOGGER = LoggerFactory.getLogger(GenerateBatch.class);
 
+    @Inject
+    public DaemonOptions daemonOptions = new DaemonOptions();
+
     @Option(name = {"-v", "--verbose"}, description = "verbose mode")
     private Boolean verbose;
 
@@ -85,6 +89,11 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
     @Option(name = {"--root-dir"}, description = "root directory used output/includes (includes can be overridden)")
     private String root;
 
+    @Override
+    public DaemonOptions getDaemonOptions() {
+        return daemonOptions;
+    }
+
     /**
      * When an object implementing interface <code>Runnable</code> is used
      * to create a thread, starting the thread causes the object's
@@ -100,9 +109,13 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
     public void execute() {
         if (configs.size() < 1) {
             LOGGER.error("No configuration file inputs specified");
-            System.exit(1);
+            throw new ExitException(1);
         }
 
+        // the counters outlive a single batch when commands are run by the daemon
+        failures.set(0);
+        successes.set(0);
+
         int cores = Runtime.getRuntime().availableProcessors();
         int numThreads = 2 * cores;
         if (null != threads && (threads > 0 && threads < Thread.activeCount())) {
@@ -149,7 +162,7 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
 
         // Execute each configurator on a separate pooled thread.
         configurators.forEach(configurator -> {
-            GenerationRunner runner = new GenerationRunner(configurator, rootDir, Boolean.TRUE.equals(failFast), Boolean.TRUE.equals(clean));
+            GenerationRunner runner = new GenerationRunner(configurator, rootDir, Boolean.TRUE.equals(failFast) ? executor : null, Boolean.TRUE.equals(clean));
             executor.execute(runner);
         });
 
@@ -160,12 +173,17 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
             if (timeout == null) timeout = 10;
             int awaitFor = Math.min(Math.max(timeout, 1), 30);
 
-            executor.awaitTermination(awaitFor, TimeUnit.MINUTES);
+            long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(awaitFor);
+            // when failing fast, stop waiting for the remaining generators on the first failure
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS) && System.nanoTime() < deadline
+                    && !(Boolean.TRUE.equals(failFast) && failures.intValue() > 0)) {
+                // keep waiting
+            }
 
             int failCount = failures.intValue();
             if (failCount > 0) {
                 System.err.println(String.format(Locale.ROOT, "[FAIL] Completed with %d failures, %d successes", failCount, successes.intValue()));
-                System.exit(1);
+                throw new ExitException(1);
             } else {
                 System.out.println(String.format(Locale.ROOT, "[SUCCESS] Batch generation finished %d generators successfully.", successes.intValue()));
             }
@@ -179,13 +197,14 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
     private static class GenerationRunner implements Runnable {
         private final CodegenConfigurator configurator;
         private final Path rootDir;
-        private final boolean exitOnError;
+        // the executor to stop on the first failure, if failing fast
+        private final ExecutorService stopOnError;
         private final boolean clean;
 
-        private GenerationRunner(CodegenConfigurator configurator, Path rootDir, boolean failFast, boolean clean) {
+        private GenerationRunner(CodegenConfigurator configurator, Path rootDir, ExecutorService stopOnError, boolean clean) {
             this.configurator = configurator;
             this.rootDir = rootDir;
-            this.exitOnError = failFast;
+            this.stopOnError = stopOnError;
             this.clean = clean;
         }
 
@@ -235,8 +254,8 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
                 }
                 System.err.printf(Locale.ROOT, "[%s] Generation failed for %s: (%s) %s%n", Thread.currentThread().getName(), failedOn, e.getClass().getSimpleName(), e.getMessage());
                 e.printStackTrace(System.err);
-                if (exitOnError) {
-                    System.exit(1);
+                if (stopOnError != null) {
+                    stopOnError.shutdownNow();
                 }
             } finally {
                 GlobalSettings.reset();
@@ -4,10 +4,9 @@ import com.google.common.base.Objects;
 import io.airlift.airline.Command;
 import io.airlift.airline.Option;
 import org.apache.commons.lang3.StringUtils;
-import org.openapitools.codegen.CodegenConfig;
 import org.openapitools.codegen.CodegenConfigLoader;
 import org.openapitools.codegen.CodegenType;
-import org.openapitools.codegen.meta.GeneratorMetadata;
+import org.openapitools.codegen.GeneratorDescriptor;
 import org.openapitools.codegen.meta.Stability;
 
 import java.util.*;
@@ -34,7 +33,7 @@ public class ListGenerators extends OpenApiGeneratorCommand {
 
     @Override
     public void execute() {
-        List<CodegenConfig> generators = new ArrayList<>();
+        List<GeneratorDescriptor> generators = new ArrayList<>();
         List<Stability> stabilities = Arrays.asList(Stability.values());
 
         if (!StringUtils.isEmpty(include)) {
@@ -46,10 +45,9 @@ public class ListGenerators extends OpenApiGeneratorCommand {
             }
         }
 
-        for (CodegenConfig codegenConfig : CodegenConfigLoader.getAll()) {
-            GeneratorMetadata meta = codegenConfig.getGeneratorMetadata();
-            if (meta != null && stabilities.contains(meta.getStability())) {
-                generators.add(codegenConfig);
+        for (GeneratorDescriptor generator : CodegenConfigLoader.getGenerators()) {
+            if (generator.getStability() != null && stabilities.contains(generator.getStability())) {
+                generators.add(generator);
             }
         }
 
@@ -57,7 +55,7 @@ public class ListGenerators extends OpenApiGeneratorCommand {
 
         if (shortened) {
             for (int i = 0; i < generators.size(); i++) {
-                CodegenConfig generator = generators.get(i);
+                GeneratorDescriptor generator = generators.get(i);
                 if (i != 0) {
                     sb.append(",");
                 }
@@ -80,10 +78,10 @@ public class ListGenerators extends OpenApiGeneratorCommand {
         System.out.printf(Locale.ROOT, "%s%n", sb.toString());
     }
 
-    private void appendForType(StringBuilder sb, CodegenType type, String typeName, List<CodegenConfig> generators) {
-        List<CodegenConfig> list = generators.stream()
+    private void appendForType(StringBuilder sb, CodegenType type, String typeName, List<GeneratorDescriptor> generators) {
+        List<GeneratorDescriptor> list = generators.stream()
                 .filter(g -> Objects.equal(type, g.getTag()))
-                .sorted(Comparator.comparing(CodegenConfig::getName))
+                .sorted(Comparator.comparing(GeneratorDescriptor::getName))
                 .collect(Collectors.toList());
 
         if (!list.isEmpty()) {
@@ -95,15 +93,15 @@ public class ListGenerators extends OpenApiGeneratorCommand {
             sb.append(System.lineSeparator());
 
             list.forEach(generator -> {
-                GeneratorMetadata meta = generator.getGeneratorMetadata();
+                Stability stability = generator.getStability();
                 if (docusaurus || githubNestedIndex) {
                     sb.append("* ");
                     String idPrefix = docusaurus ? "generators/" : "";
                     String id = idPrefix + generator.getName() + ".md";
                     sb.append("[").append(generator.getName());
 
-                    if (meta != null && meta.getStability() != null && meta.getStability() != Stability.STABLE) {
-                        sb.append(" (").append(meta.getStability().value()).append(")");
+                    if (stability != null && stability != Stability.STABLE) {
+                        sb.append(" (").append(stability.value()).append(")");
                     }
 
                     sb.append("](").append(id).append(")");
@@ -114,8 +112,8 @@ public class ListGenerators extends OpenApiGeneratorCommand {
                     sb.append("    - ");
                     sb.append(generator.getName());
 
-                    if (meta != null && meta.getStability() != null && meta.getStability() != Stability.STABLE) {
-                        sb.append(" (").append(meta.getStability().value()).append(")");
+                    if (stability != null && stability != Stability.STABLE) {
+                        sb.append(" (").append(stability.value()).append(")");
                     }
                 }
                 sb.append(System.lineSeparator());
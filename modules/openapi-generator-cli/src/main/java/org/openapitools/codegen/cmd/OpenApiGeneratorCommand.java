@@ -32,6 +32,13 @@ public abstract class OpenApiGeneratorCommand implements Runnable {
         execute();
     }
 
+    /**
+     * @return the options of a command which can be run by a {@link Daemon}, or null if it can't
+     */
+    public DaemonOptions getDaemonOptions() {
+        return null;
+    }
+
     /**
      * Logic to be executed by implementing commands
      */
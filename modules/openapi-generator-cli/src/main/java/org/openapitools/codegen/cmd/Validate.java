@@ -27,9 +27,11 @@ import io.swagger.v3.parser.core.models.SwaggerParseResult;
 import org.apache.commons.text.WordUtils;
 import org.openapitools.codegen.auth.AuthParser;
 import org.openapitools.codegen.validation.ValidationResult;
+import org.openapitools.codegen.validation.ValidationTimings;
 import org.openapitools.codegen.validations.oas.OpenApiEvaluator;
 import org.openapitools.codegen.validations.oas.RuleConfiguration;
 
+import javax.inject.Inject;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -38,6 +40,9 @@ import java.util.Set;
 @Command(name = "validate", description = "Validate specification")
 public class Validate extends OpenApiGeneratorCommand {
 
+    @Inject
+    public DaemonOptions daemonOptions = new DaemonOptions();
+
     @Option(name = {"-i", "--input-spec"}, title = "spec file", required = true,
             description = "location of the OpenAPI spec, as URL or file (required)")
     private String spec;
@@ -45,6 +50,14 @@ public class Validate extends OpenApiGeneratorCommand {
     @Option(name = {"--recommend"}, title = "recommend spec improvements")
     private Boolean recommend;
 
+    @Option(name = {"--parallel"}, title = "parallel validation",
+            description = "validates schemas, operations and parameters in parallel")
+    private Boolean parallel;
+
+    @Option(name = {"--rule-timings"}, title = "rule timings",
+            description = "prints the time spent evaluating each validation rule, the most expensive first")
+    private Boolean ruleTimings;
+
     @Option(
             name = {"-a", "--auth"},
             title = "authorization",
@@ -52,6 +65,11 @@ public class Validate extends OpenApiGeneratorCommand {
                     + "Pass in a URL-encoded string of name:header with a comma separating multiple values")
     private String auth;
 
+    @Override
+    public DaemonOptions getDaemonOptions() {
+        return daemonOptions;
+    }
+
     @Override
     public void execute() {
         System.out.println("Validating spec (" + spec + ")");
@@ -71,9 +89,15 @@ public class Validate extends OpenApiGeneratorCommand {
         if (recommend != null) ruleConfiguration.setEnableRecommendations(recommend);
         else ruleConfiguration.setEnableRecommendations(false);
 
-        OpenApiEvaluator evaluator = new OpenApiEvaluator(ruleConfiguration);
+        ValidationTimings timings = Boolean.TRUE.equals(ruleTimings) ? new ValidationTimings() : null;
+        OpenApiEvaluator evaluator = new OpenApiEvaluator(ruleConfiguration, Boolean.TRUE.equals(parallel), timings);
         ValidationResult validationResult = evaluator.validate(specification);
 
+        if (timings != null) {
+            System.out.println("Rule timings:");
+            timings.getTimings().forEach(timing -> System.out.println("\t- " + timing));
+        }
+
         // TODO: We could also provide description here along with getMessage. getMessage is either a "generic" message or specific (e.g. Model 'Cat' has issues).
         //       This would require that we parse the messageList coming from swagger-parser into a better structure.
         validationResult.getWarnings().forEach(invalid -> warnings.add(invalid.getMessage()));
@@ -97,7 +121,7 @@ public class Validate extends OpenApiGeneratorCommand {
             sb.append(System.lineSeparator());
             sb.append("[error] Spec has ").append(errors.size()).append(" errors.");
             System.err.println(sb.toString());
-            System.exit(1);
+            throw new ExitException(1);
         } else if (!warnings.isEmpty()) {
             sb.append(System.lineSeparator());
             sb.append("[info] Spec has ").append(warnings.size()).append(" recommendation(s).");
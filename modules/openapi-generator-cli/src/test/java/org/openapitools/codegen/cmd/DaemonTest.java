@@ -0,0 +1,219 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.cmd;
+
+import org.openapitools.codegen.OpenAPIGenerator;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+public class DaemonTest {
+    private String userHome;
+    private Path home;
+    private Daemon daemon;
+    private Thread thread;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        userHome = System.getProperty("user.home");
+        home = Files.createTempDirectory("daemon");
+        // the daemon records its state in the user's home
+        System.setProperty("user.home", home.toString());
+        daemon = new Daemon();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() throws InterruptedException {
+        if (thread != null && thread.isAlive()) {
+            DaemonClient.stop();
+            thread.join(10_000);
+        }
+        System.setProperty("user.home", userHome);
+        home.toFile().deleteOnExit();
+    }
+
+    @Test
+    public void runsCommandsAndReturnsTheirExitStatus() throws Exception {
+        start(60_000, 100);
+
+        Console console = new Console();
+        assertEquals(console.forward("version"), Integer.valueOf(0));
+        assertEquals(console.stdout().trim(), new BuildInfo().getVersion());
+
+        // an ExitException thrown by the command
+        console = new Console();
+        assertEquals(console.forward("validate", "-i", invalidSpec().toString()), Integer.valueOf(1));
+        assertTrue(console.stderr().contains("[error] Spec has"), console.stderr());
+
+        // a command line which can't be parsed
+        console = new Console();
+        assertEquals(console.forward("generate", "--unknown-option"), Integer.valueOf(1));
+        assertTrue(console.stderr().startsWith("[error]"), console.stderr());
+
+        assertTrue(thread.isAlive());
+    }
+
+    @Test
+    public void ignoresRequestsWithoutTheToken() throws Exception {
+        start(60_000, 100);
+        int port = Integer.parseInt(DaemonClient.readState(DaemonClient.workingDirectory()).getProperty(DaemonClient.STATE_PORT));
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            socket.shutdownOutput();
+            assertClosedWithoutAnswer(socket);
+        }
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            out.writeUTF("not the token");
+            out.writeByte(DaemonClient.REQUEST_STOP);
+            out.flush();
+            assertClosedWithoutAnswer(socket);
+        }
+
+        assertTrue(thread.isAlive());
+        assertEquals(new Console().forward("version"), Integer.valueOf(0));
+    }
+
+    @Test
+    public void turnsAwayClientsWithAnotherPostProcessingEnvironment() throws Exception {
+        daemon.environment = Collections.singletonMap("JAVA_POST_PROCESS_FILE", "clang-format -i");
+        start(60_000, 100);
+
+        Console console = new Console();
+        assertNull(console.forward(Collections.emptyMap(), "version"));
+        assertEquals(console.stdout(), "");
+
+        // the command is then run by the client
+        PrintStream stdout = System.out;
+        PrintStream stderr = System.err;
+        Console local = new Console();
+        System.setOut(local.stdoutStream);
+        System.setErr(local.stderrStream);
+        int status;
+        try {
+            status = OpenAPIGenerator.run(new String[]{"validate", "-i", invalidSpec().toString(), "--use-daemon"}, true);
+        } finally {
+            System.setOut(stdout);
+            System.setErr(stderr);
+        }
+        assertEquals(status, 1);
+        assertTrue(local.stdout().contains("Not serving a request"), local.stdout());
+        assertTrue(local.stderr().contains("[error] Spec has"), local.stderr());
+        assertTrue(thread.isAlive());
+    }
+
+    @Test
+    public void stopsWhenIdle() throws Exception {
+        start(500, 100);
+        thread.join(10_000);
+        assertFalse(thread.isAlive());
+        assertNull(DaemonClient.readState(DaemonClient.workingDirectory()));
+    }
+
+    @Test
+    public void stopsWhenTheHeapIsStillInUseAfterClearingTheCaches() throws Exception {
+        AtomicInteger checks = new AtomicInteger();
+        daemon.heapUsage = () -> {
+            checks.incrementAndGet();
+            return 90;
+        };
+        start(60_000, 75);
+
+        assertEquals(new Console().forward("version"), Integer.valueOf(0));
+        thread.join(10_000);
+        assertFalse(thread.isAlive());
+        // checked again once the caches have been cleared
+        assertEquals(checks.get(), 2);
+        assertNull(DaemonClient.readState(DaemonClient.workingDirectory()));
+    }
+
+    @Test
+    public void stopsOnRequest() throws Exception {
+        start(60_000, 100);
+        assertTrue(DaemonClient.isRunning());
+        assertTrue(DaemonClient.stop());
+        thread.join(10_000);
+        assertFalse(thread.isAlive());
+        assertFalse(DaemonClient.isRunning());
+        assertNull(new Console().forward("version"));
+    }
+
+    private void start(int idleTimeoutMillis, int memoryLimit) throws InterruptedException {
+        thread = new Thread(() -> daemon.listen(idleTimeoutMillis, memoryLimit), "daemon");
+        thread.setDaemon(true);
+        thread.start();
+        // the daemon accepts connections once its state is written
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (DaemonClient.readState(DaemonClient.workingDirectory()) == null) {
+            assertTrue(System.currentTimeMillis() < deadline, "the daemon did not start");
+            Thread.sleep(20);
+        }
+    }
+
+    private Path invalidSpec() throws IOException {
+        Path spec = home.resolve("invalid.yaml");
+        Files.write(spec, "openapi: 3.0.0\ninfo: {}\npaths: {}\n".getBytes(StandardCharsets.UTF_8));
+        return spec;
+    }
+
+    private static void assertClosedWithoutAnswer(Socket socket) {
+        try {
+            assertEquals(socket.getInputStream().read(), -1);
+        } catch (IOException e) {
+            // the connection was reset, which doesn't answer either
+        }
+    }
+
+    private static final class Console {
+        private final ByteArrayOutputStream stdoutBytes = new ByteArrayOutputStream();
+        private final ByteArrayOutputStream stderrBytes = new ByteArrayOutputStream();
+        private final PrintStream stdoutStream = new PrintStream(stdoutBytes, true, Charset.defaultCharset());
+        private final PrintStream stderrStream = new PrintStream(stderrBytes, true, Charset.defaultCharset());
+
+        Integer forward(String... args) {
+            return forward(DaemonClient.generationEnvironment(System.getenv()), args);
+        }
+
+        Integer forward(Map<String, String> environment, String... args) {
+            return DaemonClient.forward(args, environment, stdoutStream, stderrStream);
+        }
+
+        String stdout() {
+            return stdoutBytes.toString(Charset.defaultCharset());
+        }
+
+        String stderr() {
+            return stderrBytes.toString(Charset.defaultCharset());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.openapitools.codegen.api;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * The target which a {@link TemplateProcessor} writes generated files to, e.g. a file system, memory or a zip stream.
+ * <p>
+ * Paths are those of the generated files on the default file system, implementations map them to their own storage.
+ * Implementations must allow files to be written concurrently.
+ */
+public interface OutputSink {
+    /**
+     * Determines whether a file exists at the specified location
+     *
+     * @param path The location of the file
+     * @return true if the file exists
+     */
+    boolean exists(Path path);
+
+    /**
+     * Reads the contents of a file
+     *
+     * @param path The location of the file
+     * @return The contents of the file, or null if it doesn't exist
+     * @throws IOException If the file cannot be read.
+     */
+    byte[] read(Path path) throws IOException;
+
+    /**
+     * Writes a file, replacing its contents if it exists
+     *
+     * @param path     The location of the file
+     * @param contents The contents bytes
+     * @throws IOException If the file cannot be written.
+     */
+    void write(Path path, byte[] contents) throws IOException;
+
+    /**
+     * Determines whether files written to this sink end up at their paths on the default file system, where they can
+     * be post-processed by external tools or read back by a later run.
+     *
+     * @return true if the files are written to the default file system
+     */
+    default boolean isLocal() {
+        return false;
+    }
+}
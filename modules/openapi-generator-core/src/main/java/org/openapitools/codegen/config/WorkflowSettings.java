@@ -44,8 +44,10 @@ public class WorkflowSettings {
     public static final boolean DEFAULT_VALIDATE_SPEC = true;
     public static final boolean DEFAULT_ENABLE_POST_PROCESS_FILE = false;
     public static final boolean DEFAULT_ENABLE_MINIMAL_UPDATE = false;
+    public static final boolean DEFAULT_ENABLE_INCREMENTAL_UPDATE = false;
     public static final boolean DEFAULT_STRICT_SPEC_BEHAVIOR = true;
     public static final boolean DEFAULT_GENERATE_ALIAS_AS_MODEL = false;
+    public static final int DEFAULT_RENDER_THREADS = 1;
     public static final String DEFAULT_TEMPLATING_ENGINE_NAME = null; // this is set by the generator
     public static final Map<String, String> DEFAULT_GLOBAL_PROPERTIES = Collections.unmodifiableMap(new HashMap<>());
 
@@ -59,11 +61,14 @@ public class WorkflowSettings {
     private boolean validateSpec = DEFAULT_VALIDATE_SPEC;
     private boolean enablePostProcessFile = DEFAULT_ENABLE_POST_PROCESS_FILE;
     private boolean enableMinimalUpdate = DEFAULT_ENABLE_MINIMAL_UPDATE;
+    private boolean enableIncrementalUpdate = DEFAULT_ENABLE_INCREMENTAL_UPDATE;
     private boolean strictSpecBehavior = DEFAULT_STRICT_SPEC_BEHAVIOR;
     private boolean generateAliasAsModel = DEFAULT_GENERATE_ALIAS_AS_MODEL;
+    private int renderThreads = DEFAULT_RENDER_THREADS;
     private String templateDir;
     private String templatingEngineName = DEFAULT_TEMPLATING_ENGINE_NAME;
     private String ignoreFileOverride;
+    private String profile;
     private Map<String, ?> globalProperties = DEFAULT_GLOBAL_PROPERTIES;
 
     private WorkflowSettings(Builder builder) {
@@ -77,12 +82,15 @@ public class WorkflowSettings {
         this.validateSpec = builder.validateSpec;
         this.enablePostProcessFile = builder.enablePostProcessFile;
         this.enableMinimalUpdate = builder.enableMinimalUpdate;
+        this.enableIncrementalUpdate = builder.enableIncrementalUpdate;
         this.strictSpecBehavior = builder.strictSpecBehavior;
         this.templateDir = builder.templateDir;
         this.templatingEngineName = builder.templatingEngineName;
         this.ignoreFileOverride = builder.ignoreFileOverride;
         this.globalProperties = Collections.unmodifiableMap(builder.globalProperties);
         this.generateAliasAsModel = builder.generateAliasAsModel;
+        this.renderThreads = builder.renderThreads;
+        this.profile = builder.profile;
     }
 
     /**
@@ -109,10 +117,13 @@ public class WorkflowSettings {
         builder.validateSpec = copy.isValidateSpec();
         builder.enablePostProcessFile = copy.isEnablePostProcessFile();
         builder.enableMinimalUpdate = copy.isEnableMinimalUpdate();
+        builder.enableIncrementalUpdate = copy.isEnableIncrementalUpdate();
         builder.generateAliasAsModel = copy.isGenerateAliasAsModel();
         builder.strictSpecBehavior = copy.isStrictSpecBehavior();
+        builder.renderThreads = copy.getRenderThreads();
         builder.templatingEngineName = copy.getTemplatingEngineName();
         builder.ignoreFileOverride = copy.getIgnoreFileOverride();
+        builder.profile = copy.getProfile();
 
         // this, and any other collections, must be mutable in the builder.
         builder.globalProperties = new HashMap<>(copy.getGlobalProperties());
@@ -227,6 +238,17 @@ public class WorkflowSettings {
         return enableMinimalUpdate;
     }
 
+    /**
+     * Indicates whether or not the generation should skip rendering files whose inputs (template data, template and
+     * generator options) are unchanged since the previous run. Fingerprints of these inputs are kept in
+     * <code>.openapi-generator/FINGERPRINTS</code> in the output directory.
+     *
+     * @return <code>true</code> if incremental updates are enabled, otherwise <code>false</code>.
+     */
+    public boolean isEnableIncrementalUpdate() {
+        return enableIncrementalUpdate;
+    }
+
     /**
      * Indicates whether or not the generation should convert aliases (primitives defined as schema for use within documents) as models.
      *
@@ -246,6 +268,17 @@ public class WorkflowSettings {
         return strictSpecBehavior;
     }
 
+    /**
+     * Gets the number of threads used to render model, api, webhook and supporting files. When greater than <code>1</code>,
+     * files are rendered on a bounded pool of threads once all template data has been prepared, while the order of
+     * generated files (and the generation metadata) remains the same as in sequential rendering.
+     *
+     * @return the number of render threads. Default: <code>1</code>, which renders files sequentially.
+     */
+    public int getRenderThreads() {
+        return renderThreads;
+    }
+
     /**
      * Gets the directory holding templates used in generation. This option allows users to extend or modify built-in templates, or to write their own.
      *
@@ -275,6 +308,17 @@ public class WorkflowSettings {
         return ignoreFileOverride;
     }
 
+    /**
+     * Gets the file the generation profile is written to. When set, the time spent in each stage of the generation
+     * (parsing, normalization, model and operation processing, template rendering, file writes and post-processing)
+     * is recorded, and written as JSON to this file along with a flame graph friendly <code>.collapsed</code> file.
+     *
+     * @return the profile file, or null if the generation is not profiled
+     */
+    public String getProfile() {
+        return profile;
+    }
+
     /**
      * Gets system properties applied to the generator.
      *
@@ -307,11 +351,14 @@ public class WorkflowSettings {
         private Boolean validateSpec = DEFAULT_VALIDATE_SPEC;
         private Boolean enablePostProcessFile = DEFAULT_ENABLE_POST_PROCESS_FILE;
         private Boolean enableMinimalUpdate = DEFAULT_ENABLE_MINIMAL_UPDATE;
+        private Boolean enableIncrementalUpdate = DEFAULT_ENABLE_INCREMENTAL_UPDATE;
         private Boolean strictSpecBehavior = DEFAULT_STRICT_SPEC_BEHAVIOR;
         private Boolean generateAliasAsModel = DEFAULT_GENERATE_ALIAS_AS_MODEL;
+        private Integer renderThreads = DEFAULT_RENDER_THREADS;
         private String templateDir;
         private String templatingEngineName = DEFAULT_TEMPLATING_ENGINE_NAME;
         private String ignoreFileOverride;
+        private String profile;
 
         // NOTE: All collections must be mutable in the builder, and copied to a new immutable collection in .build()
         private Map<String, String> globalProperties = new HashMap<>();
@@ -436,6 +483,17 @@ public class WorkflowSettings {
             return this;
         }
 
+        /**
+         * Sets the {@code enableIncrementalUpdate} and returns a reference to this Builder so that the methods can be chained together.
+         *
+         * @param enableIncrementalUpdate the {@code enableIncrementalUpdate} to set
+         * @return a reference to this Builder
+         */
+        public Builder withEnableIncrementalUpdate(Boolean enableIncrementalUpdate) {
+            this.enableIncrementalUpdate = enableIncrementalUpdate != null ? enableIncrementalUpdate : Boolean.valueOf(DEFAULT_ENABLE_INCREMENTAL_UPDATE);
+            return this;
+        }
+
         /**
          * Sets the {@code strictSpecBehavior} and returns a reference to this Builder so that the methods can be chained together.
          *
@@ -459,6 +517,17 @@ public class WorkflowSettings {
             return this;
         }
 
+        /**
+         * Sets the {@code renderThreads} and returns a reference to this Builder so that the methods can be chained together.
+         *
+         * @param renderThreads the {@code renderThreads} to set
+         * @return a reference to this Builder
+         */
+        public Builder withRenderThreads(Integer renderThreads) {
+            this.renderThreads = renderThreads != null && renderThreads > 0 ? renderThreads : Integer.valueOf(DEFAULT_RENDER_THREADS);
+            return this;
+        }
+
         /**
          * Sets the {@code templateDir} and returns a reference to this Builder so that the methods can be chained together.
          *
@@ -527,6 +596,17 @@ public class WorkflowSettings {
             return this;
         }
 
+        /**
+         * Sets the {@code profile} and returns a reference to this Builder so that the methods can be chained together.
+         *
+         * @param profile the {@code profile} to set
+         * @return a reference to this Builder
+         */
+        public Builder withProfile(String profile) {
+            this.profile = profile;
+            return this;
+        }
+
         /**
          * Sets the {@code globalProperties} and returns a reference to this Builder so that the methods can be chained together.
          *
@@ -580,12 +660,15 @@ public class WorkflowSettings {
                 ", validateSpec=" + validateSpec +
                 ", enablePostProcessFile=" + enablePostProcessFile +
                 ", enableMinimalUpdate=" + enableMinimalUpdate +
+                ", enableIncrementalUpdate=" + enableIncrementalUpdate +
                 ", strictSpecBehavior=" + strictSpecBehavior +
                 ", templateDir='" + templateDir + '\'' +
                 ", templatingEngineName='" + templatingEngineName + '\'' +
                 ", ignoreFileOverride='" + ignoreFileOverride + '\'' +
                 ", globalProperties=" + globalProperties +
                 ", generateAliasAsModel=" + generateAliasAsModel +
+                ", renderThreads=" + renderThreads +
+                ", profile='" + profile + '\'' +
                 '}';
     }
 
@@ -602,13 +685,16 @@ public class WorkflowSettings {
                 isValidateSpec() == that.isValidateSpec() &&
                 isEnablePostProcessFile() == that.isEnablePostProcessFile() &&
                 isEnableMinimalUpdate() == that.isEnableMinimalUpdate() &&
+                isEnableIncrementalUpdate() == that.isEnableIncrementalUpdate() &&
                 isStrictSpecBehavior() == that.isStrictSpecBehavior() &&
                 isGenerateAliasAsModel() == that.isGenerateAliasAsModel() &&
+                getRenderThreads() == that.getRenderThreads() &&
                 Objects.equals(getInputSpec(), that.getInputSpec()) &&
                 Objects.equals(getOutputDir(), that.getOutputDir()) &&
                 Objects.equals(getTemplateDir(), that.getTemplateDir()) &&
                 Objects.equals(getTemplatingEngineName(), that.getTemplatingEngineName()) &&
                 Objects.equals(getIgnoreFileOverride(), that.getIgnoreFileOverride()) &&
+                Objects.equals(getProfile(), that.getProfile()) &&
                 Objects.equals(getGlobalProperties(), that.getGlobalProperties());
     }
 
@@ -626,10 +712,13 @@ public class WorkflowSettings {
                 isGenerateAliasAsModel(),
                 isEnablePostProcessFile(),
                 isEnableMinimalUpdate(),
+                isEnableIncrementalUpdate(),
                 isStrictSpecBehavior(),
+                getRenderThreads(),
                 getTemplateDir(),
                 getTemplatingEngineName(),
                 getIgnoreFileOverride(),
+                getProfile(),
                 getGlobalProperties()
         );
     }
@@ -43,10 +43,25 @@ public class GenericValidator<TInput> implements Validator<TInput> {
      */
     @Override
     public ValidationResult validate(TInput input) {
+        return validate(input, null);
+    }
+
+    /**
+     * Validates input, recording the time taken by each rule.
+     *
+     * @param input   The object instance to be validated.
+     * @param timings The timings to record to, or null to not record them.
+     * @return A {@link ValidationResult} which details the success, error, and warning validation results.
+     */
+    public ValidationResult validate(TInput input, ValidationTimings timings) {
         ValidationResult result = new ValidationResult();
         if (rules != null) {
             rules.forEach(it -> {
+                long start = timings == null ? 0 : System.nanoTime();
                 ValidationRule.Result attempt = it.evaluate(input);
+                if (timings != null) {
+                    timings.record(it, System.nanoTime() - start);
+                }
                 if (attempt.passed()) {
                     result.addResult(Validated.valid(it));
                 } else {
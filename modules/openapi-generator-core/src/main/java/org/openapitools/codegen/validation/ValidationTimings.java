@@ -0,0 +1,107 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.validation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accumulates the time spent evaluating each rule, to find the rules which are expensive to evaluate.
+ * <p>
+ * Rules may be evaluated concurrently.
+ */
+public final class ValidationTimings {
+    private final Map<String, Timing> timings = new ConcurrentHashMap<>();
+
+    /**
+     * Records an evaluation of a rule.
+     *
+     * @param rule  The evaluated rule.
+     * @param nanos The time taken by the evaluation, in nanoseconds.
+     */
+    public void record(ValidationRule rule, long nanos) {
+        record(rule.getDescription() != null ? rule.getDescription() : rule.getFailureMessage(), nanos);
+    }
+
+    /**
+     * Records an evaluation of a check which isn't a {@link ValidationRule}.
+     *
+     * @param name  The name of the check.
+     * @param nanos The time taken by the evaluation, in nanoseconds.
+     */
+    public void record(String name, long nanos) {
+        Timing timing = timings.computeIfAbsent(name, Timing::new);
+        timing.count.increment();
+        timing.nanos.add(nanos);
+    }
+
+    /**
+     * Gets the timings of all rules evaluated so far.
+     *
+     * @return The timings, the most expensive rule first.
+     */
+    public List<Timing> getTimings() {
+        List<Timing> result = new ArrayList<>(timings.values());
+        result.sort(Comparator.comparing(Timing::getTotal).reversed().thenComparing(Timing::getName));
+        return result;
+    }
+
+    /**
+     * The time spent evaluating one rule.
+     */
+    public static final class Timing {
+        private final String name;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private Timing(String name) {
+            this.name = name;
+        }
+
+        /**
+         * @return The description of the rule.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return The number of times the rule was evaluated.
+         */
+        public long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * @return The total time spent evaluating the rule.
+         */
+        public Duration getTotal() {
+            return Duration.ofNanos(nanos.sum());
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%s: %d evaluations in %d ms", name, getCount(), getTotal().toMillis());
+        }
+    }
+}
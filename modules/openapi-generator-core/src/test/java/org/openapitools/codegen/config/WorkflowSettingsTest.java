@@ -35,7 +35,9 @@ public class WorkflowSettingsTest {
                 .withValidateSpec(null)
                 .withEnablePostProcessFile(null)
                 .withEnableMinimalUpdate(null)
+                .withEnableIncrementalUpdate(null)
                 .withStrictSpecBehavior(null)
+                .withRenderThreads(null)
                 .build();
 
         assertEquals(settings.getOutputDir(), ".");
@@ -46,7 +48,10 @@ public class WorkflowSettingsTest {
         assertTrue(settings.isValidateSpec());
         assertFalse(settings.isEnablePostProcessFile());
         assertFalse(settings.isEnableMinimalUpdate());
+        assertFalse(settings.isEnableIncrementalUpdate());
         assertTrue(settings.isStrictSpecBehavior());
+        assertEquals(settings.getRenderThreads(), 1);
+        assertNull(settings.getProfile());
     }
 
     @Test
@@ -78,7 +83,10 @@ public class WorkflowSettingsTest {
                 .withValidateSpec(false)
                 .withEnablePostProcessFile(true)
                 .withEnableMinimalUpdate(true)
+                .withEnableIncrementalUpdate(true)
                 .withStrictSpecBehavior(false)
+                .withRenderThreads(4)
+                .withProfile("profile.json")
                 .build();
 
         assertNotEquals(defaultSettings.getOutputDir(), newSettings.getOutputDir());
@@ -107,6 +115,15 @@ public class WorkflowSettingsTest {
 
         assertNotEquals(defaultSettings.isStrictSpecBehavior(), newSettings.isStrictSpecBehavior());
         assertFalse(newSettings.isStrictSpecBehavior());
+
+        assertNotEquals(defaultSettings.isEnableIncrementalUpdate(), newSettings.isEnableIncrementalUpdate());
+        assertTrue(newSettings.isEnableIncrementalUpdate());
+
+        assertNotEquals(defaultSettings.getRenderThreads(), newSettings.getRenderThreads());
+        assertEquals(newSettings.getRenderThreads(), 4);
+
+        assertNotEquals(defaultSettings.getProfile(), newSettings.getProfile());
+        assertEquals(newSettings.getProfile(), "profile.json");
     }
 
     @Test
@@ -154,6 +154,9 @@ class OpenApiGeneratorPlugin : Plugin<Project> {
                     engine.set(generate.engine)
                     cleanupOutput.set(generate.cleanupOutput)
                     dryRun.set(generate.dryRun)
+                    incrementalUpdate.set(generate.incrementalUpdate)
+                    renderThreads.set(generate.renderThreads)
+                    profile.set(generate.profile)
                 }
             }
         }
@@ -407,6 +407,22 @@ open class OpenApiGeneratorGenerateExtension(project: Project) {
      */
     val dryRun = project.objects.property<Boolean>()
 
+    /**
+     * Skip rendering files whose inputs are unchanged since the previous incremental generation.
+     */
+    val incrementalUpdate = project.objects.property<Boolean>()
+
+    /**
+     * Number of threads used to render model, API and supporting files. Defaults to 1 (sequential).
+     */
+    val renderThreads = project.objects.property<Int>()
+
+    /**
+     * File the time spent in each stage of the generation is written to, as JSON. A .collapsed file next to it holds
+     * the same stages in the collapsed stack format of flame graph tools.
+     */
+    val profile = project.objects.property<String>()
+
     init {
         applyDefaults()
     }
@@ -598,6 +598,28 @@ open class GenerateTask @Inject constructor(private val objectFactory: ObjectFac
     @Input
     val dryRun = project.objects.property<Boolean>()
 
+    /**
+     * Skip rendering files whose inputs are unchanged since the previous incremental generation.
+     */
+    @Optional
+    @Input
+    val incrementalUpdate = project.objects.property<Boolean>()
+
+    /**
+     * Number of threads used to render model, API and supporting files. Defaults to 1 (sequential).
+     */
+    @Optional
+    @Input
+    val renderThreads = project.objects.property<Int>()
+
+    /**
+     * File the time spent in each stage of the generation is written to, as JSON. A .collapsed file next to it holds
+     * the same stages in the collapsed stack format of flame graph tools.
+     */
+    @Optional
+    @Input
+    val profile = project.objects.property<String>()
+
     private fun <T : Any?> Property<T>.ifNotEmpty(block: Property<T>.(T) -> Unit) {
         if (isPresent) {
             val item: T? = get()
@@ -843,6 +865,18 @@ open class GenerateTask @Inject constructor(private val objectFactory: ObjectFac
                 configurator.setGenerateAliasAsModel(value)
             }
 
+            incrementalUpdate.ifNotEmpty { value ->
+                configurator.setEnableIncrementalUpdate(value)
+            }
+
+            renderThreads.ifNotEmpty { value ->
+                configurator.setRenderThreads(value)
+            }
+
+            profile.ifNotEmpty { value ->
+                configurator.setProfile(value)
+            }
+
             engine.ifNotEmpty { value ->
                 if ("handlebars".equals(value, ignoreCase = true)) {
                     configurator.setTemplatingEngineName("handlebars")
@@ -24,7 +24,6 @@ import org.gradle.internal.logging.text.StyledTextOutputFactory
 import org.gradle.kotlin.dsl.listProperty
 import org.openapitools.codegen.CodegenConfigLoader
 import org.openapitools.codegen.CodegenType
-import org.openapitools.codegen.meta.GeneratorMetadata
 import org.openapitools.codegen.meta.Stability
 
 /**
@@ -45,7 +44,7 @@ open class GeneratorsTask : DefaultTask() {
 
     @TaskAction
     fun doWork() {
-        val generators = CodegenConfigLoader.getAll()
+        val generators = CodegenConfigLoader.getGenerators()
 
         val out = services.get(StyledTextOutputFactory::class.java).create("openapi")
 
@@ -74,13 +73,13 @@ open class GeneratorsTask : DefaultTask() {
                         .sortedBy { it.name }
                         .forEach { generator ->
 
-                            val meta: GeneratorMetadata? = generator.generatorMetadata
-                            val include = stabilities.contains(meta?.stability)
+                            val stability: Stability? = generator.stability
+                            val include = stabilities.contains(stability)
                             if (include) {
                                 append("    - ")
                                 append(generator.name)
 
-                                meta?.stability?.let {
+                                stability?.let {
                                     if (it != Stability.STABLE) {
                                         append(" (${it.value()})")
                                     }
@@ -183,6 +183,24 @@ public class CodeGenMojo extends AbstractMojo {
     @Parameter(name = "skipOverwrite", property = "openapi.generator.maven.plugin.skipOverwrite")
     private Boolean skipOverwrite;
 
+    /**
+     * Skip rendering files whose inputs are unchanged since the previous incremental generation.
+     */
+    @Parameter(name = "incrementalUpdate", property = "openapi.generator.maven.plugin.incrementalUpdate")
+    private Boolean incrementalUpdate;
+
+    /**
+     * Number of threads used to render model, API and supporting files.
+     */
+    @Parameter(name = "renderThreads", property = "openapi.generator.maven.plugin.renderThreads")
+    private Integer renderThreads;
+
+    /**
+     * File the time spent in each stage of the generation is written to, as JSON.
+     */
+    @Parameter(name = "profile", property = "openapi.generator.maven.plugin.profile")
+    private String profile;
+
     /**
      * The package to use for generated api objects/classes
      */
@@ -621,6 +639,18 @@ public class CodeGenMojo extends AbstractMojo {
                 configurator.setSkipOverwrite(skipOverwrite);
             }
 
+            if (incrementalUpdate != null) {
+                configurator.setEnableIncrementalUpdate(incrementalUpdate);
+            }
+
+            if (renderThreads != null) {
+                configurator.setRenderThreads(renderThreads);
+            }
+
+            if (isNotEmpty(profile)) {
+                configurator.setProfile(profile);
+            }
+
             if (removeOperationIdPrefix != null) {
                 configurator.setRemoveOperationIdPrefix(removeOperationIdPrefix);
             }
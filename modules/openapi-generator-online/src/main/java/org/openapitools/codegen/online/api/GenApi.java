@@ -25,6 +25,7 @@ package org.openapitools.codegen.online.api;
 import io.swagger.annotations.*;
 import org.openapitools.codegen.CliOption;
 import org.openapitools.codegen.online.model.GeneratorInput;
+import org.openapitools.codegen.online.model.JobStatus;
 import org.openapitools.codegen.online.model.ResponseCode;
 import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
@@ -52,9 +53,10 @@ public interface GenApi {
     }
 
 
-    @ApiOperation(value = "Downloads a pre-generated file", nickname = "downloadFile", notes = "A valid `fileId` is generated by the `/clients/{language}` or `/servers/{language}` POST operations.  The fileId code can be used just once, after which a new `fileId` will need to be requested.", response = MultipartFile.class, tags = {"clients", "servers",})
+    @ApiOperation(value = "Downloads a pre-generated file", nickname = "downloadFile", notes = "A valid `fileId` is generated by the `/clients/{language}` or `/servers/{language}` POST operations.  The fileId code stays valid as long as the generated file is cached, after which a new `fileId` will need to be requested.", response = MultipartFile.class, tags = {"clients", "servers",})
     @ApiResponses(value = {
-            @ApiResponse(code = 200, message = "successful operation", response = MultipartFile.class)})
+            @ApiResponse(code = 200, message = "successful operation", response = MultipartFile.class),
+            @ApiResponse(code = 404, message = "unknown or expired fileId")})
     @RequestMapping(value = "/gen/download/{fileId}",
             produces = {"application/octet-stream"},
             method = RequestMethod.GET)
@@ -94,6 +96,18 @@ public interface GenApi {
     }
 
 
+    @ApiOperation(value = "Returns the state of a generation job", nickname = "getJobStatus", notes = "A valid `jobId` is returned by the `/jobs/clients/{language}` or `/jobs/servers/{framework}` POST operations.", response = JobStatus.class, tags = {"jobs",})
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "successful operation", response = JobStatus.class),
+            @ApiResponse(code = 404, message = "unknown or expired jobId")})
+    @RequestMapping(value = "/gen/jobs/{jobId}",
+            produces = {"application/json"},
+            method = RequestMethod.GET)
+    default ResponseEntity<JobStatus> getJobStatus(@ApiParam(value = "", required = true) @PathVariable("jobId") String jobId) {
+        return getDelegate().getJobStatus(jobId);
+    }
+
+
     @ApiOperation(value = "Returns options for a server framework", nickname = "getServerOptions", notes = "", tags = {"servers",})
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "successful operation")})
@@ -114,4 +128,26 @@ public interface GenApi {
         return getDelegate().serverOptions();
     }
 
+
+    @ApiOperation(value = "Queues the generation of a client library", nickname = "submitClientJob", notes = "Accepts a `GeneratorInput` options map for spec location and generation options, and returns without waiting for the generation. Poll `/jobs/{jobId}` for the download link.", response = JobStatus.class, tags = {"clients", "jobs",})
+    @ApiResponses(value = {
+            @ApiResponse(code = 202, message = "generation queued", response = JobStatus.class),
+            @ApiResponse(code = 503, message = "too many queued generations")})
+    @RequestMapping(value = "/gen/jobs/clients/{language}",
+            method = RequestMethod.POST)
+    default ResponseEntity<JobStatus> submitClientJob(@ApiParam(value = "The target language for the client library", required = true) @PathVariable("language") String language, @ApiParam(value = "Configuration for building the client library", required = true) @Valid @RequestBody GeneratorInput generatorInput) {
+        return getDelegate().submitClientJob(language, generatorInput);
+    }
+
+
+    @ApiOperation(value = "Queues the generation of a server library", nickname = "submitServerJob", notes = "Accepts a `GeneratorInput` options map for spec location and generation options, and returns without waiting for the generation. Poll `/jobs/{jobId}` for the download link.", response = JobStatus.class, tags = {"servers", "jobs",})
+    @ApiResponses(value = {
+            @ApiResponse(code = 202, message = "generation queued", response = JobStatus.class),
+            @ApiResponse(code = 503, message = "too many queued generations")})
+    @RequestMapping(value = "/gen/jobs/servers/{framework}",
+            method = RequestMethod.POST)
+    default ResponseEntity<JobStatus> submitServerJob(@ApiParam(value = "framework", required = true) @PathVariable("framework") String framework, @ApiParam(value = "parameters", required = true) @Valid @RequestBody GeneratorInput generatorInput) {
+        return getDelegate().submitServerJob(framework, generatorInput);
+    }
+
 }
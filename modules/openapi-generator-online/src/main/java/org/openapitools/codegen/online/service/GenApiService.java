@@ -17,18 +17,17 @@
 
 package org.openapitools.codegen.online.service;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.CliOption;
-import org.openapitools.codegen.CodegenConfig;
 import org.openapitools.codegen.CodegenConfigLoader;
 import org.openapitools.codegen.CodegenType;
+import org.openapitools.codegen.GeneratorDescriptor;
 import org.openapitools.codegen.online.api.GenApiDelegate;
-import org.openapitools.codegen.online.model.Generated;
 import org.openapitools.codegen.online.model.GeneratorInput;
+import org.openapitools.codegen.online.model.JobStatus;
 import org.openapitools.codegen.online.model.ResponseCode;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -39,12 +38,7 @@ import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.*;
 
 @Service
@@ -52,16 +46,15 @@ public class GenApiService implements GenApiDelegate {
 
     private static List<String> clients = new ArrayList<>();
     private static List<String> servers = new ArrayList<>();
-    private static Map<String, Generated> fileMap = new HashMap<>();
 
     static {
-        List<CodegenConfig> extensions = CodegenConfigLoader.getAll();
-        for (CodegenConfig config : extensions) {
-            if (config.getTag().equals(CodegenType.CLIENT)
-                    || config.getTag().equals(CodegenType.DOCUMENTATION)) {
-                clients.add(config.getName());
-            } else if (config.getTag().equals(CodegenType.SERVER)) {
-                servers.add(config.getName());
+        List<GeneratorDescriptor> extensions = CodegenConfigLoader.getGenerators();
+        for (GeneratorDescriptor generator : extensions) {
+            if (generator.getTag() == CodegenType.CLIENT
+                    || generator.getTag() == CodegenType.DOCUMENTATION) {
+                clients.add(generator.getName());
+            } else if (generator.getTag() == CodegenType.SERVER) {
+                servers.add(generator.getName());
             }
         }
 
@@ -72,6 +65,9 @@ public class GenApiService implements GenApiDelegate {
     @Autowired
     private NativeWebRequest request;
 
+    @Autowired
+    private GenerationJobs jobs;
+
     @Override
     public Optional<NativeWebRequest> getRequest() {
         return Optional.ofNullable(request);
@@ -79,39 +75,31 @@ public class GenApiService implements GenApiDelegate {
 
     @Override
     public ResponseEntity<Resource> downloadFile(String fileId) {
-        Generated g = fileMap.get(fileId);
-        System.out.println("looking for fileId " + fileId);
-        System.out.println("got filename " + g.getFilename());
-
-        File file = new File(g.getFilename());
-        Path path = Paths.get(file.getAbsolutePath());
-        ByteArrayResource resource;
+        GenerationJobs.Job job = jobs.find(fileId);
+        GenerationJobs.BundleStream in;
         try {
-            resource = new ByteArrayResource(Files.readAllBytes(path));
-        } catch (FileNotFoundException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found", e);
+            in = job == null ? null : jobs.openBundle(job);
         } catch (IOException e) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "I/O error while reading file", e);
         }
-        try {
-            FileUtils.deleteDirectory(file.getParentFile());
-        } catch (IOException e) {
-            System.out.println("failed to delete file " + file.getAbsolutePath());
+        if (in == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found");
         }
+        // the stream is closed, and the bundle released, once the response has been written
         return ResponseEntity
                 .ok()
                 .contentType(MediaType.valueOf("application/zip"))
+                .contentLength(in.getLength())
                 .header("Content-Disposition",
-                        "attachment; filename=\"" + g.getFriendlyName() + "-generated.zip\"")
+                        "attachment; filename=\"" + job.getFriendlyName() + "-generated.zip\"")
                 .header("Accept-Range", "bytes")
-                //.header("Content-Length", bytes.length)
-                .body(resource);
+                .body(new InputStreamResource(in));
     }
 
     @Override
     public ResponseEntity<ResponseCode> generateClient(String language, GeneratorInput generatorInput) {
-        String filename = Generator.generateClient(language, generatorInput);
-        return getResponse(filename, language + "-client");
+        GenerationJobs.Job job = jobs.await(jobs.submit(language, Generator.Type.CLIENT, generatorInput, language + "-client"));
+        return ResponseEntity.ok().body(new ResponseCode(job.getCode(), downloadLink(job)));
     }
 
     @Override
@@ -151,13 +139,41 @@ public class GenApiService implements GenApiDelegate {
         if (framework == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Framework is required");
         }
-        String filename = Generator.generateServer(framework, generatorInput);
-        System.out.println("generated name: " + filename);
+        GenerationJobs.Job job = jobs.await(jobs.submit(framework, Generator.Type.SERVER, generatorInput, framework + "-server"));
+        return ResponseEntity.ok().body(new ResponseCode(job.getCode(), downloadLink(job)));
+    }
 
-        return getResponse(filename, framework + "-server");
+    @Override
+    public ResponseEntity<JobStatus> submitClientJob(String language, GeneratorInput generatorInput) {
+        GenerationJobs.Job job = jobs.submit(language, Generator.Type.CLIENT, generatorInput, language + "-client");
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(getStatus(job));
     }
 
-    private ResponseEntity<ResponseCode> getResponse(String filename, String friendlyName) {
+    @Override
+    public ResponseEntity<JobStatus> submitServerJob(String framework, GeneratorInput generatorInput) {
+        if (framework == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Framework is required");
+        }
+        GenerationJobs.Job job = jobs.submit(framework, Generator.Type.SERVER, generatorInput, framework + "-server");
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(getStatus(job));
+    }
+
+    @Override
+    public ResponseEntity<JobStatus> getJobStatus(String jobId) {
+        GenerationJobs.Job job = jobs.find(jobId);
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok().body(getStatus(job));
+    }
+
+    private JobStatus getStatus(GenerationJobs.Job job) {
+        JobStatus.State state = job.getState();
+        String link = state == JobStatus.State.SUCCEEDED ? downloadLink(job) : null;
+        return new JobStatus(job.getCode(), state, link, job.getMessage());
+    }
+
+    private String downloadLink(GenerationJobs.Job job) {
         String host = System.getenv("GENERATOR_HOST");
 
         UriComponentsBuilder uriBuilder;
@@ -166,19 +182,7 @@ public class GenApiService implements GenApiDelegate {
         } else {
             uriBuilder = ServletUriComponentsBuilder.fromCurrentContextPath();
         }
-
-        if (filename != null) {
-            String code = UUID.randomUUID().toString();
-            Generated g = new Generated();
-            g.setFilename(filename);
-            g.setFriendlyName(friendlyName);
-            fileMap.put(code, g);
-            System.out.println(code + ", " + filename);
-            String link = uriBuilder.path("/api/gen/download/").path(code).toUriString();
-            return ResponseEntity.ok().body(new ResponseCode(code, link));
-        } else {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+        return uriBuilder.path("/api/gen/download/").path(job.getCode()).toUriString();
     }
 
 }
@@ -0,0 +1,394 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openapitools.codegen.online.model.GeneratorInput;
+import org.openapitools.codegen.online.model.JobStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs generation requests on a bounded pool of workers, and keeps the generated bundles in a cache keyed by the
+ * fingerprint of the request, so that identical requests are generated once.
+ * <p>
+ * Requests are rejected once all workers are busy and the queue is full. Bundles are evicted once they have not been
+ * downloaded for the configured time, or when the bundles exceed the configured total size. An evicted bundle is
+ * deleted once its last download completed.
+ */
+@Service
+public class GenerationJobs implements MeterBinder, DisposableBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationJobs.class);
+
+    private final ThreadPoolExecutor executor;
+    private final Cache<String, Job> jobs;
+    private final Cache<String, Bundle> bundles;
+    // bundles being generated, so that concurrent identical requests wait for the same bundle
+    private final ConcurrentMap<String, CompletableFuture<Path>> pending = new ConcurrentHashMap<>();
+    private final Path bundleDirectory;
+
+    private volatile Timer generationTimer;
+    private volatile Counter cacheHits;
+    private volatile Counter cacheMisses;
+
+    public GenerationJobs(@Value("${generator.jobs.workers:2}") int workers,
+                          @Value("${generator.jobs.queue-capacity:32}") int queueCapacity,
+                          @Value("${generator.bundles.expire-after-minutes:60}") long expireAfterMinutes,
+                          @Value("${generator.bundles.max-size-mb:512}") long maxSizeMb) throws IOException {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)), runnable -> {
+            Thread thread = new Thread(runnable, "openapi-generator-online-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.bundleDirectory = Files.createTempDirectory("codegen-bundles");
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(expireAfterMinutes, TimeUnit.MINUTES)
+                .maximumSize(10_000)
+                .build();
+        this.bundles = Caffeine.newBuilder()
+                .expireAfterAccess(expireAfterMinutes, TimeUnit.MINUTES)
+                // weighed in KiB
+                .maximumWeight(maxSizeMb * 1024)
+                .weigher((String key, Bundle bundle) -> (int) Math.min(Integer.MAX_VALUE, Math.max(1, bundle.path.toFile().length() / 1024)))
+                .removalListener((String key, Bundle bundle, RemovalCause cause) -> bundle.evict())
+                .executor(Runnable::run)
+                .build();
+    }
+
+    /**
+     * Queues a generation request.
+     *
+     * @param language     the generator name
+     * @param type         the kind of code to generate
+     * @param input        the generation request
+     * @param friendlyName the name of the downloaded bundle
+     * @return the queued job
+     * @throws ResponseStatusException if too many requests are queued already
+     */
+    public Job submit(String language, Generator.Type type, GeneratorInput input, String friendlyName) {
+        Job job = new Job(UUID.randomUUID().toString(), friendlyName);
+        jobs.put(job.code, job);
+        try {
+            executor.execute(() -> run(job, language, type, input));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.code);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many generation requests, please try again later");
+        }
+        return job;
+    }
+
+    /**
+     * Waits for a job to complete.
+     *
+     * @param job the job
+     * @return the succeeded job
+     * @throws ResponseStatusException if the job failed
+     */
+    public Job await(Job job) {
+        try {
+            job.done.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Interrupted while waiting for the generation", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        if (job.failure != null) {
+            throw job.failure;
+        }
+        return job;
+    }
+
+    /**
+     * @param code the code of a job
+     * @return the job, or null if it is unknown or expired
+     */
+    public Job find(String code) {
+        return code == null ? null : jobs.getIfPresent(code);
+    }
+
+    /**
+     * Opens the bundle generated by a job. The bundle is kept until the returned stream is closed, even if it is
+     * evicted in the meantime.
+     *
+     * @param job a job
+     * @return the content of the bundle generated by the job, or null if it didn't succeed or the bundle expired
+     * @throws IOException if the bundle can't be read
+     */
+    public BundleStream openBundle(Job job) throws IOException {
+        Bundle bundle = job.state == JobStatus.State.SUCCEEDED ? bundles.getIfPresent(job.bundleKey) : null;
+        if (bundle == null || !bundle.pin()) {
+            return null;
+        }
+        try {
+            return new BundleStream(bundle, Files.size(bundle.path), Files.newInputStream(bundle.path));
+        } catch (IOException | RuntimeException e) {
+            bundle.unpin();
+            throw e;
+        }
+    }
+
+    private void run(Job job, String language, Generator.Type type, GeneratorInput input) {
+        job.state = JobStatus.State.RUNNING;
+        try {
+            OpenAPI openapi = Generator.parse(input);
+            String key = Generator.fingerprint(language, type, input, openapi);
+            resolve(key, bundle -> Generator.generate(language, type, input, openapi, bundle));
+            job.bundleKey = key;
+            job.state = JobStatus.State.SUCCEEDED;
+        } catch (ResponseStatusException e) {
+            fail(job, e);
+        } catch (RuntimeException e) {
+            LOGGER.error("Generation job {} failed", job.code, e);
+            fail(job, new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Unable to build target: " + e.getMessage(), e));
+        } finally {
+            job.done.complete(null);
+        }
+    }
+
+    private static void fail(Job job, ResponseStatusException failure) {
+        job.failure = failure;
+        job.state = JobStatus.State.FAILED;
+    }
+
+    /**
+     * Makes sure the bundle with the given key is cached, generating it unless it is cached or being generated.
+     */
+    private void resolve(String key, Consumer<Path> generator) {
+        if (bundles.getIfPresent(key) != null) {
+            count(cacheHits);
+            return;
+        }
+        CompletableFuture<Path> generation = new CompletableFuture<>();
+        CompletableFuture<Path> concurrent = pending.putIfAbsent(key, generation);
+        if (concurrent != null) {
+            count(cacheHits);
+            try {
+                concurrent.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+            return;
+        }
+        count(cacheMisses);
+        try {
+            // a bundle evicted under the same key may not have been deleted yet, so bundles are never reused
+            Path bundle = bundleDirectory.resolve(key + "-" + UUID.randomUUID() + ".zip");
+            long start = System.nanoTime();
+            generator.accept(bundle);
+            Timer timer = generationTimer;
+            if (timer != null) {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            bundles.put(key, new Bundle(bundle));
+            generation.complete(bundle);
+        } catch (RuntimeException e) {
+            generation.completeExceptionally(e);
+            throw e;
+        } finally {
+            pending.remove(key);
+        }
+    }
+
+    private static void count(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private static void deleteBundle(Path bundle) {
+        try {
+            Files.deleteIfExists(bundle);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to delete bundle {}: {}", bundle, e.getMessage());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("openapi.generator.jobs.queued", executor, e -> e.getQueue().size())
+                .description("Generation jobs waiting for a worker")
+                .register(registry);
+        Gauge.builder("openapi.generator.jobs.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Generation jobs being run")
+                .register(registry);
+        Gauge.builder("openapi.generator.bundles.cached", bundles, Cache::estimatedSize)
+                .description("Generated bundles available for download")
+                .register(registry);
+        generationTimer = Timer.builder("openapi.generator.generation")
+                .description("Time taken to generate a bundle")
+                .register(registry);
+        cacheHits = Counter.builder("openapi.generator.bundles.requests")
+                .description("Generation requests served by a cached or concurrently generated bundle")
+                .tag("result", "hit")
+                .register(registry);
+        cacheMisses = Counter.builder("openapi.generator.bundles.requests")
+                .description("Generation requests served by a newly generated bundle")
+                .tag("result", "miss")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+        bundles.invalidateAll();
+        bundles.cleanUp();
+        try {
+            Files.deleteIfExists(bundleDirectory);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to delete {}: {}", bundleDirectory, e.getMessage());
+        }
+    }
+
+    /**
+     * A generated bundle, deleted once it is evicted and no longer downloaded.
+     */
+    private static final class Bundle {
+        private final Path path;
+        private int downloads;
+        private boolean evicted;
+
+        private Bundle(Path path) {
+            this.path = path;
+        }
+
+        /**
+         * @return false if the bundle was evicted, and may have been deleted already
+         */
+        synchronized boolean pin() {
+            if (evicted) {
+                return false;
+            }
+            downloads++;
+            return true;
+        }
+
+        synchronized void unpin() {
+            if (--downloads == 0 && evicted) {
+                deleteBundle(path);
+            }
+        }
+
+        synchronized void evict() {
+            evicted = true;
+            if (downloads == 0) {
+                deleteBundle(path);
+            }
+        }
+    }
+
+    /**
+     * The content of a bundle, which is kept until the stream is closed.
+     */
+    public static final class BundleStream extends FilterInputStream {
+        private final Bundle bundle;
+        private final long length;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private BundleStream(Bundle bundle, long length, InputStream in) {
+            super(in);
+            this.bundle = bundle;
+            this.length = length;
+        }
+
+        /**
+         * @return the size of the bundle in bytes
+         */
+        public long getLength() {
+            return length;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed.compareAndSet(false, true)) {
+                try {
+                    super.close();
+                } finally {
+                    bundle.unpin();
+                }
+            }
+        }
+    }
+
+    /**
+     * A generation request run by a worker.
+     */
+    public static final class Job {
+        private final String code;
+        private final String friendlyName;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private volatile JobStatus.State state = JobStatus.State.QUEUED;
+        private volatile String bundleKey;
+        private volatile ResponseStatusException failure;
+
+        private Job(String code, String friendlyName) {
+            this.code = code;
+            this.friendlyName = friendlyName;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public String getFriendlyName() {
+            return friendlyName;
+        }
+
+        public JobStatus.State getState() {
+            return state;
+        }
+
+        /**
+         * @return the reason of the failure, or null if the job didn't fail
+         */
+        public String getMessage() {
+            return failure == null ? null : failure.getReason();
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%s (%s, %s)", code, friendlyName, state);
+        }
+    }
+}
@@ -17,20 +17,27 @@
 
 package org.openapitools.codegen.online.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.core.models.AuthorizationValue;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import org.openapitools.codegen.*;
 import org.openapitools.codegen.online.model.GeneratorInput;
+import org.openapitools.codegen.templating.ZipOutputSink;
+import org.openapitools.codegen.utils.FingerprintManifest;
+import org.openapitools.codegen.utils.ImplementationVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 
 public class Generator {
@@ -65,16 +72,13 @@ public class Generator {
         }
     }
 
-    public static String generateClient(String language, GeneratorInput opts) {
-        return generate(language, opts, Type.CLIENT);
-    }
-
-    public static String generateServer(String language, GeneratorInput opts) {
-        return generate(language, opts, Type.SERVER);
-    }
-
-    private static String generate(String language, GeneratorInput opts, Type type) {
-        LOGGER.debug(String.format(Locale.ROOT, "generate %s for %s", type.getTypeName(), language));
+    /**
+     * Parses the specification supplied with a generation request.
+     *
+     * @param opts the generation request
+     * @return the resolved specification
+     */
+    static OpenAPI parse(GeneratorInput opts) {
         if (opts == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No options were supplied");
         }
@@ -109,15 +113,51 @@ public class Generator {
         if (openapi == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The OpenAPI specification supplied was not valid");
         }
+        return openapi;
+    }
+
+    /**
+     * Fingerprints everything a generated bundle depends on, so that identical requests share one bundle.
+     *
+     * @param language the generator name
+     * @param type     the kind of code generated
+     * @param opts     the generation request
+     * @param openapi  the parsed specification, before it is modified by the generation
+     * @return the hex encoded fingerprint
+     */
+    static String fingerprint(String language, Type type, GeneratorInput opts, OpenAPI openapi) {
+        try {
+            return FingerprintManifest.fingerprint(
+                    ImplementationVersion.read(),
+                    language,
+                    type.getTypeName(),
+                    Json.mapper().writeValueAsString(openapi),
+                    opts.getOptions() == null ? null : new TreeMap<>(opts.getOptions()).toString(),
+                    opts.getOpenapiNormalizer() == null ? null : opts.getOpenapiNormalizer().toString());
+        } catch (JsonProcessingException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The OpenAPI specification supplied can't be serialized", e);
+        }
+    }
 
+    /**
+     * Generates code into a zip bundle.
+     *
+     * @param language the generator name
+     * @param type     the kind of code generated
+     * @param opts     the generation request
+     * @param openapi  the parsed specification
+     * @param bundle   the zip file to write
+     */
+    static void generate(String language, Type type, GeneratorInput opts, OpenAPI openapi, Path bundle) {
+        LOGGER.debug(String.format(Locale.ROOT, "generate %s for %s", type.getTypeName(), language));
 
         // do not use opts.getOptions().get("outputFolder") as the input can contain ../../
         // to access other folders in the server
         String destPath = language + "-" + type.getTypeName();
 
         ClientOptInput clientOptInput = new ClientOptInput();
-        String outputFolder = getTmpFolder().getAbsolutePath() + File.separator + destPath;
-        String outputFilename = outputFolder + "-bundle.zip";
+        // the generated files are streamed into the bundle, the output folder is never created
+        Path outputFolder = bundle.toAbsolutePath().resolveSibling(destPath);
 
         clientOptInput.openAPI(openapi);
 
@@ -143,48 +183,31 @@ public class Generator {
             }
         }
 
-        codegenConfig.setOutputDir(outputFolder);
+        codegenConfig.setOutputDir(outputFolder.toString());
 
         clientOptInput.config(codegenConfig);
 
-        try {
-            List<File> files = new DefaultGenerator().opts(clientOptInput).generate();
-            if (files.size() > 0) {
-                List<File> filesToAdd = new ArrayList<>();
-                LOGGER.debug("adding to {}", outputFolder);
-                filesToAdd.add(new File(outputFolder));
-                ZipUtil zip = new ZipUtil();
-                zip.compressFiles(filesToAdd, outputFilename);
-            } else {
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
-                        "A target generation was attempted, but no files were created!");
-            }
-            for (File file : files) {
-                try {
-                    file.delete();
-                } catch (Exception e) {
-                    LOGGER.error("unable to delete file " + file.getAbsolutePath(), e);
-                }
-            }
-            try {
-                new File(outputFolder).delete();
-            } catch (Exception e) {
-                LOGGER.error("unable to delete output folder " + outputFolder, e);
-            }
+        List<File> files;
+        try (ZipOutputSink sink = new ZipOutputSink(new BufferedOutputStream(Files.newOutputStream(bundle)), outputFolder, destPath)) {
+            LOGGER.debug("adding to {}", bundle);
+            clientOptInput.outputSink(sink);
+            files = new DefaultGenerator().opts(clientOptInput).generate();
         } catch (Exception e) {
+            deleteBundle(bundle);
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unable to build target: " + e.getMessage(), e);
         }
-        return outputFilename;
+        if (files.isEmpty()) {
+            deleteBundle(bundle);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "A target generation was attempted, but no files were created!");
+        }
     }
 
-    private static File getTmpFolder() {
+    private static void deleteBundle(Path bundle) {
         try {
-            File outputFolder = Files.createTempDirectory("codegen-tmp").toFile();
-            outputFolder.deleteOnExit();
-            return outputFolder;
+            Files.deleteIfExists(bundle);
         } catch (Exception e) {
-            e.printStackTrace();
-            throw new RuntimeException("Cannot access tmp folder");
+            LOGGER.error("unable to delete bundle " + bundle, e);
         }
     }
 }
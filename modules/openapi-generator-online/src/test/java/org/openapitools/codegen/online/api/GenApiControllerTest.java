@@ -3,6 +3,7 @@ package org.openapitools.codegen.online.api;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.openapitools.codegen.online.model.JobStatus;
 import org.openapitools.codegen.online.model.ResponseCode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -104,6 +105,43 @@ public class GenApiControllerTest {
                 .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, not(0)));
     }
 
+    @Test
+    public void generateClientJob() throws Exception {
+        String result = mockMvc.perform(post("http://test.com:1234/api/gen/jobs/clients/java")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"openAPIUrl\": \"" + OPENAPI_URL + "\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.code").value(matchesPattern(UUID_REGEX)))
+                .andReturn().getResponse().getContentAsString();
+
+        String code = new ObjectMapper().readValue(result, JobStatus.class).getCode();
+
+        JobStatus status;
+        do {
+            Thread.sleep(100);
+            String polled = mockMvc.perform(get("http://test.com:1234/api/gen/jobs/" + code))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            status = new ObjectMapper().readValue(polled, JobStatus.class);
+        } while (status.getState() == JobStatus.State.QUEUED || status.getState() == JobStatus.State.RUNNING);
+
+        Assert.isTrue(status.getState() == JobStatus.State.SUCCEEDED, "The job should succeed");
+        Assert.isTrue(status.getLink().matches("http\\:\\/\\/test.com\\:1234\\/api\\/gen\\/download\\/" + code), "The job should link to its bundle");
+
+        mockMvc.perform(get("http://test.com:1234/api/gen/download/" + code))
+                .andExpect(content().contentType("application/zip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, not(0)));
+    }
+
+    @Test
+    public void downloadUnknown() throws Exception {
+        mockMvc.perform(get("http://test.com:1234/api/gen/download/d40029be-eda6-4d62-b1ef-d05e2e91a72a"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("http://test.com:1234/api/gen/jobs/d40029be-eda6-4d62-b1ef-d05e2e91a72a"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     public void generateWIthForwardedHeaders() throws Exception {
         String result = mockMvc.perform(post("http://test.com:1234/api/gen/clients/java")
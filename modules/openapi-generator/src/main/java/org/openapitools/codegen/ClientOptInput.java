@@ -20,9 +20,11 @@ package org.openapitools.codegen;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.core.models.AuthorizationValue;
 import lombok.Getter;
+import org.openapitools.codegen.api.OutputSink;
 import org.openapitools.codegen.api.TemplateDefinition;
 import org.openapitools.codegen.auth.AuthParser;
 import org.openapitools.codegen.config.GeneratorSettings;
+import org.openapitools.codegen.profiling.GenerationProfiler;
 
 import java.util.List;
 
@@ -33,6 +35,10 @@ public class ClientOptInput {
     private List<AuthorizationValue> auths;
     // not deprecated as this is added to match other functionality, we need to move to Context<?> instead of ClientOptInput.
     @Getter private List<TemplateDefinition> userDefinedTemplates;
+    // where the generated files are written, the output directory on the local file system by default
+    @Getter private OutputSink outputSink;
+    // records the stages of the generation, if it is profiled
+    @Getter private GenerationProfiler profiler;
 
     public ClientOptInput openAPI(OpenAPI openAPI) {
         this.setOpenAPI(openAPI);
@@ -54,6 +60,16 @@ public class ClientOptInput {
         return this;
     }
 
+    public ClientOptInput outputSink(OutputSink outputSink) {
+        this.outputSink = outputSink;
+        return this;
+    }
+
+    public ClientOptInput profiler(GenerationProfiler profiler) {
+        this.profiler = profiler;
+        return this;
+    }
+
     @Deprecated
     public ClientOptInput auth(String urlEncodedAuthString) {
         this.setAuth(urlEncodedAuthString);
@@ -17,6 +17,7 @@
 
 package org.openapitools.codegen;
 
+import com.samskivert.mustache.Mustache;
 import com.samskivert.mustache.Mustache.Compiler;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -313,6 +314,12 @@ public interface CodegenConfig {
 
     void postProcessFile(File file, String fileType);
 
+    /**
+     * Runs the post-processing commands queued by {@link #postProcessFile(File, String)} when batched post-processing
+     * is enabled through the {@link CodegenConstants#POST_PROCESS_BATCH_SIZE} global property.
+     */
+    void flushPostProcessFiles();
+
     boolean isEnablePostProcessFile();
 
     void setEnablePostProcessFile(boolean isEnablePostProcessFile);
@@ -332,6 +339,22 @@ public interface CodegenConfig {
 
     public void setEnableMinimalUpdate(boolean isEnableMinimalUpdate);
 
+    boolean isEnableIncrementalUpdate();
+
+    void setEnableIncrementalUpdate(boolean enableIncrementalUpdate);
+
+    int getRenderThreads();
+
+    void setRenderThreads(int renderThreads);
+
+    /**
+     * Creates the mustache lambdas exposed to templates as {@code lambda}. Parallel renders get their own instances,
+     * as some lambdas (e.g. {@code copy}/{@code paste}) keep state while a template is rendered.
+     *
+     * @return new lambda instances by name
+     */
+    Map<String, Mustache.Lambda> createMustacheLambdas();
+
     boolean isStrictSpecBehavior();
 
     void setStrictSpecBehavior(boolean strictSpecBehavior);
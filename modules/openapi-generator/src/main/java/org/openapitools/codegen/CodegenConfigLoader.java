@@ -19,42 +19,51 @@ package org.openapitools.codegen;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.ServiceLoader;
 
 public class CodegenConfigLoader {
     /**
-     * Tries to load config class with SPI first, then with class name directly from classpath
+     * Tries to load config class from the {@link GeneratorRegistry} first, then with class name directly from classpath
      *
      * @param name name of config, or full qualified class name in classpath
      * @return config class
      */
     public static CodegenConfig forName(String name) {
-        ServiceLoader<CodegenConfig> loader = ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader());
-
-        StringBuilder availableConfigs = new StringBuilder();
-
-        for (CodegenConfig config : loader) {
-            if (config.getName().equals(name)) {
-                return config;
-            }
-
-            availableConfigs.append(config.getName()).append("\n");
+        GeneratorRegistry registry = GeneratorRegistry.getDefault();
+        GeneratorDescriptor generator = registry.find(name);
+        if (generator != null) {
+            return registry.newInstance(generator);
         }
 
         // else try to load directly
         try {
             return (CodegenConfig) Class.forName(name).getDeclaredConstructor().newInstance();
         } catch (Exception e) {
+            StringBuilder availableConfigs = new StringBuilder();
+            for (GeneratorDescriptor available : registry.getAll()) {
+                availableConfigs.append(available.getName()).append("\n");
+            }
             throw new GeneratorNotFoundException("Can't load config class with name '".concat(name) + "'\nAvailable:\n" + availableConfigs, e);
         }
     }
 
+    /**
+     * Instantiates every registered generator, prefer {@link #getGenerators()} when only their names or metadata are needed.
+     *
+     * @return a new instance of each registered generator
+     */
     public static List<CodegenConfig> getAll() {
-        ServiceLoader<CodegenConfig> loader = ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader());
+        GeneratorRegistry registry = GeneratorRegistry.getDefault();
         List<CodegenConfig> output = new ArrayList<CodegenConfig>();
-        for (CodegenConfig aLoader : loader) {
-            output.add(aLoader);
+        for (GeneratorDescriptor generator : registry.getAll()) {
+            output.add(registry.newInstance(generator));
         }
         return output;
     }
+
+    /**
+     * @return the registered generators, without instantiating them
+     */
+    public static List<GeneratorDescriptor> getGenerators() {
+        return GeneratorRegistry.getDefault().getAll();
+    }
 }
@@ -371,6 +371,12 @@ public class CodegenConstants {
     public static final String ENABLE_POST_PROCESS_FILE = "enablePostProcessFile";
     public static final String ENABLE_POST_PROCESS_FILE_DESC = "Enable post-processing file using environment variables.";
 
+    public static final String POST_PROCESS_BATCH_SIZE = "postProcessBatchSize";
+    public static final String POST_PROCESS_BATCH_SIZE_DESC = "Run the file post-processor once per batch of up to this many files instead of once per file.";
+
+    public static final String POST_PROCESS_WORKERS = "postProcessWorkers";
+    public static final String POST_PROCESS_WORKERS_DESC = "Number of post-processing batches executed in parallel. Default: number of available processors.";
+
     public static final String OPEN_API_SPEC_NAME = "openAPISpecName";
 
     public static final String GENERATE_ALIAS_AS_MODEL = "generateAliasAsModel";
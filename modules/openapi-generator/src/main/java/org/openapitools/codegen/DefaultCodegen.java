@@ -45,6 +45,7 @@ import io.swagger.v3.parser.util.SchemaTypeUtil;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.text.StringEscapeUtils;
 import org.openapitools.codegen.CodegenDiscriminator.MappedModel;
@@ -65,6 +66,8 @@ import org.openapitools.codegen.model.WebhooksMap;
 import org.openapitools.codegen.serializer.SerializerUtils;
 import org.openapitools.codegen.templating.MustacheEngineAdapter;
 import org.openapitools.codegen.templating.mustache.*;
+import org.openapitools.codegen.utils.BatchPostProcessor;
+import org.openapitools.codegen.utils.ModelDependencyGraph;
 import org.openapitools.codegen.utils.ModelUtils;
 import org.openapitools.codegen.utils.OneOfImplementorAdditionalData;
 import org.slf4j.Logger;
@@ -77,6 +80,7 @@ import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
@@ -284,6 +288,8 @@ public class DefaultCodegen implements CodegenConfig {
     protected String ignoreFilePathOverride;
     // flag to indicate whether to use environment variable to post process file
     protected boolean enablePostProcessFile = false;
+    // commands queued for batched post-processing, see CodegenConstants.POST_PROCESS_BATCH_SIZE
+    private BatchPostProcessor batchPostProcessor;
     private TemplatingEngineAdapter templatingEngine = new MustacheEngineAdapter();
     // flag to indicate whether to use the utils.OneOfImplementorAdditionalData related logic
     protected boolean useOneOfInterfaces = false;
@@ -291,9 +297,16 @@ public class DefaultCodegen implements CodegenConfig {
     protected boolean addOneOfInterfaceImports = false;
     protected List<CodegenModel> addOneOfInterfaces = new ArrayList<>();
 
+    // models referenced by the properties of each model, set when all models are updated
+    protected ModelDependencyGraph modelDependencyGraph;
+
     // flag to indicate whether to only update files whose contents have changed
     protected boolean enableMinimalUpdate = false;
 
+    // number of threads used to render files, 1 renders files sequentially
+    protected int renderThreads = 1;
+    protected boolean enableIncrementalUpdate = false;
+
     // acts strictly upon a spec, potentially modifying it to have consistent behavior across generators.
     protected boolean strictSpecBehavior = true;
     // flag to indicate whether enum value prefixes are removed
@@ -315,10 +328,11 @@ public class DefaultCodegen implements CodegenConfig {
     protected OpenAPI openAPI;
 
     // A cache to efficiently lookup a Schema instance based on the return value of `toModelName()`.
-    private Map<String, Schema> modelNameToSchemaCache;
+    private volatile Map<String, Schema> modelNameToSchemaCache;
 
-    // A cache to efficiently lookup schema `toModelName()` based on the schema Key
-    private final Map<String, String> schemaKeyToModelNameCache = new HashMap<>();
+    // A cache to efficiently lookup schema `toModelName()` based on the schema Key.
+    // Synchronized, as the lambdas of files rendered in parallel call back into the generator.
+    private final Map<String, String> schemaKeyToModelNameCache = Collections.synchronizedMap(new HashMap<>());
 
     protected boolean loadDeepObjectIntoItems = true;
 
@@ -426,8 +440,13 @@ public class DefaultCodegen implements CodegenConfig {
 
     }
 
+    @Override
+    public Map<String, Lambda> createMustacheLambdas() {
+        return addMustacheLambdas().build();
+    }
+
     private void registerMustacheLambdas() {
-        ImmutableMap<String, Lambda> lambdas = addMustacheLambdas().build();
+        Map<String, Lambda> lambdas = createMustacheLambdas();
 
         if (lambdas.size() == 0) {
             return;
@@ -706,26 +725,38 @@ public class DefaultCodegen implements CodegenConfig {
         }
     }
 
+    /**
+     * Marks the properties of the models which reference a model leading back to their own model, following the
+     * references of {@code allVars}, {@code vars} and {@code oneOf} separately.
+     *
+     * @param models The models, keyed by name
+     */
     public void setCircularReferences(Map<String, CodegenModel> models) {
         // for allVars
-        final Map<String, List<CodegenProperty>> allVarsDependencyMap = models.entrySet().stream()
-                .collect(Collectors.toMap(Entry::getKey, entry -> getModelDependencies(entry.getValue().getAllVars())));
-
-        models.keySet().forEach(name -> setCircularReferencesOnProperties(name, allVarsDependencyMap));
+        modelDependencyGraph = setCircularReferences(models, CodegenModel::getAllVars);
 
         // for vars
-        final Map<String, List<CodegenProperty>> varsDependencyMap = models.entrySet().stream()
-                .collect(Collectors.toMap(Entry::getKey, entry -> getModelDependencies(entry.getValue().getVars())));
-
-        models.keySet().forEach(name -> setCircularReferencesOnProperties(name, varsDependencyMap));
+        setCircularReferences(models, CodegenModel::getVars);
 
         // for oneOf
-        final Map<String, List<CodegenProperty>> oneOfDependencyMap = models.entrySet().stream()
-                .collect(Collectors.toMap(Entry::getKey, entry -> getModelDependencies(
-                        (entry.getValue().getComposedSchemas() != null && entry.getValue().getComposedSchemas().getOneOf() != null)
-                                ? entry.getValue().getComposedSchemas().getOneOf() : new ArrayList<CodegenProperty>())));
+        setCircularReferences(models, model -> (model.getComposedSchemas() != null && model.getComposedSchemas().getOneOf() != null)
+                ? model.getComposedSchemas().getOneOf() : Collections.emptyList());
+    }
+
+    private ModelDependencyGraph setCircularReferences(Map<String, CodegenModel> models,
+                                                       Function<CodegenModel, List<CodegenProperty>> properties) {
+        final Map<String, List<CodegenProperty>> dependencyMap = models.entrySet().stream()
+                .collect(Collectors.toMap(Entry::getKey, entry -> getModelDependencies(properties.apply(entry.getValue()))));
 
-        models.keySet().forEach(name -> setCircularReferencesOnProperties(name, oneOfDependencyMap));
+        final Map<String, List<String>> dependencies = new LinkedHashMap<>();
+        models.keySet().forEach(name -> dependencies.put(name, dependencyMap.get(name).stream()
+                .map(DefaultCodegen::getDependencyDataType)
+                .collect(Collectors.toList())));
+        final ModelDependencyGraph graph = ModelDependencyGraph.of(dependencies);
+
+        models.keySet().forEach(name -> dependencyMap.get(name)
+                .forEach(prop -> prop.isCircularReference = graph.isCircularReference(name, getDependencyDataType(prop))));
+        return graph;
     }
 
     private List<CodegenProperty> getModelDependencies(List<CodegenProperty> vars) {
@@ -740,35 +771,19 @@ public class DefaultCodegen implements CodegenConfig {
                 .collect(Collectors.toList());
     }
 
-    private void setCircularReferencesOnProperties(final String root,
-                                                   final Map<String, List<CodegenProperty>> dependencyMap) {
-        dependencyMap.getOrDefault(root, new ArrayList<>())
-                .forEach(prop -> {
-                    final List<String> unvisited =
-                            Collections.singletonList(prop.isContainer ? prop.items.dataType : prop.dataType);
-                    prop.isCircularReference = isCircularReference(root,
-                            new HashSet<>(),
-                            new ArrayList<>(unvisited),
-                            dependencyMap);
-                });
-    }
-
-    private boolean isCircularReference(final String root,
-                                        final Set<String> visited,
-                                        final List<String> unvisited,
-                                        final Map<String, List<CodegenProperty>> dependencyMap) {
-        for (int i = 0; i < unvisited.size(); i++) {
-            final String next = unvisited.get(i);
-            if (!visited.contains(next)) {
-                if (next.equals(root)) {
-                    return true;
-                }
-                dependencyMap.getOrDefault(next, new ArrayList<>())
-                        .forEach(prop -> unvisited.add(prop.isContainer ? prop.items.dataType : prop.dataType));
-                visited.add(next);
-            }
-        }
-        return false;
+    private static String getDependencyDataType(CodegenProperty prop) {
+        return prop.isContainer ? prop.items.dataType : prop.dataType;
+    }
+
+    /**
+     * Gets the graph of the models referenced by the properties ({@code allVars}) of each model, as built by
+     * {@link #setCircularReferences(Map)} while updating all models. Post-processors may use it to find the models
+     * referencing each other without walking the models again.
+     *
+     * @return the model dependency graph, or null if the models have not been updated yet
+     */
+    public ModelDependencyGraph getModelDependencyGraph() {
+        return modelDependencyGraph;
     }
 
     // override with any special post-processing
@@ -2635,7 +2650,7 @@ public class DefaultCodegen implements CodegenConfig {
         }
     }
 
-    Map<NamedSchema, CodegenProperty> schemaCodegenPropertyCache = new HashMap<>();
+    Map<NamedSchema, CodegenProperty> schemaCodegenPropertyCache = new ConcurrentHashMap<>();
 
     protected void updateModelForComposedSchema(CodegenModel m, Schema schema, Map<String, Schema> allDefinitions) {
         final Schema composed = schema;
@@ -8221,13 +8236,34 @@ public class DefaultCodegen implements CodegenConfig {
         LOGGER.debug("Post processing file {} ({})", file, fileType);
     }
 
+    @Override
+    public void flushPostProcessFiles() {
+        if (batchPostProcessor == null || batchPostProcessor.isEmpty()) {
+            return;
+        }
+        BatchPostProcessor.Report report = batchPostProcessor.run();
+        if (report.isSuccessful()) {
+            LOGGER.info("Post-processed {}", report);
+        } else {
+            LOGGER.error("Post-processing failed for some files: {}", report);
+        }
+    }
+
     /**
-     * Executes an external command for file post processing.
+     * Executes an external command for file post processing. When the {@link CodegenConstants#POST_PROCESS_BATCH_SIZE}
+     * global property is set, the command is queued instead and run with many files at once by
+     * {@link #flushPostProcessFiles()}; the last element of the array is expected to be the file.
      *
      * @param commandArr an array of commands and arguments. They will be concatenated with space and tokenized again.
-     * @return Whether the execution passed (true) or failed (false)
+     * @return Whether the execution passed (true) or failed (false). Queued commands are reported as passed.
      */
     protected boolean executePostProcessor(String[] commandArr) {
+        BatchPostProcessor batch = getBatchPostProcessor();
+        if (batch != null && commandArr.length > 1) {
+            batch.add(commandArr);
+            return true;
+        }
+
         final String command = String.join(" ", commandArr);
         try {
             // we don't use the array variant here, because the command passed in by the user is often not only a single binary
@@ -8258,6 +8294,18 @@ public class DefaultCodegen implements CodegenConfig {
         return false;
     }
 
+    private synchronized BatchPostProcessor getBatchPostProcessor() {
+        if (batchPostProcessor == null) {
+            int batchSize = NumberUtils.toInt(GlobalSettings.getProperty(CodegenConstants.POST_PROCESS_BATCH_SIZE), 0);
+            if (batchSize <= 1) {
+                return null;
+            }
+            int workers = NumberUtils.toInt(GlobalSettings.getProperty(CodegenConstants.POST_PROCESS_WORKERS), Runtime.getRuntime().availableProcessors());
+            batchPostProcessor = new BatchPostProcessor(batchSize, workers);
+        }
+        return batchPostProcessor;
+    }
+
     /**
      * Boolean value indicating the state of the option for post-processing file using environment variables.
      *
@@ -8296,6 +8344,42 @@ public class DefaultCodegen implements CodegenConfig {
         this.enableMinimalUpdate = enableMinimalUpdate;
     }
 
+    /**
+     * Get the boolean value indicating the state of the option for skipping the rendering of files whose inputs are unchanged
+     */
+    @Override
+    public boolean isEnableIncrementalUpdate() {
+        return enableIncrementalUpdate;
+    }
+
+    /**
+     * Set the boolean value indicating the state of the option for skipping the rendering of files whose inputs are unchanged
+     *
+     * @param enableIncrementalUpdate true to enable incremental update
+     */
+    @Override
+    public void setEnableIncrementalUpdate(boolean enableIncrementalUpdate) {
+        this.enableIncrementalUpdate = enableIncrementalUpdate;
+    }
+
+    /**
+     * Get the number of threads used to render model, api, webhook and supporting files
+     */
+    @Override
+    public int getRenderThreads() {
+        return renderThreads;
+    }
+
+    /**
+     * Set the number of threads used to render model, api, webhook and supporting files
+     *
+     * @param renderThreads the number of render threads, 1 (default) renders files sequentially
+     */
+    @Override
+    public void setRenderThreads(int renderThreads) {
+        this.renderThreads = Math.max(1, renderThreads);
+    }
+
     /**
      * Indicates whether the codegen configuration should treat documents as strictly defined by the OpenAPI specification.
      *
@@ -17,6 +17,8 @@
 
 package org.openapitools.codegen;
 
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.MustacheException;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.*;
 import io.swagger.v3.oas.models.info.Contact;
@@ -37,25 +39,33 @@ import org.openapitools.codegen.ignore.CodegenIgnoreProcessor;
 import org.openapitools.codegen.meta.GeneratorMetadata;
 import org.openapitools.codegen.meta.Stability;
 import org.openapitools.codegen.model.*;
+import org.openapitools.codegen.profiling.GenerationProfiler;
 import org.openapitools.codegen.serializer.SerializerUtils;
 import org.openapitools.codegen.templating.CommonTemplateContentLocator;
+import org.openapitools.codegen.templating.FileSystemOutputSink;
 import org.openapitools.codegen.templating.GeneratorTemplateContentLocator;
 import org.openapitools.codegen.templating.MustacheEngineAdapter;
 import org.openapitools.codegen.templating.TemplateManagerOptions;
+import org.openapitools.codegen.templating.TemplateNotFoundException;
 import org.openapitools.codegen.utils.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.Writer;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -68,6 +78,10 @@ public class DefaultGenerator implements Generator {
     private static final String METADATA_DIR = ".openapi-generator";
     protected final Logger LOGGER = LoggerFactory.getLogger(DefaultGenerator.class);
     private final boolean dryRun;
+    // whether the generated files end up in the output directory, where they can be post-processed and read back
+    private boolean writesToDisk;
+    // the target of the generated files, also queried for the files which must not be overwritten
+    private OutputSink outputSink;
     protected CodegenConfig config;
     protected ClientOptInput opts;
     protected OpenAPI openAPI;
@@ -82,6 +96,19 @@ public class DefaultGenerator implements Generator {
     private Boolean generateModelTests = null;
     private Boolean generateModelDocumentation = null;
     private Boolean generateMetadata = true;
+    private final Deque<PendingRender> pendingRenders = new ArrayDeque<>();
+    private final Set<String> pendingTargets = new HashSet<>();
+    private ExecutorService renderExecutor;
+    // records the stages of the generation, disabled unless the generation is profiled
+    private GenerationProfiler profiler = GenerationProfiler.disabled();
+    // fingerprints of the inputs of each generated file, only set for incremental updates
+    private FingerprintManifest fingerprints;
+    private TemplateDataDigest templateDataDigest;
+    private String generationFingerprint;
+    private final Map<String, String> templateFingerprints = new HashMap<>();
+    private final Set<String> unchangedFiles = ConcurrentHashMap.newKeySet();
+    // index of the schema usages of openAPI, see getSpecIndex()
+    private SpecIndex specIndex;
     private String basePath;
     private String basePathWithoutHost;
     private String contextPath;
@@ -111,6 +138,7 @@ public class DefaultGenerator implements Generator {
     public Generator opts(ClientOptInput opts) {
         this.opts = opts;
         this.openAPI = opts.getOpenAPI();
+        this.specIndex = null;
         this.config = opts.getConfig();
 
         List<TemplateDefinition> userFiles = opts.getUserDefinedTemplates();
@@ -119,6 +147,11 @@ public class DefaultGenerator implements Generator {
         }
 
         TemplateManagerOptions templateManagerOptions = new TemplateManagerOptions(this.config.isEnableMinimalUpdate(), this.config.isSkipOverwrite());
+        if (opts.getProfiler() != null) {
+            this.profiler = opts.getProfiler();
+        }
+        this.outputSink = this.profiler.wrap(opts.getOutputSink() == null ? new FileSystemOutputSink() : opts.getOutputSink());
+        this.writesToDisk = !this.dryRun && outputSink.isLocal();
 
         if (this.dryRun) {
             this.templateProcessor = new DryRunTemplateManager(templateManagerOptions);
@@ -135,7 +168,8 @@ public class DefaultGenerator implements Generator {
             this.templateProcessor = new TemplateManager(
                     templateManagerOptions,
                     templatingEngine,
-                    new TemplatePathLocator[]{generatorTemplateLocator, commonTemplateLocator}
+                    new TemplatePathLocator[]{generatorTemplateLocator, commonTemplateLocator},
+                    outputSink
             );
         }
 
@@ -262,7 +296,10 @@ public class DefaultGenerator implements Generator {
                     config.openapiNormalizer().put("NORMALIZE_31SPEC", "true");
                 }
                 OpenAPINormalizer openapiNormalizer = new OpenAPINormalizer(openAPI, config.openapiNormalizer());
-                openapiNormalizer.normalize();
+                try (GenerationProfiler.Stage ignored = profiler.start("normalize")) {
+                    openapiNormalizer.normalize();
+                }
+                specIndex = null;
             }
         } catch (Exception e) {
             LOGGER.error("An exception occurred in OpenAPI Normalizer. Please report the issue via https://github.com/openapitools/openapi-generator/issues/new/: ");
@@ -275,10 +312,17 @@ public class DefaultGenerator implements Generator {
             inlineModelResolver.setInlineSchemaNameMapping(config.inlineSchemaNameMapping());
             inlineModelResolver.setInlineSchemaOptions(config.inlineSchemaOption());
 
-            inlineModelResolver.flatten(openAPI);
+            try (GenerationProfiler.Stage ignored = profiler.start("flatten")) {
+                inlineModelResolver.flatten(openAPI);
+            }
+            specIndex = null;
         }
 
-        config.preprocessOpenAPI(openAPI);
+        try (GenerationProfiler.Stage ignored = profiler.start("preprocessOpenAPI")) {
+            config.preprocessOpenAPI(openAPI);
+        }
+        // generators may modify the document while preprocessing it
+        specIndex = null;
 
         // set OpenAPI to make these available to all methods
         config.setOpenAPI(openAPI);
@@ -384,17 +428,11 @@ public class DefaultGenerator implements Generator {
 
             if (generateModelTests) {
                 // do not overwrite test file that already exists (regardless of config's skipOverwrite setting)
-                File modelTestFile = new File(filename);
-                if (modelTestFile.exists()) {
-                    this.templateProcessor.skip(modelTestFile.toPath(), "Test files never overwrite an existing file of the same name.");
+                Path modelTestFile = java.nio.file.Paths.get(filename);
+                if (outputSink.exists(modelTestFile)) {
+                    this.templateProcessor.skip(modelTestFile, "Test files never overwrite an existing file of the same name.");
                 } else {
-                    File written = processTemplateToFile(models, templateName, filename, generateModelTests, CodegenConstants.MODEL_TESTS, config.modelTestFileFolder());
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "model-test");
-                        }
-                    }
+                    generateFile(files, "model-test", models, templateName, filename, generateModelTests, CodegenConstants.MODEL_TESTS, config.modelTestFileFolder());
                 }
             } else if (dryRun) {
                 Path skippedPath = java.nio.file.Paths.get(filename);
@@ -409,41 +447,28 @@ public class DefaultGenerator implements Generator {
             String suffix = docExtension != null ? docExtension : config.modelDocTemplateFiles().get(templateName);
             String filename = config.modelDocFileFolder() + File.separator + config.toModelDocFilename(modelName) + suffix;
 
-            File written = processTemplateToFile(models, templateName, filename, generateModelDocumentation, CodegenConstants.MODEL_DOCS);
-            if (written != null) {
-                files.add(written);
-                if (config.isEnablePostProcessFile() && !dryRun) {
-                    config.postProcessFile(written, "model-doc");
-                }
-            }
+            generateFile(files, "model-doc", models, templateName, filename, generateModelDocumentation, CodegenConstants.MODEL_DOCS);
         }
     }
 
     private void generateModel(List<File> files, Map<String, Object> models, String modelName) throws IOException {
         for (String templateName : config.modelTemplateFiles().keySet()) {
-            File written;
             if (config.templateOutputDirs().containsKey(templateName)) {
                 String outputDir = config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName);
                 String filename = config.modelFilename(templateName, modelName, outputDir);
-                written = processTemplateToFile(models, templateName, filename, generateModels, CodegenConstants.MODELS, outputDir);
+                generateFile(files, "model", models, templateName, filename, generateModels, CodegenConstants.MODELS, outputDir);
             } else {
                 String filename = config.modelFilename(templateName, modelName);
-                written = processTemplateToFile(models, templateName, filename, generateModels, CodegenConstants.MODELS);
-            }
-            if (written != null) {
-                files.add(written);
-                if (config.isEnablePostProcessFile() && !dryRun) {
-                    config.postProcessFile(written, "model");
-                }
+                generateFile(files, "model", models, templateName, filename, generateModels, CodegenConstants.MODELS);
             }
         }
     }
 
     void generateModels(List<File> files, List<ModelMap> allModels, List<String> unusedModels, List<ModelMap> aliasModels) {
-        generateModels(files, allModels, unusedModels, aliasModels, new ArrayList<>(), DefaultGenerator.this::modelKeys);
+        generateModels(files, allModels, new HashSet<>(unusedModels), aliasModels, new HashSet<>(), DefaultGenerator.this::modelKeys);
     }
 
-    void generateModels(List<File> files, List<ModelMap> allModels, List<String> unusedModels, List<ModelMap> aliasModels, List<String> processedModels, Supplier<Set<String>> modelKeysSupplier) {
+    void generateModels(List<File> files, List<ModelMap> allModels, Set<String> unusedModels, List<ModelMap> aliasModels, Set<String> processedModels, Supplier<Set<String>> modelKeysSupplier) {
         if (!generateModels) {
             // TODO: Process these anyway and add to dryRun info
             LOGGER.info("Skipping generation of models.");
@@ -520,10 +545,14 @@ public class DefaultGenerator implements Generator {
         }
 
         // loop through all models to update children models, isSelfReference, isCircularReference, etc
-        allProcessedModels = config.updateAllModels(allProcessedModels);
+        try (GenerationProfiler.Stage ignored = profiler.start("updateAllModels")) {
+            allProcessedModels = config.updateAllModels(allProcessedModels);
+        }
 
         // post process all processed models
-        allProcessedModels = config.postProcessAllModels(allProcessedModels);
+        try (GenerationProfiler.Stage ignored = profiler.start("postProcessAllModels")) {
+            allProcessedModels = config.postProcessAllModels(allProcessedModels);
+        }
 
         if (generateRecursiveDependentModels) {
             for (ModelsMap modelsMap : allProcessedModels.values()) {
@@ -582,6 +611,7 @@ public class DefaultGenerator implements Generator {
                 throw new RuntimeException("Could not generate model '" + modelName + "'", e);
             }
         }
+        awaitRenders(files);
         if (GlobalSettings.getProperty("debugModels") != null) {
             LOGGER.info("############ Model info ############");
             Json.prettyPrint(allModels);
@@ -591,7 +621,7 @@ public class DefaultGenerator implements Generator {
     /**
      * this method guesses the schema type of in parent model used variable and if the schema type is available it let the generate the model for the type of this variable
      */
-    private void generateModelsForVariable(List<File> files, List<ModelMap> allModels, List<String> unusedModels, List<ModelMap> aliasModels, List<String> processedModels, CodegenProperty variable) {
+    private void generateModelsForVariable(List<File> files, List<ModelMap> allModels, Set<String> unusedModels, List<ModelMap> aliasModels, Set<String> processedModels, CodegenProperty variable) {
         if (variable == null) {
             return;
         }
@@ -753,66 +783,48 @@ public class DefaultGenerator implements Generator {
                 addAuthenticationSwitches(operation);
 
                 for (String templateName : config.apiTemplateFiles().keySet()) {
-                    File written = null;
                     if (config.templateOutputDirs().containsKey(templateName)) {
                         String outputDir = config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName);
                         String filename = config.apiFilename(templateName, tag, outputDir);
                         // do not overwrite apiController file for spring server
                         if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS, outputDir);
+                            generateFile(files, "api", operation, templateName, filename, generateApis, CodegenConstants.APIS, outputDir);
                         } else {
                             LOGGER.info("Implementation file {} is not overwritten", filename);
                         }
                     } else {
                         String filename = config.apiFilename(templateName, tag);
                         if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS);
+                            generateFile(files, "api", operation, templateName, filename, generateApis, CodegenConstants.APIS);
                         } else {
                             LOGGER.info("Implementation file {} is not overwritten", filename);
                         }
                     }
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api");
-                        }
-                    }
                 }
 
                 // to generate api test files
                 for (String templateName : config.apiTestTemplateFiles().keySet()) {
                     String filename = config.apiTestFilename(templateName, tag);
-                    File apiTestFile = new File(filename);
+                    Path apiTestFile = java.nio.file.Paths.get(filename);
                     // do not overwrite test file that already exists
-                    if (apiTestFile.exists()) {
-                        this.templateProcessor.skip(apiTestFile.toPath(), "Test files never overwrite an existing file of the same name.");
+                    if (outputSink.exists(apiTestFile)) {
+                        this.templateProcessor.skip(apiTestFile, "Test files never overwrite an existing file of the same name.");
                     } else {
-                        File written = processTemplateToFile(operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder());
-                        if (written != null) {
-                            files.add(written);
-                            if (config.isEnablePostProcessFile() && !dryRun) {
-                                config.postProcessFile(written, "api-test");
-                            }
-                        }
+                        generateFile(files, "api-test", operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder());
                     }
                 }
 
                 // to generate api documentation files
                 for (String templateName : config.apiDocTemplateFiles().keySet()) {
                     String filename = config.apiDocFilename(templateName, tag);
-                    File written = processTemplateToFile(operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS);
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api-doc");
-                        }
-                    }
+                    generateFile(files, "api-doc", operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS);
                 }
 
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
             }
         }
+        awaitRenders(files);
         if (GlobalSettings.getProperty("debugOperations") != null) {
             LOGGER.info("############ Operation info ############");
             Json.prettyPrint(allOperations);
@@ -916,66 +928,48 @@ public class DefaultGenerator implements Generator {
                 addAuthenticationSwitches(operation);
 
                 for (String templateName : config.apiTemplateFiles().keySet()) {
-                    File written = null;
                     if (config.templateOutputDirs().containsKey(templateName)) {
                         String outputDir = config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName);
                         String filename = config.apiFilename(templateName, tag, outputDir);
                         // do not overwrite apiController file for spring server
                         if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateWebhooks, CodegenConstants.WEBHOOKS, outputDir);
+                            generateFile(files, "api", operation, templateName, filename, generateWebhooks, CodegenConstants.WEBHOOKS, outputDir);
                         } else {
                             LOGGER.info("Implementation file {} is not overwritten", filename);
                         }
                     } else {
                         String filename = config.apiFilename(templateName, tag);
                         if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateWebhooks, CodegenConstants.WEBHOOKS);
+                            generateFile(files, "api", operation, templateName, filename, generateWebhooks, CodegenConstants.WEBHOOKS);
                         } else {
                             LOGGER.info("Implementation file {} is not overwritten", filename);
                         }
                     }
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api");
-                        }
-                    }
                 }
 
                 // to generate api test files
                 for (String templateName : config.apiTestTemplateFiles().keySet()) {
                     String filename = config.apiTestFilename(templateName, tag);
-                    File apiTestFile = new File(filename);
+                    Path apiTestFile = java.nio.file.Paths.get(filename);
                     // do not overwrite test file that already exists
-                    if (apiTestFile.exists()) {
-                        this.templateProcessor.skip(apiTestFile.toPath(), "Test files never overwrite an existing file of the same name.");
+                    if (outputSink.exists(apiTestFile)) {
+                        this.templateProcessor.skip(apiTestFile, "Test files never overwrite an existing file of the same name.");
                     } else {
-                        File written = processTemplateToFile(operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder());
-                        if (written != null) {
-                            files.add(written);
-                            if (config.isEnablePostProcessFile() && !dryRun) {
-                                config.postProcessFile(written, "api-test");
-                            }
-                        }
+                        generateFile(files, "api-test", operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder());
                     }
                 }
 
                 // to generate api documentation files
                 for (String templateName : config.apiDocTemplateFiles().keySet()) {
                     String filename = config.apiDocFilename(templateName, tag);
-                    File written = processTemplateToFile(operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS);
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api-doc");
-                        }
-                    }
+                    generateFile(files, "api-doc", operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS);
                 }
 
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
             }
         }
+        awaitRenders(files);
         if (GlobalSettings.getProperty("debugOperations") != null) {
             LOGGER.info("############ Operation info ############");
             Json.prettyPrint(allWebhooks);
@@ -985,8 +979,7 @@ public class DefaultGenerator implements Generator {
 
     // checking if apiController file is already existed for spring generator
     private boolean apiFilePreCheck(String filename, String generator, String templateName, String apiControllerTemplate) {
-        File apiFile = new File(filename);
-        return !(apiFile.exists() && config.getName().equals(generator) && templateName.equals(apiControllerTemplate));
+        return !(outputSink.exists(java.nio.file.Paths.get(filename)) && config.getName().equals(generator) && templateName.equals(apiControllerTemplate));
     }
 
     /*
@@ -1002,12 +995,6 @@ public class DefaultGenerator implements Generator {
         File ignoreFile = new File(ignoreFileNameTarget);
         // use the entries provided by the users to pre-populate .openapi-generator-ignore
         try {
-            LOGGER.info("Writing file " + ignoreFileNameTarget + " (which is always overwritten when the option `openapiGeneratorIgnoreFile` is enabled.)");
-            new File(config.outputFolder()).mkdirs();
-            if (!ignoreFile.createNewFile()) {
-                // file may already exist, do nothing
-            }
-
             String header = String.join("\n",
                     "# IMPORTANT: this file is generated with the option `openapiGeneratorIgnoreList` enabled",
                     "# (--openapi-generator-ignore-list in CLI for example) so the entries below are pre-populated based",
@@ -1042,16 +1029,17 @@ public class DefaultGenerator implements Generator {
                     "# The following entries are pre-populated based on the input obtained via",
                     "# the option `openapiGeneratorIgnoreList` (--openapi-generator-ignore-list in CLI for example).",
                     "");
-            Writer fileWriter = Files.newBufferedWriter(ignoreFile.toPath(), StandardCharsets.UTF_8);
-            fileWriter.write(header);
+            StringBuilder contents = new StringBuilder(header);
             // add entries provided by the users
             for (String entry : config.getOpenapiGeneratorIgnoreList()) {
-                fileWriter.write(entry);
-                fileWriter.write("\n");
+                contents.append(entry).append("\n");
             }
-            fileWriter.close();
-            // re-create ignore processor based on the newly-created .openapi-generator-ignore
-            this.ignoreProcessor = new CodegenIgnoreProcessor(ignoreFile);
+            if (!dryRun) {
+                LOGGER.info("Writing file " + ignoreFileNameTarget + " (which is always overwritten when the option `openapiGeneratorIgnoreFile` is enabled.)");
+                outputSink.write(ignoreFile.toPath(), contents.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            // re-create ignore processor based on the contents of .openapi-generator-ignore, which can't be read back from every output
+            this.ignoreProcessor = new CodegenIgnoreProcessor(ignoreFile, Arrays.asList(contents.toString().split("\n")));
         } catch (IOException e) {
             throw new RuntimeException("Failed to generate .openapi-generator-ignore when the option `openapiGeneratorIgnoreList` is enabled: ", e);
         }
@@ -1083,7 +1071,7 @@ public class DefaultGenerator implements Generator {
 
                 if (!of.isDirectory()) {
                     // check that its not a dryrun and the files in the directory aren't ignored before we make the directory
-                    if (!dryRun && ignoreProcessor.allowsFile(new File(outputFilename)) && !of.mkdirs()) {
+                    if (writesToDisk && ignoreProcessor.allowsFile(new File(outputFilename)) && !of.mkdirs()) {
                         once(LOGGER).debug("Output directory {} not created. It {}.", outputFolder, of.exists() ? "already exists." : "may not have appropriate permissions.");
                     }
                 }
@@ -1094,18 +1082,15 @@ public class DefaultGenerator implements Generator {
                     shouldGenerate = supportingFilesToGenerate.contains(support.getDestinationFilename());
                 }
 
-                File written = processTemplateToFile(bundle, support.getTemplateFile(), outputFilename, shouldGenerate, CodegenConstants.SUPPORTING_FILES);
-                if (written != null) {
-                    files.add(written);
-                    if (config.isEnablePostProcessFile() && !dryRun) {
-                        config.postProcessFile(written, "supporting-file");
-                    }
-                }
+                generateFile(files, "supporting-file", bundle, support.getTemplateFile(), outputFilename, shouldGenerate, CodegenConstants.SUPPORTING_FILES);
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate supporting file '" + support + "'", e);
             }
         }
 
+        // supporting files may include .openapi-generator-ignore itself, so finish writing them before checking for it
+        awaitRenders(files);
+
         // Consider .openapi-generator-ignore a supporting file
         // Output .openapi-generator-ignore if it doesn't exist and wasn't explicitly created by a generator
         // and the option openapiGeneratorIgnoreList is not set
@@ -1115,17 +1100,11 @@ public class DefaultGenerator implements Generator {
             File ignoreFile = new File(ignoreFileNameTarget);
             if (generateMetadata) {
                 try {
-                    boolean shouldGenerate = !ignoreFile.exists();
+                    boolean shouldGenerate = !outputSink.exists(ignoreFile.toPath());
                     if (shouldGenerate && supportingFilesToGenerate != null && !supportingFilesToGenerate.isEmpty()) {
                         shouldGenerate = supportingFilesToGenerate.contains(openapiGeneratorIgnore);
                     }
-                    File written = processTemplateToFile(bundle, openapiGeneratorIgnore, ignoreFileNameTarget, shouldGenerate, CodegenConstants.SUPPORTING_FILES);
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "openapi-generator-ignore");
-                        }
-                    }
+                    generateFile(files, "openapi-generator-ignore", bundle, openapiGeneratorIgnore, ignoreFileNameTarget, shouldGenerate, CodegenConstants.SUPPORTING_FILES);
                 } catch (Exception e) {
                     throw new RuntimeException("Could not generate supporting file '" + ignoreFileNameTarget + "'", e);
                 }
@@ -1134,6 +1113,7 @@ public class DefaultGenerator implements Generator {
             }
         }
 
+        awaitRenders(files);
         generateVersionMetadata(files);
     }
 
@@ -1250,6 +1230,14 @@ public class DefaultGenerator implements Generator {
 
     @Override
     public List<File> generate() {
+        try (GenerationProfiler.Stage ignored = profiler.start("generate")) {
+            return generateFiles();
+        } finally {
+            writeProfile();
+        }
+    }
+
+    private List<File> generateFiles() {
         if (openAPI == null) {
             throw new RuntimeException("Issues with the OpenAPI input. Possible causes: invalid/missing spec, malformed JSON/YAML files, etc.");
         }
@@ -1275,31 +1263,59 @@ public class DefaultGenerator implements Generator {
             }
         }
 
-        configureGeneratorProperties();
-        configureOpenAPIInfo();
+        try (GenerationProfiler.Stage ignored = profiler.start("configure")) {
+            configureGeneratorProperties();
+            configureOpenAPIInfo();
+        }
 
-        config.processOpenAPI(openAPI);
+        try (GenerationProfiler.Stage ignored = profiler.start("processOpenAPI")) {
+            config.processOpenAPI(openAPI);
+        }
+        specIndex = null;
 
         processUserDefinedTemplates();
 
         // generate .openapi-generator-ignore if the option openapiGeneratorIgnoreFile is enabled
         generateOpenapiGeneratorIgnoreFile();
 
+        configureIncrementalUpdate();
+
         List<File> files = new ArrayList<>();
-        // models
-        List<String> filteredSchemas = ModelUtils.getSchemasUsedOnlyInFormParam(openAPI);
-        List<ModelMap> allModels = new ArrayList<>();
-        List<ModelMap> aliasModels = new ArrayList<>();
-        generateModels(files, allModels, filteredSchemas, aliasModels);
-        // apis
-        List<OperationsMap> allOperations = new ArrayList<>();
-        generateApis(files, allOperations, allModels);
-        // webhooks
-        List<WebhooksMap> allWebhooks = new ArrayList<>();
-        generateWebhooks(files, allWebhooks, allModels);
-        // supporting files
-        Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels, aliasModels, allWebhooks);
-        generateSupportingFiles(files, bundle);
+        try {
+            // models
+            List<String> filteredSchemas = getSpecIndex().getSchemasUsedOnlyInFormParam();
+            List<ModelMap> allModels = new ArrayList<>();
+            List<ModelMap> aliasModels = new ArrayList<>();
+            try (GenerationProfiler.Stage ignored = profiler.start("models")) {
+                generateModels(files, allModels, filteredSchemas, aliasModels);
+            }
+            clearTemplateDataDigests();
+            // apis
+            List<OperationsMap> allOperations = new ArrayList<>();
+            try (GenerationProfiler.Stage ignored = profiler.start("apis")) {
+                generateApis(files, allOperations, allModels);
+            }
+            clearTemplateDataDigests();
+            // webhooks
+            List<WebhooksMap> allWebhooks = new ArrayList<>();
+            try (GenerationProfiler.Stage ignored = profiler.start("webhooks")) {
+                generateWebhooks(files, allWebhooks, allModels);
+            }
+            clearTemplateDataDigests();
+            // supporting files
+            try (GenerationProfiler.Stage ignored = profiler.start("supportingFiles")) {
+                Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels, aliasModels, allWebhooks);
+                generateSupportingFiles(files, bundle);
+            }
+            clearTemplateDataDigests();
+        } finally {
+            shutdownRenders();
+        }
+
+        if (!duplicateFilePaths.isEmpty()) {
+            LOGGER.warn("Duplicate file paths detected. Not all operating systems can handle case sensitive file paths. {} path(s): {}",
+                    duplicateFilePaths.size(), duplicateFilePaths);
+        }
 
         if (dryRun) {
             boolean verbose = Boolean.parseBoolean(GlobalSettings.getProperty("verbose"));
@@ -1343,10 +1359,19 @@ public class DefaultGenerator implements Generator {
             if (generateSupportingFiles) {
                 generateFilesMetadata(files);
             }
+            generateFingerprintsMetadata(files);
+        }
+
+        if (config.isEnablePostProcessFile() && writesToDisk) {
+            try (GenerationProfiler.Stage ignored = profiler.start("flushPostProcessFiles")) {
+                config.flushPostProcessFiles();
+            }
         }
 
         // post-process
-        config.postProcess();
+        try (GenerationProfiler.Stage ignored = profiler.start("postProcess")) {
+            config.postProcess();
+        }
 
         // reset GlobalSettings, so that the running thread can be reused for another generator-run
         GlobalSettings.reset();
@@ -1354,6 +1379,14 @@ public class DefaultGenerator implements Generator {
         return files;
     }
 
+    private void writeProfile() {
+        try {
+            profiler.writeReport();
+        } catch (IOException e) {
+            LOGGER.warn("Unable to write the generation profile: {}", e.getMessage());
+        }
+    }
+
     private void processUserDefinedTemplates() {
         // TODO: initial behavior is "merge" user defined with built-in templates. consider offering user a "replace" option.
         if (userDefinedTemplates != null && !userDefinedTemplates.isEmpty()) {
@@ -1431,11 +1464,31 @@ public class DefaultGenerator implements Generator {
         return processTemplateToFile(templateData, templateName, outputFilename, shouldGenerate, skippedByOption, this.config.getOutputDir());
     }
 
-    private final Set<String> seenFiles = new HashSet<>();
+    // lower-cased absolute path -> path as generated, to detect paths which only differ in case
+    private final Map<String, String> seenFiles = new ConcurrentHashMap<>();
+    private final Set<String> duplicateFilePaths = new ConcurrentSkipListSet<>();
+
+    /**
+     * Returns the paths generated so far which collide with a previously generated path when case is ignored.
+     * Such outputs overwrite each other on case-insensitive file systems.
+     *
+     * @return the colliding paths, sorted
+     */
+    public Set<String> getDuplicateFilePaths() {
+        return Collections.unmodifiableSet(duplicateFilePaths);
+    }
 
     private File processTemplateToFile(Map<String, Object> templateData, String templateName, String outputFilename, boolean shouldGenerate, String skippedByOption, String intendedOutputDir) throws IOException {
-        String adjustedOutputFilename = outputFilename.replaceAll("//", "/").replace('/', File.separatorChar);
-        File target = new File(adjustedOutputFilename);
+        TemplateWrite write = prepareTemplateToFile(templateData, templateName, outputFilename, shouldGenerate, skippedByOption, intendedOutputDir);
+        return write == null ? null : write.write();
+    }
+
+    /**
+     * Performs the ignore, skip and output directory checks for a template and returns the deferred write,
+     * or null if nothing should be written.
+     */
+    private TemplateWrite prepareTemplateToFile(Map<String, Object> templateData, String templateName, String outputFilename, boolean shouldGenerate, String skippedByOption, String intendedOutputDir) {
+        File target = toTargetFile(outputFilename);
         if (ignoreProcessor.allowsFile(target)) {
             if (shouldGenerate) {
                 Path outDir = java.nio.file.Paths.get(intendedOutputDir).toAbsolutePath();
@@ -1444,11 +1497,22 @@ public class DefaultGenerator implements Generator {
                     throw new RuntimeException(String.format(Locale.ROOT, "Target files must be generated within the output directory; absoluteTarget=%s outDir=%s", absoluteTarget, outDir));
                 }
 
-                if (seenFiles.stream().filter(f -> f.toLowerCase(Locale.ROOT).equals(absoluteTarget.toString().toLowerCase(Locale.ROOT))).findAny().isPresent()) {
-                    LOGGER.warn("Duplicate file path detected. Not all operating systems can handle case sensitive file paths. path={}", absoluteTarget.toString());
+                String path = absoluteTarget.toString();
+                String seen = seenFiles.putIfAbsent(path.toLowerCase(Locale.ROOT), path);
+                if (seen != null) {
+                    duplicateFilePaths.add(path);
+                    LOGGER.debug("Duplicate file path detected. path={} previous={}", path, seen);
+                }
+                if (fingerprints != null && isUnchangedSinceLastRun(templateData, templateName, target)) {
+                    unchangedFiles.add(path);
+                    this.templateProcessor.skip(target.toPath(), "Unchanged since the previous incremental update.");
+                    return target::getAbsoluteFile;
                 }
-                seenFiles.add(absoluteTarget.toString());
-                return this.templateProcessor.write(templateData, templateName, target);
+                return () -> {
+                    try (GenerationProfiler.Stage ignored = profiler.start("render", target.getPath())) {
+                        return this.templateProcessor.write(templateData, templateName, target);
+                    }
+                };
             } else {
                 this.templateProcessor.skip(target.toPath(), String.format(Locale.ROOT, "Skipped by %s options supplied by user.", skippedByOption));
                 return null;
@@ -1459,6 +1523,341 @@ public class DefaultGenerator implements Generator {
         }
     }
 
+    /**
+     * Returns the index of the schema usages of the document being generated. It is built on first use, and again after
+     * each phase modifying the document: normalization, inline model resolution, and the generator's preprocessing and
+     * processing of the document.
+     */
+    SpecIndex getSpecIndex() {
+        if (specIndex == null) {
+            specIndex = ModelUtils.getSpecIndex(openAPI);
+        }
+        return specIndex;
+    }
+
+    private static File toTargetFile(String outputFilename) {
+        String adjustedOutputFilename = outputFilename.replaceAll("//", "/").replace('/', File.separatorChar);
+        return new File(adjustedOutputFilename);
+    }
+
+    private void generateFile(List<File> files, String fileType, Map<String, Object> templateData, String templateName, String outputFilename, boolean shouldGenerate, String skippedByOption) throws IOException {
+        generateFile(files, fileType, templateData, templateName, outputFilename, shouldGenerate, skippedByOption, null);
+    }
+
+    /**
+     * Renders a template to a file and records it in {@code files}. When more than one render thread is configured,
+     * the render is queued instead, and submitted to the render pool and recorded by the next call to
+     * {@link #awaitRenders(List)}. Queued renders only start once the generator is done preparing the template data of
+     * the phase, so they never run while the calling thread still uses the codegen config.
+     */
+    private void generateFile(List<File> files, String fileType, Map<String, Object> templateData, String templateName, String outputFilename, boolean shouldGenerate, String skippedByOption, String intendedOutputDir) throws IOException {
+        if (!isParallelRendering()) {
+            File written = intendedOutputDir == null
+                    ? processTemplateToFile(templateData, templateName, outputFilename, shouldGenerate, skippedByOption)
+                    : processTemplateToFile(templateData, templateName, outputFilename, shouldGenerate, skippedByOption, intendedOutputDir);
+            addGeneratedFile(files, written, fileType);
+            return;
+        }
+
+        String targetPath = toTargetFile(outputFilename).getAbsolutePath();
+        if (pendingTargets.contains(targetPath)) {
+            // the same file is written twice; let the earlier write finish so the later one wins, as it does sequentially
+            awaitRenders(files);
+        }
+        TemplateWrite write = prepareTemplateToFile(withOwnLambdas(templateData), templateName, outputFilename, shouldGenerate, skippedByOption,
+                intendedOutputDir == null ? this.config.getOutputDir() : intendedOutputDir);
+        if (write != null) {
+            pendingTargets.add(targetPath);
+            pendingRenders.add(new PendingRender(targetPath, fileType, write));
+        }
+    }
+
+    /**
+     * Gives a parallel render its own mustache lambdas, so stateful ones are not shared with concurrently rendered files.
+     */
+    private Map<String, Object> withOwnLambdas(Map<String, Object> templateData) {
+        if (!(templateData.get("lambda") instanceof Map)) {
+            return templateData;
+        }
+        Map<String, Object> data = new HashMap<>(templateData);
+        data.put("lambda", config.createMustacheLambdas());
+        return data;
+    }
+
+    private void addGeneratedFile(List<File> files, File written, String fileType) {
+        if (written != null) {
+            files.add(written);
+            // files which were not rendered again have been post-processed by the run which rendered them
+            if (config.isEnablePostProcessFile() && writesToDisk && !unchangedFiles.contains(written.getAbsolutePath())) {
+                try (GenerationProfiler.Stage ignored = profiler.start("postProcessFile", fileType)) {
+                    config.postProcessFile(written, fileType);
+                }
+            }
+        }
+    }
+
+    private boolean isParallelRendering() {
+        return !dryRun && config.getRenderThreads() > 1;
+    }
+
+    private ExecutorService renderExecutor() {
+        if (renderExecutor == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            renderExecutor = Executors.newFixedThreadPool(config.getRenderThreads(), runnable -> {
+                Thread thread = new Thread(runnable, "openapi-generator-render-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return renderExecutor;
+    }
+
+    /**
+     * Submits all queued renders to the render pool, waits for them and records the written files in queue order, so
+     * {@code files} and post-processing see the same order as a sequential run.
+     */
+    void awaitRenders(List<File> files) {
+        for (PendingRender queued : pendingRenders) {
+            queued.future = renderExecutor().submit(queued.write::write);
+        }
+        PendingRender pending;
+        while ((pending = pendingRenders.poll()) != null) {
+            pendingTargets.remove(pending.target);
+            File written;
+            try {
+                written = pending.future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelRenders();
+                throw new RuntimeException("Interrupted while generating file '" + pending.target + "'", e);
+            } catch (ExecutionException e) {
+                cancelRenders();
+                throw new RuntimeException("Could not generate file '" + pending.target + "'", e.getCause());
+            }
+            addGeneratedFile(files, written, pending.fileType);
+        }
+    }
+
+    private void cancelRenders() {
+        PendingRender pending;
+        while ((pending = pendingRenders.poll()) != null) {
+            if (pending.future != null) {
+                pending.future.cancel(true);
+            }
+        }
+        pendingTargets.clear();
+    }
+
+    private void shutdownRenders() {
+        cancelRenders();
+        if (renderExecutor != null) {
+            renderExecutor.shutdownNow();
+            renderExecutor = null;
+        }
+    }
+
+    /**
+     * Loads the fingerprints recorded by the previous run when incremental updates are enabled. The generation
+     * fingerprint covers everything which applies to all files and is not part of the template data: the generator
+     * and its version, the templating engine, the user's template directory and the post-processing option.
+     */
+    private void configureIncrementalUpdate() {
+        if (!config.isEnableIncrementalUpdate()) {
+            return;
+        }
+        if (!writesToDisk) {
+            if (!dryRun) {
+                LOGGER.warn("Incremental updates require the output to be written to the local file system, all files will be generated.");
+            }
+            return;
+        }
+        Path manifest = java.nio.file.Paths.get(config.outputFolder(), METADATA_DIR, FingerprintManifest.FILENAME);
+        fingerprints = new FingerprintManifest(manifest);
+        // the generation date changes on every run and only matters for files which are rendered anyway
+        templateDataDigest = new TemplateDataDigest(Collections.singleton(config.additionalProperties().get("generatedDate")));
+        generationFingerprint = FingerprintManifest.fingerprint(
+                ImplementationVersion.read(),
+                config.getClass().getName(),
+                config.getName(),
+                config.getLibrary(),
+                config.getTemplatingEngine() == null ? null : config.getTemplatingEngine().getIdentifier(),
+                String.valueOf(config.isEnablePostProcessFile()),
+                templateDirFingerprint(config.templateDir()));
+    }
+
+    private static String templateDirFingerprint(String templateDir) {
+        if (templateDir == null || !new File(templateDir).isDirectory()) {
+            // embedded templates are covered by the generator version
+            return null;
+        }
+        Path root = java.nio.file.Paths.get(templateDir);
+        try (java.util.stream.Stream<Path> paths = Files.walk(root)) {
+            List<String> parts = new ArrayList<>();
+            for (Path path : paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList())) {
+                parts.add(root.relativize(path).toString());
+                parts.add(FingerprintManifest.fingerprint(new String(Files.readAllBytes(path), StandardCharsets.ISO_8859_1)));
+            }
+            return FingerprintManifest.fingerprint(parts.toArray(new String[0]));
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read template directory '" + templateDir + "'", e);
+        }
+    }
+
+    /**
+     * Records the fingerprint of the inputs of a file, and checks whether the previous run rendered the file from the
+     * same inputs.
+     */
+    private boolean isUnchangedSinceLastRun(Map<String, Object> templateData, String templateName, File target) {
+        String templateFingerprint = templateFingerprints.computeIfAbsent(templateName, this::templateFingerprint);
+        if (templateFingerprint.isEmpty()) {
+            return false;
+        }
+        String dataDigest;
+        try {
+            dataDigest = templateDataDigest.digest(templateData);
+        } catch (RuntimeException | StackOverflowError e) {
+            LOGGER.warn("Unable to fingerprint the data of {}, it will be generated on every run: {}", target, e.getMessage());
+            dataDigest = null;
+        }
+        if (dataDigest == null) {
+            // the file is not recorded in the manifest, so the next run generates it again as well
+            return false;
+        }
+        String fingerprint = FingerprintManifest.fingerprint(generationFingerprint, templateName, templateFingerprint, dataDigest);
+        return fingerprints.record(relativeOutputPath(target), fingerprint) && target.exists();
+    }
+
+    /**
+     * Fingerprints the contents of a template, or returns an empty string if the template can't be resolved.
+     */
+    private String templateFingerprint(String templateName) {
+        if (!(templateProcessor instanceof TemplatingExecutor)) {
+            return "";
+        }
+        TemplatingExecutor executor = (TemplatingExecutor) templateProcessor;
+        Set<String> candidates = new LinkedHashSet<>();
+        candidates.add(templateName);
+        TemplatingEngineAdapter engine = config.getTemplatingEngine();
+        if (engine != null) {
+            String baseName = FilenameUtils.removeExtension(templateName);
+            for (String extension : engine.getFileExtensions()) {
+                candidates.add(baseName + "." + extension);
+            }
+        }
+        List<String> parts = new ArrayList<>();
+        for (String candidate : candidates) {
+            try {
+                String contents = executor.getFullTemplateContents(candidate);
+                parts.add(candidate);
+                parts.add(contents);
+            } catch (TemplateNotFoundException e) {
+                // not a template of the configured engine
+            }
+        }
+        if (parts.isEmpty() || !addPartials(executor, engine, parts)) {
+            return "";
+        }
+        return FingerprintManifest.fingerprint(parts.toArray(new String[0]));
+    }
+
+    /**
+     * Adds the partials included by the templates of {@code parts} (pairs of template name and contents), and the
+     * partials these include, to {@code parts}.
+     *
+     * @return false if the partials can't be determined. Files rendered from the template are then generated on every
+     * run, as a change to a partial would go unnoticed.
+     */
+    private static boolean addPartials(TemplatingExecutor executor, TemplatingEngineAdapter engine, List<String> parts) {
+        if (!(engine instanceof MustacheEngineAdapter)) {
+            // the partials of other engines are not resolved here
+            for (int i = 1; i < parts.size(); i += 2) {
+                if (parts.get(i).contains("{{>") || parts.get(i).contains("{{#>")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        Set<String> included = new HashSet<>();
+        // parts grows with the partials found, which are scanned in turn
+        for (int i = 1; i < parts.size(); i += 2) {
+            List<String> includes = new ArrayList<>();
+            try {
+                Mustache.compiler().compile(parts.get(i)).visit(new Mustache.Visitor() {
+                    @Override
+                    public void visitText(String text) {
+                    }
+
+                    @Override
+                    public void visitVariable(String name) {
+                    }
+
+                    @Override
+                    public boolean visitInclude(String name) {
+                        includes.add(name);
+                        return false;
+                    }
+
+                    @Override
+                    public boolean visitSection(String name) {
+                        return true;
+                    }
+
+                    @Override
+                    public boolean visitInvertedSection(String name) {
+                        return true;
+                    }
+                });
+            } catch (MustacheException e) {
+                return false;
+            }
+            for (String include : includes) {
+                if (included.add(include) && !addPartial(executor, engine, include, parts)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean addPartial(TemplatingExecutor executor, TemplatingEngineAdapter engine, String name, List<String> parts) {
+        for (String extension : engine.getFileExtensions()) {
+            String templateFile = name + "." + extension;
+            try {
+                String contents = executor.getFullTemplateContents(templateFile);
+                parts.add(templateFile);
+                parts.add(contents);
+                return true;
+            } catch (TemplateNotFoundException e) {
+                // try the next extension
+            }
+        }
+        return false;
+    }
+
+    private void clearTemplateDataDigests() {
+        if (templateDataDigest != null) {
+            templateDataDigest.clear();
+        }
+    }
+
+    @FunctionalInterface
+    private interface TemplateWrite {
+        File write() throws IOException;
+    }
+
+    private static final class PendingRender {
+        private final String target;
+        private final String fileType;
+        private final TemplateWrite write;
+        private Future<File> future;
+
+        private PendingRender(String target, String fileType, TemplateWrite write) {
+            this.target = target;
+            this.fileType = fileType;
+            this.write = write;
+        }
+    }
+
     public Map<String, List<CodegenOperation>> processPaths(Paths paths) {
         Map<String, List<CodegenOperation>> ops = new TreeMap<>();
         // when input file is not valid and doesn't contain any paths
@@ -1571,7 +1970,10 @@ public class DefaultGenerator implements Generator {
                     LOGGER.info("Operation ({} {} - {}) not generated since x-internal is set to true",
                             httpMethod, resourcePath, operation.getOperationId());
                 } else {
-                    CodegenOperation codegenOperation = config.fromOperation(resourcePath, httpMethod, operation, path.getServers());
+                    CodegenOperation codegenOperation;
+                    try (GenerationProfiler.Stage ignored = profiler.start("fromOperation", httpMethod + " " + resourcePath)) {
+                        codegenOperation = config.fromOperation(resourcePath, httpMethod, operation, path.getServers());
+                    }
                     codegenOperation.tags = new ArrayList<>(tags);
                     config.addOperationToGroup(config.sanitizeTag(tag.getName()), resourcePath, operation, codegenOperation, operations);
 
@@ -1652,7 +2054,9 @@ public class DefaultGenerator implements Generator {
             operations.put("hasImport", true);
         }
 
-        config.postProcessOperationsWithModels(operations, allModels);
+        try (GenerationProfiler.Stage ignored = profiler.start("postProcessOperationsWithModels", tag)) {
+            config.postProcessOperationsWithModels(operations, allModels);
+        }
         return operations;
     }
 
@@ -1696,7 +2100,9 @@ public class DefaultGenerator implements Generator {
             operations.put("hasImport", true);
         }
 
-        config.postProcessWebhooksWithModels(operations, allModels);
+        try (GenerationProfiler.Stage ignored = profiler.start("postProcessWebhooksWithModels", tag)) {
+            config.postProcessWebhooksWithModels(operations, allModels);
+        }
         return operations;
     }
 
@@ -1752,7 +2158,10 @@ public class DefaultGenerator implements Generator {
                 LOGGER.warn("Schema {} cannot be null in processModels", key);
                 continue;
             }
-            CodegenModel cm = config.fromModel(key, schema);
+            CodegenModel cm;
+            try (GenerationProfiler.Stage ignored = profiler.start("fromModel", key)) {
+                cm = config.fromModel(key, schema);
+            }
             ModelMap mo = new ModelMap();
             mo.setModel(cm);
             mo.put("importPath", config.toModelImport(cm.classname));
@@ -1785,7 +2194,9 @@ public class DefaultGenerator implements Generator {
             imports.add(item);
         }
         objs.setImports(imports);
-        config.postProcessModels(objs);
+        try (GenerationProfiler.Stage ignored = profiler.start("postProcessModels")) {
+            config.postProcessModels(objs);
+        }
         return objs;
     }
 
@@ -1941,7 +2352,7 @@ public class DefaultGenerator implements Generator {
                 File written = this.templateProcessor.writeToFile(versionMetadata, (ImplementationVersion.read() + "\n").getBytes(StandardCharsets.UTF_8));
                 if (written != null) {
                     files.add(versionMetadataFile);
-                    if (config.isEnablePostProcessFile() && !dryRun) {
+                    if (config.isEnablePostProcessFile() && writesToDisk) {
                         config.postProcessFile(written, "openapi-generator-version");
                     }
                 }
@@ -1970,34 +2381,19 @@ public class DefaultGenerator implements Generator {
             try {
                 StringBuilder sb = new StringBuilder();
                 Path outDir = absPath(new File(this.config.getOutputDir()));
+                // NOTE: Don't use File.separator here as we write linux-style paths to FILES, and File.separator will
+                // result in incorrect match on Windows machines.
+                String relativeMeta = METADATA_DIR + "/VERSION";
 
-                List<File> filesToSort = new ArrayList<>();
-
+                final List<String> relativePaths = new ArrayList<>(files.size());
                 // Avoid side-effecting sort in this path when generateMetadata=true
                 files.forEach(f -> {
                     // We have seen NPE on CI for getPath() returning null, so guard against this (to be fixed in 5.0 template management refactor)
                     //noinspection ConstantConditions
-                    if (f != null && f.getPath() != null) {
-                        filesToSort.add(outDir.relativize(absPath(f)).normalize().toFile());
-                    }
-                });
-
-                // NOTE: Don't use File.separator here as we write linux-style paths to FILES, and File.separator will
-                // result in incorrect match on Windows machines.
-                String relativeMeta = METADATA_DIR + "/VERSION";
-
-                final List<String> relativePaths = new ArrayList<>(filesToSort.size());
-                filesToSort.forEach(f -> {
-                    // some Java implementations don't honor .relativize documentation fully.
-                    // When outDir is /a/b and the input is /a/b/c/d, the result should be c/d.
-                    // Some implementations make the output ./c/d which seems to mix the logic
-                    // as documented for symlinks. So we need to trim any / or ./ from the start,
-                    // as nobody should be generating into system root and our expectation is no ./
-                    String relativePath = removeStart(removeStart(f.toString(), "." + File.separator), File.separator);
-                    if (File.separator.equals("\\")) {
-                        // ensure that windows outputs same FILES format
-                        relativePath = relativePath.replace(File.separator, "/");
+                    if (f == null || f.getPath() == null) {
+                        return;
                     }
+                    String relativePath = relativeOutputPath(outDir, f);
                     if (!relativePath.equals(relativeMeta)) {
                         relativePaths.add(relativePath);
                     }
@@ -2020,6 +2416,48 @@ public class DefaultGenerator implements Generator {
         }
     }
 
+    private String relativeOutputPath(File file) {
+        return relativeOutputPath(absPath(new File(this.config.getOutputDir())), file);
+    }
+
+    /**
+     * Returns the linux-style path of a generated file relative to the output directory, as written to the metadata files.
+     */
+    private String relativeOutputPath(Path outDir, File file) {
+        // some Java implementations don't honor .relativize documentation fully.
+        // When outDir is /a/b and the input is /a/b/c/d, the result should be c/d.
+        // Some implementations make the output ./c/d which seems to mix the logic
+        // as documented for symlinks. So we need to trim any / or ./ from the start,
+        // as nobody should be generating into system root and our expectation is no ./
+        String relativePath = removeStart(removeStart(outDir.relativize(absPath(file)).normalize().toString(), "." + File.separator), File.separator);
+        if (File.separator.equals("\\")) {
+            // ensure that windows outputs same FILES format
+            relativePath = relativePath.replace(File.separator, "/");
+        }
+        return relativePath;
+    }
+
+    /**
+     * Generates a file at .openapi-generator/FINGERPRINTS holding the fingerprints of the inputs of the files generated
+     * by an incremental update, so that the next incremental update only renders the files whose inputs have changed.
+     *
+     * @param files The list tracking generated files
+     */
+    private void generateFingerprintsMetadata(List<File> files) {
+        if (fingerprints == null) {
+            return;
+        }
+        String targetFile = config.outputFolder() + File.separator + METADATA_DIR + File.separator + FingerprintManifest.FILENAME;
+        try {
+            File written = this.templateProcessor.writeToFile(targetFile, fingerprints.serialize().getBytes(StandardCharsets.UTF_8));
+            if (written != null) {
+                files.add(written);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write FINGERPRINTS metadata, the next incremental update will generate all files.", e);
+        }
+    }
+
     private String removeTrailingSlash(String value) {
         return StringUtils.removeEnd(value, "/");
     }
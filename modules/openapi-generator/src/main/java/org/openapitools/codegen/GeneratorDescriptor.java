@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import org.openapitools.codegen.meta.Stability;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Describes a generator registered in the {@link GeneratorRegistry}, without instantiating its {@link CodegenConfig}.
+ */
+public final class GeneratorDescriptor {
+    private final String name;
+    private final String className;
+    private final CodegenType tag;
+    private final Stability stability;
+
+    GeneratorDescriptor(String name, String className, CodegenType tag, Stability stability) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.className = Objects.requireNonNull(className, "className");
+        this.tag = tag;
+        this.stability = stability;
+    }
+
+    static GeneratorDescriptor of(CodegenConfig config) {
+        Stability stability = config.getGeneratorMetadata() == null ? null : config.getGeneratorMetadata().getStability();
+        return new GeneratorDescriptor(config.getName(), config.getClass().getName(), config.getTag(), stability);
+    }
+
+    /**
+     * @return the name of the generator, as passed to {@link CodegenConfigLoader#forName(String)}
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the fully qualified name of the {@link CodegenConfig} implementing the generator
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * @return the type of the generator, or null if it doesn't specify one
+     */
+    public CodegenType getTag() {
+        return tag;
+    }
+
+    /**
+     * @return the stability of the generator, or null if it doesn't specify one
+     */
+    public Stability getStability() {
+        return stability;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GeneratorDescriptor that = (GeneratorDescriptor) o;
+        return name.equals(that.name) && className.equals(that.className) && tag == that.tag && stability == that.stability;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, className, tag, stability);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%s (%s, %s, %s)", name, className, tag, stability);
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import org.openapitools.codegen.meta.Stability;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Looks up generators by name, instantiating only the requested {@link CodegenConfig}.
+ * <p>
+ * The generators are those registered as {@link java.util.ServiceLoader} providers of {@link CodegenConfig}. Their
+ * names and metadata are read from the index written at build time by {@link #main(String[])}; only providers which
+ * are missing from an index, e.g. custom generators on the classpath, are instantiated to find out their names.
+ */
+public final class GeneratorRegistry {
+    static final String INDEX = "META-INF/openapi-generator/generators.index";
+    private static final String SERVICES = "META-INF/services/" + CodegenConfig.class.getName();
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GeneratorRegistry.class);
+
+    private static final GeneratorRegistry DEFAULT = new GeneratorRegistry(CodegenConfig.class.getClassLoader());
+
+    private final ClassLoader classLoader;
+    private volatile Map<String, GeneratorDescriptor> generators;
+
+    GeneratorRegistry(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * @return the registry of the generators visible to the class loader of {@link CodegenConfig}
+     */
+    public static GeneratorRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * @param name the name of a generator
+     * @return the generator with the given name, or null if none is registered
+     */
+    public GeneratorDescriptor find(String name) {
+        return generators().get(name);
+    }
+
+    /**
+     * @return all registered generators, in registration order
+     */
+    public List<GeneratorDescriptor> getAll() {
+        return new ArrayList<>(generators().values());
+    }
+
+    /**
+     * @param generator a registered generator
+     * @return a new instance of the generator's config
+     */
+    public CodegenConfig newInstance(GeneratorDescriptor generator) {
+        try {
+            return (CodegenConfig) Class.forName(generator.getClassName(), true, classLoader).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new GeneratorNotFoundException("Can't instantiate generator '" + generator.getName() + "' (" + generator.getClassName() + ")", e);
+        }
+    }
+
+    private Map<String, GeneratorDescriptor> generators() {
+        Map<String, GeneratorDescriptor> result = generators;
+        if (result == null) {
+            synchronized (this) {
+                result = generators;
+                if (result == null) {
+                    result = Collections.unmodifiableMap(load());
+                    generators = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private Map<String, GeneratorDescriptor> load() {
+        Map<String, GeneratorDescriptor> indexed = new HashMap<>();
+        for (String line : readResources(INDEX)) {
+            GeneratorDescriptor generator = parse(line);
+            indexed.putIfAbsent(generator.getClassName(), generator);
+        }
+
+        // as with ServiceLoader, the first generator registered under a name wins
+        Map<String, GeneratorDescriptor> result = new LinkedHashMap<>();
+        for (String className : new LinkedHashSet<>(readResources(SERVICES))) {
+            GeneratorDescriptor generator = indexed.get(className);
+            if (generator == null) {
+                generator = describe(className);
+            }
+            if (generator != null) {
+                result.putIfAbsent(generator.getName(), generator);
+            }
+        }
+        LOGGER.debug("Registered {} generators, {} of them from the index", result.size(), indexed.size());
+        return result;
+    }
+
+    private GeneratorDescriptor describe(String className) {
+        try {
+            CodegenConfig config = (CodegenConfig) Class.forName(className, true, classLoader).getDeclaredConstructor().newInstance();
+            return GeneratorDescriptor.of(config);
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+            LOGGER.warn("Skipping generator {}, it can't be instantiated: {}", className, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * @return the non-empty, non-comment lines of all resources with the given name
+     */
+    private List<String> readResources(String name) {
+        List<String> lines = new ArrayList<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(name);
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        int comment = line.indexOf('#');
+                        line = (comment < 0 ? line : line.substring(0, comment)).trim();
+                        if (!line.isEmpty()) {
+                            lines.add(line);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read " + name, e);
+        }
+        return lines;
+    }
+
+    static String format(GeneratorDescriptor generator) {
+        return String.join("\t",
+                generator.getName(),
+                generator.getClassName(),
+                generator.getTag() == null ? "" : generator.getTag().name(),
+                generator.getStability() == null ? "" : generator.getStability().name());
+    }
+
+    static GeneratorDescriptor parse(String line) {
+        String[] fields = line.split("\t", -1);
+        if (fields.length != 4) {
+            throw new IllegalArgumentException("Invalid generator index entry: " + line);
+        }
+        return new GeneratorDescriptor(fields[0], fields[1],
+                fields[2].isEmpty() ? null : CodegenType.valueOf(fields[2]),
+                fields[3].isEmpty() ? null : Stability.valueOf(fields[3]));
+    }
+
+    /**
+     * Writes the index of the generators registered on the classpath, run by the build once the classes are compiled.
+     *
+     * @param args the path of the index to write
+     * @throws IOException if the index can't be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: GeneratorRegistry <index file>");
+        }
+        GeneratorRegistry registry = new GeneratorRegistry(GeneratorRegistry.class.getClassLoader());
+        Path index = Paths.get(args[0]);
+        Files.createDirectories(index.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(index, StandardCharsets.UTF_8)) {
+            writer.write("# name\tclass\ttype\tstability\n");
+            for (String className : new LinkedHashSet<>(registry.readResources(SERVICES))) {
+                GeneratorDescriptor generator = registry.describe(className);
+                if (generator == null) {
+                    throw new IllegalStateException("Unable to index generator " + className);
+                }
+                writer.write(format(generator));
+                writer.write('\n');
+            }
+        }
+    }
+}
@@ -17,11 +17,6 @@
 
 package org.openapitools.codegen;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
-import com.fasterxml.jackson.databind.MapperFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.*;
 import io.swagger.v3.oas.models.PathItem.HttpMethod;
 import io.swagger.v3.oas.models.callbacks.Callback;
@@ -40,7 +35,8 @@ import java.util.*;
 public class InlineModelResolver {
     private OpenAPI openAPI;
     private Map<String, Schema> addedModels = new HashMap<>();
-    private Map<String, String> generatedSignature = new HashMap<>();
+    // structural fingerprints of the schemas moved to the components, taken when they were moved
+    private Map<SchemaFingerprint, String> generatedSignature = new HashMap<>();
     private Map<String, String> inlineSchemaNameMapping = new HashMap<>();
     private Map<String, String> inlineSchemaOptions = new HashMap<>();
     private Set<String> inlineSchemaNameMappingValues = new HashSet<>();
@@ -48,19 +44,9 @@ public class InlineModelResolver {
     public boolean skipSchemaReuse = false; // skip reusing inline schema if set to true
     public Boolean refactorAllOfInlineSchemas = null; // refactor allOf inline schemas into $ref
 
-    // structure mapper sorts properties alphabetically on write to ensure models are
-    // serialized consistently for lookup of existing models
-    private static ObjectMapper structureMapper;
-
     // a set to keep track of names generated for inline schemas
     private Set<String> uniqueNames = new HashSet<>();
 
-    static {
-        structureMapper = Json.mapper().copy();
-        structureMapper.configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true);
-        structureMapper.writer(new DefaultPrettyPrinter());
-    }
-
     final Logger LOGGER = LoggerFactory.getLogger(InlineModelResolver.class);
 
     public InlineModelResolver() {
@@ -94,7 +80,12 @@ public class InlineModelResolver {
         }
     }
 
-    void flatten(OpenAPI openAPI) {
+    /**
+     * Moves the inline schemas of the document to its components, replacing them with references.
+     *
+     * @param openAPI the document, which is modified in place
+     */
+    public void flatten(OpenAPI openAPI) {
         this.openAPI = openAPI;
 
         if (this.openAPI.getComponents() == null) {
@@ -753,24 +744,29 @@ public class InlineModelResolver {
             return null;
         }
 
-        try {
-            String json = structureMapper.writeValueAsString(model);
-            if (generatedSignature.containsKey(json)) {
-                return generatedSignature.get(json);
-            }
-        } catch (JsonProcessingException e) {
-            e.printStackTrace();
+        SchemaFingerprint fingerprint = SchemaFingerprint.of(model);
+        String name = fingerprint == null ? null : generatedSignature.get(fingerprint);
+        if (name == null) {
+            return null;
         }
 
+        // rule out a hash collision. A generated schema which no longer has the fingerprint it was registered with
+        // has been flattened since, so the match against its original structure is kept, as it was when schemas were
+        // compared by their serialized JSON.
+        Schema generated = openAPI.getComponents().getSchemas() == null ? null : openAPI.getComponents().getSchemas().get(name);
+        if (generated == null || SchemaFingerprint.structurallyEqual(model, generated) || !fingerprint.equals(SchemaFingerprint.of(generated))) {
+            return name;
+        }
+        LOGGER.debug("Schema fingerprint {} of {} collides with a different schema", fingerprint, name);
         return null;
     }
 
     private void addGenerated(String name, Schema model) {
-        try {
-            String json = structureMapper.writeValueAsString(model);
-            generatedSignature.put(json, name);
-        } catch (JsonProcessingException e) {
-            e.printStackTrace();
+        SchemaFingerprint fingerprint = SchemaFingerprint.of(model);
+        if (fingerprint != null) {
+            generatedSignature.put(fingerprint, name);
+        } else {
+            LOGGER.warn("Schema {} is nested too deeply to be reused for equal inline schemas", name);
         }
     }
 
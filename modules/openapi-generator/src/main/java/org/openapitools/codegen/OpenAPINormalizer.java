@@ -307,7 +307,7 @@ public class OpenAPINormalizer {
      * Normalizes the OpenAPI input, which may not perfectly conform to
      * the specification.
      */
-    void normalize() {
+    public void normalize() {
         if (rules == null || rules.isEmpty() || disableAll) {
             return;
         }
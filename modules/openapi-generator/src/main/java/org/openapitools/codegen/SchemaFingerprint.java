@@ -0,0 +1,347 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.lang.reflect.Array;
+import java.util.*;
+
+/**
+ * A 128-bit structural fingerprint of a schema, used by {@link InlineModelResolver} to find inline schemas which are
+ * equal to a schema it has already moved to the components.
+ * <p>
+ * The fingerprint is computed by walking the schema the way Jackson serializes it with {@link Json#mapper()}: the same
+ * properties (including vendor extensions) with null values left out, and map entries in insertion order. Two schemas
+ * which serialize to the same JSON therefore have the same fingerprint, without any JSON being written.
+ * {@link #structurallyEqual(Object, Object)} compares two schemas by the same rules, to rule out hash collisions.
+ */
+final class SchemaFingerprint {
+    // deeper schemas are most likely cyclic, which Jackson couldn't serialize either
+    private static final int MAX_DEPTH = 512;
+
+    private static final ObjectMapper MAPPER = Json.mapper();
+
+    // serialized properties of a class, sorted by name, followed by the "any getter" for vendor extensions if present
+    private static final ClassValue<List<Map.Entry<String, AnnotatedMember>>> PROPERTIES = new ClassValue<List<Map.Entry<String, AnnotatedMember>>>() {
+        @Override
+        protected List<Map.Entry<String, AnnotatedMember>> computeValue(Class<?> type) {
+            BeanDescription description = MAPPER.getSerializationConfig().introspect(MAPPER.constructType(type));
+            SortedMap<String, AnnotatedMember> properties = new TreeMap<>();
+            for (BeanPropertyDefinition property : description.findProperties()) {
+                if (property.couldSerialize() && property.getAccessor() != null) {
+                    properties.put(property.getName(), property.getAccessor());
+                }
+            }
+            List<Map.Entry<String, AnnotatedMember>> result = new ArrayList<>(properties.entrySet());
+            AnnotatedMember anyGetter = description.findAnyGetter();
+            if (anyGetter != null) {
+                result.add(new AbstractMap.SimpleImmutableEntry<>("", anyGetter));
+            }
+            return result;
+        }
+    };
+
+    private final long high;
+    private final long low;
+
+    private SchemaFingerprint(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Computes the fingerprint of a schema.
+     *
+     * @param schema the schema
+     * @return the fingerprint, or null if the schema is nested too deeply (e.g. because it is cyclic)
+     */
+    static SchemaFingerprint of(Schema schema) {
+        Hasher hasher = new Hasher();
+        if (!hasher.value(schema, 0)) {
+            return null;
+        }
+        return hasher.finish();
+    }
+
+    /**
+     * Compares two schemas (or any of the values they hold) by the rules used for their fingerprints.
+     *
+     * @return true if both values would be serialized to the same JSON
+     */
+    static boolean structurallyEqual(Object a, Object b) {
+        return equal(a, b, 0);
+    }
+
+    private static boolean equal(Object a, Object b, int depth) {
+        if (a == b) {
+            return true;
+        }
+        if (a == null || b == null || depth > MAX_DEPTH || kind(a) != kind(b)) {
+            return false;
+        }
+        switch (kind(a)) {
+            case SCALAR:
+                return scalar(a).equals(scalar(b));
+            case MAP: {
+                Map<?, ?> left = (Map<?, ?>) a;
+                Map<?, ?> right = (Map<?, ?>) b;
+                if (left.size() != right.size()) {
+                    return false;
+                }
+                Iterator<? extends Map.Entry<?, ?>> rightEntries = right.entrySet().iterator();
+                for (Map.Entry<?, ?> entry : left.entrySet()) {
+                    Map.Entry<?, ?> other = rightEntries.next();
+                    if (!String.valueOf(entry.getKey()).equals(String.valueOf(other.getKey()))
+                            || !equal(entry.getValue(), other.getValue(), depth + 1)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            case SEQUENCE: {
+                List<Object> left = sequence(a);
+                List<Object> right = sequence(b);
+                if (left.size() != right.size()) {
+                    return false;
+                }
+                for (int i = 0; i < left.size(); i++) {
+                    if (!equal(left.get(i), right.get(i), depth + 1)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            default: {
+                Map<String, Object> left = beanProperties(a);
+                Map<String, Object> right = beanProperties(b);
+                if (!left.keySet().equals(right.keySet())) {
+                    return false;
+                }
+                for (Map.Entry<String, Object> entry : left.entrySet()) {
+                    if (!equal(entry.getValue(), right.get(entry.getKey()), depth + 1)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+    }
+
+    private enum Kind {SCALAR, MAP, SEQUENCE, BEAN}
+
+    private static Kind kind(Object value) {
+        if (value instanceof Map) {
+            return Kind.MAP;
+        }
+        if (value instanceof Collection || value.getClass().isArray() && !value.getClass().getComponentType().isPrimitive()) {
+            return Kind.SEQUENCE;
+        }
+        if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum || value instanceof JsonNode || value.getClass().isArray()
+                || value.getClass().getName().startsWith("java.")) {
+            return Kind.SCALAR;
+        }
+        return Kind.BEAN;
+    }
+
+    /**
+     * Returns a scalar prefixed with its kind, so that e.g. the number 1 and the string "1" differ.
+     */
+    private static String scalar(Object value) {
+        if (value instanceof CharSequence || value instanceof Character || value instanceof Enum) {
+            return "s:" + value;
+        }
+        if (value instanceof Number) {
+            return "n:" + value;
+        }
+        if (value instanceof Boolean) {
+            return "b:" + value;
+        }
+        if (!value.getClass().isArray()) {
+            return "o:" + value;
+        }
+        StringJoiner joiner = new StringJoiner(",", "a:[", "]");
+        for (int i = 0; i < Array.getLength(value); i++) {
+            joiner.add(String.valueOf(Array.get(value, i)));
+        }
+        return joiner.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> sequence(Object value) {
+        if (value instanceof List) {
+            return (List<Object>) value;
+        }
+        if (value instanceof Collection) {
+            return new ArrayList<>((Collection<Object>) value);
+        }
+        List<Object> items = new ArrayList<>(Array.getLength(value));
+        for (int i = 0; i < Array.getLength(value); i++) {
+            items.add(Array.get(value, i));
+        }
+        return items;
+    }
+
+    /**
+     * Returns the non-null serialized properties of a bean, with vendor extensions flattened into them as Jackson does.
+     */
+    private static Map<String, Object> beanProperties(Object bean) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Map.Entry<String, AnnotatedMember> property : PROPERTIES.get(bean.getClass())) {
+            Object value = property.getValue().getValue(bean);
+            if (property.getKey().isEmpty()) {
+                if (value instanceof Map) {
+                    ((Map<?, ?>) value).forEach((k, v) -> {
+                        if (v != null) {
+                            values.put(String.valueOf(k), v);
+                        }
+                    });
+                }
+            } else if (value != null) {
+                values.put(property.getKey(), value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Two independent 64-bit lanes of a multiply-rotate hash, finished with the MurmurHash3 mix.
+     */
+    private static final class Hasher {
+        private long h1 = 0x243F6A8885A308D3L;
+        private long h2 = 0x13198A2E03707344L;
+
+        private void add(long v) {
+            h1 = Long.rotateLeft(h1 ^ v, 31) * 0x9E3779B97F4A7C15L;
+            h2 = Long.rotateLeft(h2 + v, 27) * 0xC2B2AE3D27D4EB4FL + 0x52DCE729L;
+        }
+
+        private void add(String s) {
+            add(s.length());
+            for (int i = 0; i < s.length(); i++) {
+                add(s.charAt(i));
+            }
+        }
+
+        private boolean value(Object value, int depth) {
+            if (depth > MAX_DEPTH) {
+                return false;
+            }
+            if (value == null) {
+                add(0);
+                return true;
+            }
+            switch (kind(value)) {
+                case SCALAR:
+                    add(1);
+                    add(scalar(value));
+                    return true;
+                case MAP: {
+                    Map<?, ?> map = (Map<?, ?>) value;
+                    add(2);
+                    add(map.size());
+                    for (Map.Entry<?, ?> entry : map.entrySet()) {
+                        add(String.valueOf(entry.getKey()));
+                        if (!value(entry.getValue(), depth + 1)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }
+                case SEQUENCE: {
+                    List<Object> items = sequence(value);
+                    add(3);
+                    add(items.size());
+                    for (Object item : items) {
+                        if (!value(item, depth + 1)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }
+                default: {
+                    add(4);
+                    int count = 0;
+                    for (Map.Entry<String, AnnotatedMember> property : PROPERTIES.get(value.getClass())) {
+                        Object propertyValue = property.getValue().getValue(value);
+                        if (property.getKey().isEmpty() && propertyValue instanceof Map) {
+                            for (Map.Entry<?, ?> extension : ((Map<?, ?>) propertyValue).entrySet()) {
+                                if (extension.getValue() != null) {
+                                    count++;
+                                    add(String.valueOf(extension.getKey()));
+                                    if (!value(extension.getValue(), depth + 1)) {
+                                        return false;
+                                    }
+                                }
+                            }
+                        } else if (!property.getKey().isEmpty() && propertyValue != null) {
+                            count++;
+                            add(property.getKey());
+                            if (!value(propertyValue, depth + 1)) {
+                                return false;
+                            }
+                        }
+                    }
+                    add(count);
+                    return true;
+                }
+            }
+        }
+
+        private SchemaFingerprint finish() {
+            return new SchemaFingerprint(mix(h1 ^ h2 >>> 1), mix(h2 + h1));
+        }
+
+        private static long mix(long k) {
+            k ^= k >>> 33;
+            k *= 0xFF51AFD7ED558CCDL;
+            k ^= k >>> 33;
+            k *= 0xC4CEB9FE1A85EC53L;
+            k ^= k >>> 33;
+            return k;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SchemaFingerprint)) {
+            return false;
+        }
+        SchemaFingerprint that = (SchemaFingerprint) o;
+        return high == that.high && low == that.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(high ^ low);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%016x%016x", high, low);
+    }
+}
@@ -2,10 +2,12 @@ package org.openapitools.codegen;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.openapitools.codegen.api.OutputSink;
 import org.openapitools.codegen.api.TemplatePathLocator;
 import org.openapitools.codegen.api.TemplateProcessor;
 import org.openapitools.codegen.api.TemplatingEngineAdapter;
 import org.openapitools.codegen.api.TemplatingExecutor;
+import org.openapitools.codegen.templating.FileSystemOutputSink;
 import org.openapitools.codegen.templating.TemplateManagerOptions;
 import org.openapitools.codegen.templating.TemplateNotFoundException;
 import org.slf4j.Logger;
@@ -13,10 +15,8 @@ import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
@@ -30,6 +30,7 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
     private final TemplateManagerOptions options;
     private final TemplatingEngineAdapter engineAdapter;
     private final TemplatePathLocator[] templateLoaders;
+    private final OutputSink outputSink;
 
     private final Logger LOGGER = LoggerFactory.getLogger(TemplateManager.class);
 
@@ -44,9 +45,26 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
             TemplateManagerOptions options,
             TemplatingEngineAdapter engineAdapter,
             TemplatePathLocator[] templateLoaders) {
+        this(options, engineAdapter, templateLoaders, new FileSystemOutputSink());
+    }
+
+    /**
+     * Constructs a new instance of a {@link TemplateManager} writing to the specified {@link OutputSink}
+     *
+     * @param options         The {@link TemplateManagerOptions} for reading and writing templates
+     * @param engineAdapter   The adaptor to underlying templating engine
+     * @param templateLoaders Loaders which define where we look for templates
+     * @param outputSink      The target of the written files
+     */
+    public TemplateManager(
+            TemplateManagerOptions options,
+            TemplatingEngineAdapter engineAdapter,
+            TemplatePathLocator[] templateLoaders,
+            OutputSink outputSink) {
         this.options = options;
         this.engineAdapter = engineAdapter;
         this.templateLoaders = templateLoaders;
+        this.outputSink = outputSink;
     }
 
     private String getFullTemplateFile(String name) {
@@ -213,55 +231,30 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
     @Override
     public File writeToFile(String filename, byte[] contents) throws IOException {
         // Use Paths.get here to normalize path (for Windows file separator, space escaping on Linux/Mac, etc)
-        File outputFile = Paths.get(filename).toFile();
+        Path output = Paths.get(filename);
 
         if (this.options.isMinimalUpdate()) {
-            String tempFilename = filename + ".tmp";
-            File tempFile = null;
-            try {
-                tempFile = writeToFileRaw(tempFilename, contents);
-                if (!filesEqual(tempFile, outputFile)) {
-                    LOGGER.info("writing file {}", filename);
-                    Files.move(tempFile.toPath(), outputFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
-                    tempFile = null;
-                } else {
-                    LOGGER.info("skipping unchanged file {}", filename);
-                }
-            } finally {
-                if (tempFile != null && tempFile.exists()) {
-                    try {
-                        Files.delete(tempFile.toPath());
-                    } catch (Exception ex) {
-                        LOGGER.error("Error removing temporary file {}", tempFile, ex);
-                    }
-                }
+            // a changed file is replaced even when skipping overwrites, as only its contents are evaluated
+            if (!Arrays.equals(outputSink.read(output), contents)) {
+                LOGGER.info("writing file {}", filename);
+                outputSink.write(output, contents);
+            } else {
+                LOGGER.info("skipping unchanged file {}", filename);
             }
+        } else if (this.options.isSkipOverwrite() && outputSink.exists(output)) {
+            LOGGER.info("skip overwrite of file {}", filename);
         } else {
             LOGGER.info("writing file {}", filename);
-            outputFile = writeToFileRaw(filename, contents);
+            outputSink.write(output, contents);
         }
 
-        return outputFile;
+        return output.toFile();
     }
 
-    private File writeToFileRaw(String filename, byte[] contents) throws IOException {
-        // Use Paths.get here to normalize path (for Windows file separator, space escaping on Linux/Mac, etc)
-        File output = Paths.get(filename).toFile();
-        if (this.options.isSkipOverwrite() && output.exists()) {
-            LOGGER.info("skip overwrite of file {}", filename);
-            return output;
-        }
-
-        if (output.getParent() != null && !new File(output.getParent()).exists()) {
-            File parent = Paths.get(output.getParent()).toFile();
-            parent.mkdirs();
-        }
-        Files.write(output.toPath(), contents);
-
-        return output;
-    }
-
-    private boolean filesEqual(File file1, File file2) throws IOException {
-        return file1.exists() && file2.exists() && Arrays.equals(Files.readAllBytes(file1.toPath()), Files.readAllBytes(file2.toPath()));
+    /**
+     * @return The target of the written files
+     */
+    public OutputSink getOutputSink() {
+        return outputSink;
     }
 }
@@ -34,12 +34,14 @@ import org.openapitools.codegen.*;
 import org.openapitools.codegen.api.TemplateDefinition;
 import org.openapitools.codegen.api.TemplatingEngineAdapter;
 import org.openapitools.codegen.auth.AuthParser;
+import org.openapitools.codegen.profiling.GenerationProfiler;
 import org.openapitools.codegen.utils.ModelUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.*;
 
 import static org.apache.commons.lang3.StringUtils.isEmpty;
@@ -357,6 +359,21 @@ public class CodegenConfigurator {
         return this;
     }
 
+    public CodegenConfigurator setEnableIncrementalUpdate(boolean enableIncrementalUpdate) {
+        workflowSettingsBuilder.withEnableIncrementalUpdate(enableIncrementalUpdate);
+        return this;
+    }
+
+    public CodegenConfigurator setRenderThreads(int renderThreads) {
+        workflowSettingsBuilder.withRenderThreads(renderThreads);
+        return this;
+    }
+
+    public CodegenConfigurator setProfile(String profile) {
+        workflowSettingsBuilder.withProfile(profile);
+        return this;
+    }
+
     public CodegenConfigurator setEnablePostProcessFile(boolean enablePostProcessFile) {
         workflowSettingsBuilder.withEnablePostProcessFile(enablePostProcessFile);
         return this;
@@ -741,7 +758,13 @@ public class CodegenConfigurator {
     }
 
     public ClientOptInput toClientOptInput() {
-        Context<?> context = toContext();
+        // the profiler must exist before the spec is parsed, so it's taken from the settings as they are before parsing
+        String profile = workflowSettingsBuilder.build().getProfile();
+        GenerationProfiler profiler = isEmpty(profile) ? GenerationProfiler.disabled() : new GenerationProfiler(Paths.get(profile));
+        Context<?> context;
+        try (GenerationProfiler.Stage ignored = profiler.start("parse")) {
+            context = toContext();
+        }
         WorkflowSettings workflowSettings = context.getWorkflowSettings();
         GeneratorSettings generatorSettings = context.getGeneratorSettings();
 
@@ -762,6 +785,8 @@ public class CodegenConfigurator {
         config.setSkipOperationExample(workflowSettings.isSkipOperationExample());
         config.setEnablePostProcessFile(workflowSettings.isEnablePostProcessFile());
         config.setEnableMinimalUpdate(workflowSettings.isEnableMinimalUpdate());
+        config.setEnableIncrementalUpdate(workflowSettings.isEnableIncrementalUpdate());
+        config.setRenderThreads(workflowSettings.getRenderThreads());
         config.setStrictSpecBehavior(workflowSettings.isStrictSpecBehavior());
 
         TemplatingEngineAdapter templatingEngine = TemplatingEngineLoader.byIdentifier(workflowSettings.getTemplatingEngineName());
@@ -806,7 +831,8 @@ public class CodegenConfigurator {
         ClientOptInput input = new ClientOptInput()
                 .config(config)
                 .generatorSettings(generatorSettings)
-                .userDefinedTemplates(userDefinedTemplates);
+                .userDefinedTemplates(userDefinedTemplates)
+                .profiler(profiler);
 
         return input.openAPI((OpenAPI) context.getSpecDocument());
     }
@@ -1,11 +1,11 @@
 package org.openapitools.codegen.config;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.google.common.collect.ImmutableMap;
-import io.swagger.parser.OpenAPIParser;
-import io.swagger.v3.oas.models.OpenAPI;
-import io.swagger.v3.parser.core.models.ParseOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,6 +22,8 @@ import java.util.stream.Stream;
 public class MergedSpecBuilder {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MergedSpecBuilder.class);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final JsonFactory YAML_FACTORY = new YAMLFactory();
 
     private final String inputSpecRootDirectory;
     private final String mergeFileName;
@@ -39,30 +41,18 @@ public class MergedSpecBuilder {
         }
         LOGGER.info("In spec root directory {} found specs {}", inputSpecRootDirectory, specRelatedPaths);
 
+        // the specs are only scanned for their paths, they are parsed and resolved once, as part of the merged spec
+        List<SpecWithPaths> allPaths = specRelatedPaths.parallelStream()
+                .map(this::scanSpec)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
         String openapiVersion = null;
         boolean isJson = false;
-        ParseOptions options = new ParseOptions();
-        options.setResolve(true);
-        List<SpecWithPaths> allPaths = new ArrayList<>();
-
-        for (String specRelatedPath : specRelatedPaths) {
-            String specPath = inputSpecRootDirectory + File.separator + specRelatedPath;
-            try {
-                LOGGER.info("Reading spec: {}", specPath);
-
-                OpenAPI result = new OpenAPIParser()
-                        .readLocation(specPath, new ArrayList<>(), options)
-                        .getOpenAPI();
-
-                if (openapiVersion == null) {
-                    openapiVersion = result.getOpenapi();
-                    if (specRelatedPath.toLowerCase(Locale.ROOT).endsWith(".json")) {
-                        isJson = true;
-                    }
-                }
-                allPaths.add(new SpecWithPaths(specRelatedPath, result.getPaths().keySet()));
-            } catch (Exception e) {
-                LOGGER.error("Failed to read file: {}. It would be ignored", specPath);
+        for (SpecWithPaths spec : allPaths) {
+            if (openapiVersion == null) {
+                openapiVersion = spec.openapiVersion;
+                isJson = isJson || isJson(spec.specRelatedPath);
             }
         }
 
@@ -80,6 +70,57 @@ public class MergedSpecBuilder {
         return mergedFilePath.toString();
     }
 
+    private SpecWithPaths scanSpec(String specRelatedPath) {
+        String specPath = inputSpecRootDirectory + File.separator + specRelatedPath;
+        try {
+            LOGGER.info("Reading spec: {}", specPath);
+            return scan(new File(specPath), specRelatedPath);
+        } catch (Exception e) {
+            LOGGER.error("Failed to read file: {}. It would be ignored", specPath);
+            return null;
+        }
+    }
+
+    /**
+     * Reads the version and the paths of a spec, skipping over everything else without parsing nor resolving it.
+     */
+    static SpecWithPaths scan(File spec, String specRelatedPath) throws IOException {
+        String openapiVersion = null;
+        Set<String> paths = null;
+        try (JsonParser parser = (isJson(specRelatedPath) ? JSON_FACTORY : YAML_FACTORY).createParser(spec)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Not an OpenAPI document: " + spec);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("openapi".equals(field) && value.isScalarValue()) {
+                    openapiVersion = parser.getValueAsString();
+                } else if ("swagger".equals(field) && openapiVersion == null) {
+                    // the parser converts Swagger 2 documents to this version
+                    openapiVersion = "3.0.1";
+                } else if ("paths".equals(field) && value == JsonToken.START_OBJECT) {
+                    paths = new LinkedHashSet<>();
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        paths.add(parser.getCurrentName());
+                        parser.nextToken();
+                        parser.skipChildren();
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        if (paths == null) {
+            throw new IOException("No paths in " + spec);
+        }
+        return new SpecWithPaths(specRelatedPath, openapiVersion, paths);
+    }
+
+    private static boolean isJson(String specRelatedPath) {
+        return specRelatedPath.toLowerCase(Locale.ROOT).endsWith(".json");
+    }
+
     private static Map<String, Object> generatedMergedSpec(String openapiVersion, List<SpecWithPaths> allPaths) {
         Map<String, Object> spec = generateHeader(openapiVersion);
         Map<String, Object> paths = new HashMap<>();
@@ -134,12 +175,14 @@ public class MergedSpecBuilder {
         }
     }
 
-    private static class SpecWithPaths {
+    static class SpecWithPaths {
         private final String specRelatedPath;
+        private final String openapiVersion;
         private final Set<String> paths;
 
-        private SpecWithPaths(final String specRelatedPath, final Set<String> paths) {
+        private SpecWithPaths(final String specRelatedPath, final String openapiVersion, final Set<String> paths) {
             this.specRelatedPath = specRelatedPath;
+            this.openapiVersion = openapiVersion;
             this.paths = paths;
         }
     }
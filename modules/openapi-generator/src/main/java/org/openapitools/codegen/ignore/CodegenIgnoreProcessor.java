@@ -17,7 +17,7 @@
 
 package org.openapitools.codegen.ignore;
 
-import org.openapitools.codegen.ignore.rules.DirectoryRule;
+import org.openapitools.codegen.ignore.rules.IgnoreRuleMatcher;
 import org.openapitools.codegen.ignore.rules.Rule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,6 +25,7 @@ import org.slf4j.LoggerFactory;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -40,9 +41,12 @@ public class CodegenIgnoreProcessor {
     private final Logger LOGGER = LoggerFactory.getLogger(CodegenIgnoreProcessor.class);
 
     private File ignoreFile = null;
+    private Path baseDirectory = null;
 
     private List<Rule> exclusionRules = new ArrayList<>();
     private List<Rule> inclusionRules = new ArrayList<>();
+    // compiled on first use, as the rules can still be loaded until then
+    private volatile IgnoreRuleMatcher matcher = null;
 
     /**
      * Loads the default ignore file (.openapi-generator-ignore) from the specified path.
@@ -79,11 +83,25 @@ public class CodegenIgnoreProcessor {
         loadFromFile(targetIgnoreFile);
     }
 
+    /**
+     * Constructs an instance of {@link CodegenIgnoreProcessor} from the lines of an ignore file located at {@code targetIgnoreFile},
+     * e.g. one written to an output which isn't the local file system.
+     *
+     * @param targetIgnoreFile The location of the ignore file, its directory is the base directory of the files to be processed.
+     * @param lines            The lines of the ignore file.
+     */
+    public CodegenIgnoreProcessor(final File targetIgnoreFile, final List<String> lines) {
+        lines.forEach(this::addRule);
+        this.ignoreFile = targetIgnoreFile;
+        this.baseDirectory = targetIgnoreFile.getAbsoluteFile().getParentFile().toPath().normalize();
+    }
+
     private void loadFromFile(File targetIgnoreFile) {
         if (targetIgnoreFile.exists() && targetIgnoreFile.isFile()) {
             try {
                 loadCodegenRules(targetIgnoreFile);
                 this.ignoreFile = targetIgnoreFile;
+                this.baseDirectory = targetIgnoreFile.getAbsoluteFile().getParentFile().toPath().normalize();
             } catch (IOException e) {
                 LOGGER.error(String.format(Locale.ROOT, "Could not process %s.", targetIgnoreFile.getName()), e.getMessage());
             }
@@ -116,21 +134,26 @@ public class CodegenIgnoreProcessor {
             // NOTE: Comments that start with a : (e.g. //:) are pulled from git documentation for .gitignore
             // see: https://github.com/git/git/blob/90f7b16b3adc78d4bbabbd426fb69aa78c714f71/Documentation/gitignore.txt
             while ((line = reader.readLine()) != null) {
-                if (
-                    //: A blank line matches no files, so it can serve as a separator for readability.
-                        line.length() == 0
-                ) continue;
-
-                Rule rule = Rule.create(line);
-
-                // rule could be null here if it's a COMMENT, for example
-                if (rule != null) {
-                    if (Boolean.TRUE.equals(rule.getNegated())) {
-                        inclusionRules.add(rule);
-                    } else {
-                        exclusionRules.add(rule);
-                    }
-                }
+                addRule(line);
+            }
+        }
+        matcher = null;
+    }
+
+    private void addRule(final String line) {
+        if (
+            //: A blank line matches no files, so it can serve as a separator for readability.
+                line.length() == 0
+        ) return;
+
+        Rule rule = Rule.create(line);
+
+        // rule could be null here if it's a COMMENT, for example
+        if (rule != null) {
+            if (Boolean.TRUE.equals(rule.getNegated())) {
+                inclusionRules.add(rule);
+            } else {
+                exclusionRules.add(rule);
             }
         }
     }
@@ -145,66 +168,20 @@ public class CodegenIgnoreProcessor {
     public boolean allowsFile(final File targetFile) {
         if (this.ignoreFile == null) return true;
 
-        File file = new File(this.ignoreFile.getAbsoluteFile().getParentFile().toURI().relativize(targetFile.toURI()).getPath());
-        boolean directoryExcluded = false;
-        boolean exclude = false;
         if (exclusionRules.size() == 0 && inclusionRules.size() == 0) {
             return true;
         }
 
-        // NOTE: We *must* process all exclusion rules
-        for (int i = 0; i < exclusionRules.size(); i++) {
-            Rule current = exclusionRules.get(i);
-            Rule.Operation op = current.evaluate(file.getPath());
-
-            switch (op) {
-                case EXCLUDE:
-                    exclude = true;
-
-                    // Include rule can't override rules that exclude a file by some parent directory.
-                    if (current instanceof DirectoryRule) {
-                        directoryExcluded = true;
-                    }
-                    break;
-                case INCLUDE:
-                    // This won't happen here.
-                    break;
-                case NOOP:
-                    break;
-                case EXCLUDE_AND_TERMINATE:
-                    i = exclusionRules.size();
-                    break;
-            }
+        // files outside of the base directory are evaluated by their absolute path
+        Path target = targetFile.toPath().toAbsolutePath().normalize();
+        String relativePath = target.startsWith(baseDirectory) ? baseDirectory.relativize(target).toString() : target.toString();
+        IgnoreRuleMatcher current = matcher;
+        if (current == null) {
+            // the rules are evaluated as a whole rather than one by one, see IgnoreRuleMatcher
+            current = IgnoreRuleMatcher.compile(exclusionRules, inclusionRules);
+            matcher = current;
         }
-
-        if (exclude) {
-            // Only need to process inclusion rules if we've been excluded
-            for (int i = 0; exclude && i < inclusionRules.size(); i++) {
-                Rule current = inclusionRules.get(i);
-                Rule.Operation op = current.evaluate(file.getPath());
-
-                // At this point exclude=true means the file should be ignored.
-                // op == INCLUDE means we have to flip that flag.
-                if (op.equals(Rule.Operation.INCLUDE)) {
-                    if (current instanceof DirectoryRule && directoryExcluded) {
-                        // e.g
-                        // baz/
-                        // !foo/bar/baz/
-                        // NOTE: Possibly surprising side effect:
-                        // foo/bar/baz/
-                        // !bar/
-                        exclude = false;
-                    } else if (!directoryExcluded) {
-                        // e.g.
-                        // **/*.log
-                        // !ISSUE_1234.log
-                        exclude = false;
-                    }
-                }
-            }
-        }
-
-        return Boolean.FALSE.equals(exclude);
+        return !current.excludes(relativePath);
     }
 
     /**
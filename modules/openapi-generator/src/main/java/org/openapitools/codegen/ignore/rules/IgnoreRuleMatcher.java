@@ -0,0 +1,294 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.ignore.rules;
+
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Evaluates all rules of an ignore file at once, rather than one rule after the other.
+ * <p>
+ * Literal patterns are looked up in sets, and the remaining glob patterns are translated to regular expressions merged
+ * into a single expression per kind of rule. A directory rule matches a file if it matches any of its parent
+ * directories, so directory rules are evaluated once per directory and remembered for the files it contains.
+ * <p>
+ * The outcome is the same as evaluating the rules in order: a file is excluded if any exclusion rule matches it, unless
+ * an inclusion rule matches it too. A file excluded by a directory rule can only be included again by a directory rule.
+ */
+public final class IgnoreRuleMatcher {
+    // the default file system matches globs case insensitively on Windows
+    private static final int FLAGS = File.separatorChar == '\\' ? Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE : 0;
+
+    private final FileGroup excludedFiles = new FileGroup();
+    private final DirectoryGroup excludedDirectories = new DirectoryGroup();
+    private final FileGroup includedFiles = new FileGroup();
+    private final DirectoryGroup includedDirectories = new DirectoryGroup();
+
+    private IgnoreRuleMatcher() {
+    }
+
+    /**
+     * Compiles the rules of an ignore file.
+     *
+     * @param exclusionRules The rules excluding files, in the order of the ignore file
+     * @param inclusionRules The negated rules including files again, in the order of the ignore file
+     * @return the matcher
+     */
+    public static IgnoreRuleMatcher compile(List<Rule> exclusionRules, List<Rule> inclusionRules) {
+        IgnoreRuleMatcher matcher = new IgnoreRuleMatcher();
+        for (Rule rule : exclusionRules) {
+            matcher.add(rule, matcher.excludedFiles, matcher.excludedDirectories);
+            if (rule instanceof EverythingRule) {
+                // terminates the evaluation, the following rules are never evaluated
+                break;
+            }
+        }
+        for (Rule rule : inclusionRules) {
+            matcher.add(rule, matcher.includedFiles, matcher.includedDirectories);
+        }
+        matcher.excludedFiles.compile();
+        matcher.excludedDirectories.compile();
+        matcher.includedFiles.compile();
+        matcher.includedDirectories.compile();
+        return matcher;
+    }
+
+    private void add(Rule rule, FileGroup files, DirectoryGroup directories) {
+        if (rule instanceof InvalidRule) {
+            return;
+        }
+        if (rule instanceof DirectoryRule) {
+            String pattern = rule.getPattern();
+            directories.add(pattern.endsWith("/") ? pattern.substring(0, pattern.length() - 1) : pattern);
+        } else if (rule instanceof FileRule) {
+            files.add(rule.getPattern());
+        } else if (rule instanceof EverythingRule) {
+            files.everything = true;
+        } else {
+            files.rules.add(rule);
+        }
+    }
+
+    /**
+     * Determines whether the rules exclude a file.
+     *
+     * @param relativePath The path of the file relative to the ignore file, as passed to {@link Rule#matches(String)}
+     * @return {@code true} if the file is excluded and not included again
+     */
+    public boolean excludes(String relativePath) {
+        String path = File.separatorChar == '/' ? relativePath : relativePath.replace(File.separatorChar, '/');
+        boolean directoryExcluded = excludedDirectories.containsParentOf(path);
+        if (!directoryExcluded && !excludedFiles.matches(path, relativePath)) {
+            return false;
+        }
+        if (includedDirectories.containsParentOf(path)) {
+            return false;
+        }
+        return directoryExcluded || !includedFiles.matches(path, relativePath);
+    }
+
+    /**
+     * Glob patterns, either literal or merged into a single regular expression.
+     */
+    private static class Group {
+        private final Set<String> literals = new HashSet<>();
+        private final List<String> expressions = new ArrayList<>();
+        private Pattern pattern;
+
+        void add(String glob) {
+            if (isLiteral(glob)) {
+                literals.add(FLAGS == 0 ? glob : glob.toLowerCase(Locale.ROOT));
+            } else {
+                expressions.add(toRegex(glob));
+            }
+        }
+
+        void compile() {
+            if (!expressions.isEmpty()) {
+                StringJoiner merged = new StringJoiner(")|(?:", "(?:", ")");
+                expressions.forEach(merged::add);
+                pattern = Pattern.compile(merged.toString(), FLAGS);
+            }
+        }
+
+        boolean matchesGlob(String path) {
+            return literals.contains(FLAGS == 0 ? path : path.toLowerCase(Locale.ROOT))
+                    || (pattern != null && pattern.matcher(path).matches());
+        }
+    }
+
+    private static final class FileGroup extends Group {
+        // rules which aren't globs, evaluated one by one
+        private final List<Rule> rules = new ArrayList<>();
+        private boolean everything;
+
+        boolean matches(String path, String relativePath) {
+            if (everything || matchesGlob(path)) {
+                return true;
+            }
+            for (Rule rule : rules) {
+                if (Boolean.TRUE.equals(rule.matches(relativePath))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class DirectoryGroup extends Group {
+        private final Map<String, Boolean> directories = new ConcurrentHashMap<>();
+        private boolean empty = true;
+
+        @Override
+        void add(String glob) {
+            super.add(glob);
+            empty = false;
+        }
+
+        boolean containsParentOf(String path) {
+            int separator = path.lastIndexOf('/');
+            return !empty && separator >= 0 && matchesDirectory(path.substring(0, separator));
+        }
+
+        private boolean matchesDirectory(String directory) {
+            Boolean matches = directories.get(directory);
+            if (matches == null) {
+                matches = containsParentOf(directory) || matchesGlob(directory);
+                directories.put(directory, matches);
+            }
+            return matches;
+        }
+    }
+
+    private static boolean isLiteral(String glob) {
+        for (int i = 0; i < glob.length(); i++) {
+            if ("*?[]{}\\".indexOf(glob.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Translates a glob, as understood by the {@code glob:} syntax of {@link java.nio.file.FileSystem#getPathMatcher(String)},
+     * to a regular expression matching '/' separated paths.
+     *
+     * @param glob The glob
+     * @return the regular expression
+     */
+    static String toRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        boolean inGroup = false;
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            switch (c) {
+                case '\\':
+                    if (++i == glob.length()) {
+                        throw new PatternSyntaxException("No character to escape", glob, i - 1);
+                    }
+                    appendLiteral(regex, glob.charAt(i));
+                    break;
+                case '*':
+                    if (i + 1 < glob.length() && glob.charAt(i + 1) == '*') {
+                        regex.append(".*");
+                        i++;
+                    } else {
+                        regex.append("[^/]*");
+                    }
+                    break;
+                case '?':
+                    regex.append("[^/]");
+                    break;
+                case '[':
+                    i = appendClass(regex, glob, i + 1);
+                    break;
+                case '{':
+                    if (inGroup) {
+                        throw new PatternSyntaxException("Cannot nest groups", glob, i);
+                    }
+                    regex.append("(?:(?:");
+                    inGroup = true;
+                    break;
+                case '}':
+                    if (inGroup) {
+                        regex.append("))");
+                        inGroup = false;
+                    } else {
+                        appendLiteral(regex, c);
+                    }
+                    break;
+                case ',':
+                    regex.append(inGroup ? ")|(?:" : ",");
+                    break;
+                default:
+                    appendLiteral(regex, c);
+            }
+        }
+        if (inGroup) {
+            throw new PatternSyntaxException("Missing '}'", glob, glob.length() - 1);
+        }
+        return regex.toString();
+    }
+
+    private static void appendLiteral(StringBuilder regex, char c) {
+        if (".^$+{}[]|()\\*?".indexOf(c) >= 0) {
+            regex.append('\\');
+        }
+        regex.append(c);
+    }
+
+    /**
+     * Appends a bracket expression, which never matches the separator.
+     *
+     * @return the index of the closing bracket
+     */
+    private static int appendClass(StringBuilder regex, String glob, int start) {
+        regex.append("[[^/]&&[");
+        int i = start;
+        if (i < glob.length() && glob.charAt(i) == '^') {
+            regex.append("\\^");
+            i++;
+        } else {
+            if (i < glob.length() && glob.charAt(i) == '!') {
+                regex.append('^');
+                i++;
+            }
+            if (i < glob.length() && glob.charAt(i) == '-') {
+                regex.append('-');
+                i++;
+            }
+        }
+        for (; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (c == ']') {
+                regex.append("]]");
+                return i;
+            }
+            if (c == '/') {
+                throw new PatternSyntaxException("Explicit 'name separator' in class", glob, i);
+            }
+            if (c == '\\' || c == '[' || (c == '&' && i + 1 < glob.length() && glob.charAt(i + 1) == '&')) {
+                regex.append('\\');
+            }
+            regex.append(c);
+        }
+        throw new PatternSyntaxException("Missing ']'", glob, glob.length() - 1);
+    }
+}
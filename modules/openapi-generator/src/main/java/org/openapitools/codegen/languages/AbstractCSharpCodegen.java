@@ -112,7 +112,7 @@ public abstract class AbstractCSharpCodegen extends DefaultCodegen {
     protected Set<String> propertySpecialKeywords = new HashSet<>(Arrays.asList("ToString", "ToJson", "GetHashCode", "Equals", "ShouldSerializeToString"));
 
     // A cache to efficiently lookup schema `toModelName()` based on the schema Key
-    private final Map<String, String> schemaKeyToModelNameCache = new HashMap<>();
+    private final Map<String, String> schemaKeyToModelNameCache = Collections.synchronizedMap(new HashMap<>());
 
     public AbstractCSharpCodegen() {
         super();
@@ -200,7 +200,7 @@ public abstract class AbstractJavaCodegen extends DefaultCodegen implements Code
      */
     @Getter @Setter
     protected boolean useBeanValidation = false;
-    private Map<String, String> schemaKeyToModelNameCache = new HashMap<>();
+    private Map<String, String> schemaKeyToModelNameCache = Collections.synchronizedMap(new HashMap<>());
 
     public AbstractJavaCodegen() {
         super();
@@ -70,7 +70,7 @@ public abstract class AbstractPhpCodegen extends DefaultCodegen implements Codeg
     protected String abstractNamePrefix = "Abstract", abstractNameSuffix = "";
     protected String traitNamePrefix = "", traitNameSuffix = "Trait";
 
-    private Map<String, String> schemaKeyToModelNameCache = new HashMap<>();
+    private Map<String, String> schemaKeyToModelNameCache = Collections.synchronizedMap(new HashMap<>());
 
     public AbstractPhpCodegen() {
         super();
@@ -29,6 +29,7 @@ import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.ModelsMap;
 import org.openapitools.codegen.model.OperationMap;
 import org.openapitools.codegen.model.OperationsMap;
+import org.openapitools.codegen.utils.ModelDependencyGraph;
 import org.openapitools.codegen.utils.ModelUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,9 +54,9 @@ public abstract class AbstractPythonPydanticV1Codegen extends DefaultCodegen imp
     protected String mapNumberTo = "Union[StrictFloat, StrictInt]";
     protected Map<Character, String> regexModifiers;
 
-    private Map<String, String> schemaKeyToModelNameCache = new HashMap<>();
-    // map of set (model imports)
-    private HashMap<String, HashSet<String>> circularImports = new HashMap<>();
+    private Map<String, String> schemaKeyToModelNameCache = Collections.synchronizedMap(new HashMap<>());
+    // models imported by each model, directly or through other models
+    private ModelDependencyGraph importGraph = ModelDependencyGraph.of(Collections.emptyMap());
     // map of codegen models
     private HashMap<String, CodegenModel> codegenModelMap = new HashMap<>();
 
@@ -790,9 +791,7 @@ public abstract class AbstractPythonPydanticV1Codegen extends DefaultCodegen imp
         }
 
         // create circular import
-        for (String m : codegenModelMap.keySet()) {
-            createImportMapOfSet(m, codegenModelMap);
-        }
+        importGraph = createImportGraph(codegenModelMap);
 
         for (Map.Entry<String, ModelsMap> entry : processed.entrySet()) {
             entry.setValue(postProcessModelsMap(entry.getValue()));
@@ -1559,8 +1558,8 @@ public abstract class AbstractPythonPydanticV1Codegen extends DefaultCodegen imp
                 modelImports.add(cp.dataType);
                 exampleImports.add(cp.dataType);
             } else {
-                if (circularImports.containsKey(cp.dataType)) {
-                    if (circularImports.get(cp.dataType).contains(classname)) {
+                if (importGraph.getModels().contains(cp.dataType)) {
+                    if (importGraph.reaches(cp.dataType, classname)) {
                         hasModelsToImport = true;
                         postponedModelImports.add(cp.dataType);
                         postponedExampleImports.add(cp.dataType);
@@ -1632,38 +1631,47 @@ public abstract class AbstractPythonPydanticV1Codegen extends DefaultCodegen imp
     }
 
     /**
-     * Update circularImports with the model name (key) and its imports gathered recursively
+     * Builds the graph of the models imported by each model, from which the imports leading back to the importing model
+     * are found and postponed to avoid circular imports.
      *
-     * @param modelName       model name
      * @param codegenModelMap a map of CodegenModel
+     * @return the graph of model imports
      */
-    void createImportMapOfSet(String modelName, Map<String, CodegenModel> codegenModelMap) {
-        HashSet<String> imports = new HashSet<>();
-        circularImports.put(modelName, imports);
-
-        CodegenModel cm = codegenModelMap.get(modelName);
-
-        if (cm == null) {
-            LOGGER.warn("Failed to lookup model in createImportMapOfSet: " + modelName);
-            return;
+    ModelDependencyGraph createImportGraph(Map<String, CodegenModel> codegenModelMap) {
+        Map<String, List<String>> imports = new LinkedHashMap<>();
+        Set<String> unknownModels = new TreeSet<>();
+        for (Map.Entry<String, CodegenModel> entry : codegenModelMap.entrySet()) {
+            List<String> modelImports = new ArrayList<>();
+            for (CodegenProperty cp : getImportedProperties(entry.getValue())) {
+                String modelNameFromDataType = getModelNameFromDataType(cp);
+                if (modelNameFromDataType != null) { // model
+                    modelImports.add(modelNameFromDataType);
+                    if (!codegenModelMap.containsKey(modelNameFromDataType)) {
+                        unknownModels.add(modelNameFromDataType);
+                    }
+                }
+            }
+            imports.put(entry.getKey(), modelImports);
+        }
+        if (!unknownModels.isEmpty()) {
+            LOGGER.warn("Failed to lookup models in createImportGraph: {}", unknownModels);
         }
+        return ModelDependencyGraph.of(imports);
+    }
 
-        List<CodegenProperty> codegenProperties = null;
+    /**
+     * Returns the properties or sub-schemas of a model which may import other models.
+     *
+     * @param cm codegen model
+     * @return the sub-schemas of a oneOf or anyOf model, or the properties of other models
+     */
+    private List<CodegenProperty> getImportedProperties(CodegenModel cm) {
         if (cm.oneOf != null && !cm.oneOf.isEmpty()) { // oneOf
-            codegenProperties = cm.getComposedSchemas().getOneOf();
+            return cm.getComposedSchemas().getOneOf();
         } else if (cm.anyOf != null && !cm.anyOf.isEmpty()) { // anyOF
-            codegenProperties = cm.getComposedSchemas().getAnyOf();
+            return cm.getComposedSchemas().getAnyOf();
         } else { // typical model
-            codegenProperties = cm.vars;
-        }
-
-        for (CodegenProperty cp : codegenProperties) {
-            String modelNameFromDataType = getModelNameFromDataType(cp);
-            if (modelNameFromDataType != null) { // model
-                imports.add(modelNameFromDataType); // update import
-                // go through properties or sub-schemas of the model recursively to identify more (model) import if any
-                updateImportsFromCodegenModel(modelNameFromDataType, codegenModelMap.get(modelNameFromDataType), imports);
-            }
+            return cm.vars;
         }
     }
 
@@ -1692,23 +1700,16 @@ public abstract class AbstractPythonPydanticV1Codegen extends DefaultCodegen imp
      * @param modelName model name
      * @param cm        codegen model
      * @param imports   set of imports
+     * @deprecated the imports of all models are gathered at once by {@link #createImportGraph(Map)}
      */
+    @Deprecated
     public void updateImportsFromCodegenModel(String modelName, CodegenModel cm, Set<String> imports) {
         if (cm == null) {
-            LOGGER.warn("Failed to lookup model in createImportMapOfSet " + modelName);
+            LOGGER.warn("Failed to lookup model in updateImportsFromCodegenModel " + modelName);
             return;
         }
 
-        List<CodegenProperty> codegenProperties = null;
-        if (cm.oneOf != null && !cm.oneOf.isEmpty()) { // oneOfValidationError
-            codegenProperties = cm.getComposedSchemas().getOneOf();
-        } else if (cm.anyOf != null && !cm.anyOf.isEmpty()) { // anyOF
-            codegenProperties = cm.getComposedSchemas().getAnyOf();
-        } else { // typical model
-            codegenProperties = cm.vars;
-        }
-
-        for (CodegenProperty cp : codegenProperties) {
+        for (CodegenProperty cp : getImportedProperties(cm)) {
             String modelNameFromDataType = getModelNameFromDataType(cp);
             if (modelNameFromDataType != null) { // model
                 if (modelName.equals(modelNameFromDataType)) { // self referencing
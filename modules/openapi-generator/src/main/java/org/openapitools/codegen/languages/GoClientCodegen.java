@@ -62,7 +62,7 @@ public class GoClientCodegen extends AbstractGoCodegen {
     @Setter protected boolean useOneOfDiscriminatorLookup = false; // use oneOf discriminator's mapping for model lookup
 
     // A cache to efficiently lookup schema `toModelName()` based on the schema Key
-    private Map<String, String> schemaKeyToModelNameCache = new HashMap<>();
+    private Map<String, String> schemaKeyToModelNameCache = Collections.synchronizedMap(new HashMap<>());
 
     public GoClientCodegen() {
         super();
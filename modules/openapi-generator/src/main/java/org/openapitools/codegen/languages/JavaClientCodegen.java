@@ -73,6 +73,9 @@ public class JavaClientCodegen extends AbstractJavaCodegen
     public static final String USE_ABSTRACTION_FOR_FILES = "useAbstractionForFiles";
     public static final String DYNAMIC_OPERATIONS = "dynamicOperations";
     public static final String SUPPORT_STREAMING = "supportStreaming";
+    public static final String USE_STREAMING_TYPE_ADAPTERS = "useStreamingTypeAdapters";
+    public static final String USE_STREAMING_DESERIALIZATION = "useStreamingDeserialization";
+    public static final String USE_VIRTUAL_THREADS = "useVirtualThreads";
     public static final String SUPPORT_URL_QUERY = "supportUrlQuery";
     public static final String GRADLE_PROPERTIES = "gradleProperties";
     public static final String ERROR_OBJECT_TYPE = "errorObjectType";
@@ -131,6 +134,9 @@ public class JavaClientCodegen extends AbstractJavaCodegen
     @Setter protected boolean useAbstractionForFiles = false;
     @Setter protected boolean dynamicOperations = false;
     @Setter protected boolean supportStreaming = false;
+    @Setter protected boolean useStreamingTypeAdapters = false;
+    @Setter protected boolean useStreamingDeserialization = false;
+    @Setter protected boolean useVirtualThreads = false;
     @Setter protected boolean withAWSV4Signature = false;
     @Setter protected String gradleProperties;
     @Setter protected String errorObjectType;
@@ -229,6 +235,9 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         cliOptions.add(CliOption.newBoolean(USE_ABSTRACTION_FOR_FILES, "Use alternative types instead of java.io.File to allow passing bytes without a file on disk. Available on resttemplate, webclient, restclient, libraries"));
         cliOptions.add(CliOption.newBoolean(DYNAMIC_OPERATIONS, "Generate operations dynamically at runtime from an OAS", this.dynamicOperations));
         cliOptions.add(CliOption.newBoolean(SUPPORT_STREAMING, "Support streaming endpoint (beta)", this.supportStreaming));
+        cliOptions.add(CliOption.newBoolean(USE_STREAMING_TYPE_ADAPTERS, "Generate Gson type adapters which read and write models field by field instead of through a JSON tree. Only okhttp-gson supports this option.", this.useStreamingTypeAdapters));
+        cliOptions.add(CliOption.newBoolean(USE_STREAMING_DESERIALIZATION, "Deserialize responses straight from the response stream with a reader cached per operation, instead of reading them into a String first. Only native supports this option.", this.useStreamingDeserialization));
+        cliOptions.add(CliOption.newBoolean(USE_VIRTUAL_THREADS, "Run the HTTP client and the continuations of async calls on virtual threads by default, and target Java 21. Only native supports this option.", this.useVirtualThreads));
         cliOptions.add(CliOption.newBoolean(CodegenConstants.WITH_AWSV4_SIGNATURE_COMMENT, CodegenConstants.WITH_AWSV4_SIGNATURE_COMMENT_DESC + " (only available for okhttp-gson library)", this.withAWSV4Signature));
         cliOptions.add(CliOption.newString(GRADLE_PROPERTIES, "Append additional Gradle properties to the gradle.properties file"));
         cliOptions.add(CliOption.newString(ERROR_OBJECT_TYPE, "Error Object type. (This option is for okhttp-gson only)"));
@@ -412,6 +421,9 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         convertPropertyToBooleanAndWriteBack(USE_ABSTRACTION_FOR_FILES, this::setUseAbstractionForFiles);
         convertPropertyToBooleanAndWriteBack(DYNAMIC_OPERATIONS, this::setDynamicOperations);
         convertPropertyToBooleanAndWriteBack(SUPPORT_STREAMING, this::setSupportStreaming);
+        convertPropertyToBooleanAndWriteBack(USE_STREAMING_TYPE_ADAPTERS, this::setUseStreamingTypeAdapters);
+        convertPropertyToBooleanAndWriteBack(USE_STREAMING_DESERIALIZATION, this::setUseStreamingDeserialization);
+        convertPropertyToBooleanAndWriteBack(USE_VIRTUAL_THREADS, this::setUseVirtualThreads);
         convertPropertyToBooleanAndWriteBack(CodegenConstants.WITH_AWSV4_SIGNATURE_COMMENT, this::setWithAWSV4Signature);
         convertPropertyToStringAndWriteBack(GRADLE_PROPERTIES, this::setGradleProperties);
         convertPropertyToStringAndWriteBack(ERROR_OBJECT_TYPE, this::setErrorObjectType);
@@ -1116,6 +1128,10 @@ public class JavaClientCodegen extends AbstractJavaCodegen
             if (this.parcelableModel && !cm.isEnum) {
                 ((ArrayList<String>) cm.getVendorExtensions().get("x-implements")).add("Parcelable");
             }
+            // the streaming adapters assign the fields directly, which is not possible for inherited private fields
+            if (this.useStreamingTypeAdapters && isLibrary(OKHTTP_GSON) && cm.parent == null) {
+                cm.getVendorExtensions().put("x-streaming-type-adapter", true);
+            }
         }
 
         return objs;
@@ -76,7 +76,7 @@ public class RClientCodegen extends DefaultCodegen implements CodegenConfig {
     @Setter protected boolean generateWrapper;
     @Setter protected boolean useOneOfDiscriminatorLookup = false; // use oneOf discriminator's mapping for model lookup
 
-    private Map<String, String> schemaKeyToModelNameCache = new HashMap<>();
+    private Map<String, String> schemaKeyToModelNameCache = Collections.synchronizedMap(new HashMap<>());
 
     @Override
     public CodegenType getTag() {
@@ -74,7 +74,7 @@ public class RubyClientCodegen extends AbstractRubyCodegen {
     protected String modelDocPath = "docs/";
     @Setter protected boolean useAutoload = false;
 
-    private Map<String, String> schemaKeyToModelNameCache = new HashMap<>();
+    private Map<String, String> schemaKeyToModelNameCache = Collections.synchronizedMap(new HashMap<>());
 
     public RubyClientCodegen() {
         super();
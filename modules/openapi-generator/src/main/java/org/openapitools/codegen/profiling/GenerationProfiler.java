@@ -0,0 +1,396 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.profiling;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openapitools.codegen.api.OutputSink;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the stages of a generation run: the time spent in each stage, how often it ran and, when the JVM supports
+ * it, the bytes allocated by the thread running it.
+ * <p>
+ * Stages nest: a stage started while another one is running on the same thread is recorded under the path of the
+ * enclosing stage, e.g. {@code generate;models;fromModel}. Each stage is also emitted as a JDK Flight Recorder event
+ * when the JVM has a Flight Recorder.
+ * <p>
+ * The report is written as JSON, along with a file in the collapsed stack format read by flame graph tools, holding the
+ * time spent in each stage itself (excluding its nested stages) in microseconds.
+ */
+public final class GenerationProfiler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationProfiler.class);
+
+    private static final GenerationProfiler DISABLED = new GenerationProfiler(null, null);
+    private static final Stage NOOP = new Stage(null, null, null, null);
+    private static final int SLOWEST_ITEMS = 5;
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Path report;
+    private final JvmInstrumentation instrumentation;
+    private final long started = System.nanoTime();
+    private final Map<String, Aggregate> stages = new ConcurrentHashMap<>();
+    private final ThreadLocal<Stage> current = new ThreadLocal<>();
+
+    /**
+     * @param report The file the report is written to
+     */
+    public GenerationProfiler(Path report) {
+        this(report, JvmInstrumentation.create());
+    }
+
+    private GenerationProfiler(Path report, JvmInstrumentation instrumentation) {
+        this.report = report;
+        this.instrumentation = instrumentation;
+    }
+
+    /**
+     * @return A profiler which doesn't record anything
+     */
+    public static GenerationProfiler disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * @return true unless this profiler was obtained from {@link #disabled()}
+     */
+    public boolean isEnabled() {
+        return this != DISABLED;
+    }
+
+    /**
+     * @return true if the bytes allocated by each stage are recorded
+     */
+    public boolean isTrackingAllocations() {
+        return instrumentation != null && instrumentation.isTrackingAllocations();
+    }
+
+    /**
+     * Starts a stage on the current thread.
+     *
+     * @param name The name of the stage
+     * @return The stage, to be closed on the same thread once it completes
+     */
+    public Stage start(String name) {
+        return start(name, null);
+    }
+
+    /**
+     * Starts a stage processing an item, such as a model or an operation, on the current thread.
+     *
+     * @param name The name of the stage
+     * @param item The item processed by the stage, reported if it is among the slowest ones
+     * @return The stage, to be closed on the same thread once it completes
+     */
+    public Stage start(String name, String item) {
+        if (!isEnabled()) {
+            return NOOP;
+        }
+        Stage parent = current.get();
+        Stage stage = new Stage(this, parent, parent == null ? name : parent.path + ";" + name, item);
+        current.set(stage);
+        return stage;
+    }
+
+    /**
+     * Wraps an output sink so that reading and writing files are recorded as stages.
+     *
+     * @param sink The output sink
+     * @return The profiled output sink, or {@code sink} itself if this profiler is disabled
+     */
+    public OutputSink wrap(OutputSink sink) {
+        return isEnabled() ? new ProfiledOutputSink(sink) : sink;
+    }
+
+    /**
+     * @return The stages recorded so far, sorted by path
+     */
+    public List<StageProfile> getStages() {
+        List<StageProfile> result = new ArrayList<>();
+        new TreeMap<>(stages).forEach((path, aggregate) -> result.add(aggregate.toProfile(path)));
+        return result;
+    }
+
+    /**
+     * Writes the report, and the collapsed stacks next to it.
+     *
+     * @return The report file, or null if this profiler is disabled
+     * @throws IOException if the report cannot be written
+     */
+    public Path writeReport() throws IOException {
+        if (!isEnabled()) {
+            return null;
+        }
+        Path target = report.toAbsolutePath();
+        Files.createDirectories(target.getParent());
+
+        List<StageProfile> profiles = getStages();
+        Map<String, Object> content = new LinkedHashMap<>();
+        content.put("durationMillis", millis(System.nanoTime() - started));
+        content.put("allocationTracking", isTrackingAllocations());
+        content.put("stages", profiles);
+        MAPPER.writeValue(target.toFile(), content);
+
+        try (Writer writer = Files.newBufferedWriter(getCollapsedStacksFile(), StandardCharsets.UTF_8)) {
+            for (StageProfile profile : profiles) {
+                long micros = profile.selfNanos / 1000;
+                if (micros > 0) {
+                    writer.write(profile.getStage() + " " + micros + "\n");
+                }
+            }
+        }
+        LOGGER.info("Wrote generation profile to {}", target);
+        return target;
+    }
+
+    /**
+     * @return The file holding the collapsed stacks, next to the report
+     */
+    public Path getCollapsedStacksFile() {
+        Path target = report.toAbsolutePath();
+        String name = target.getFileName().toString();
+        if (name.toLowerCase(Locale.ROOT).endsWith(".json")) {
+            name = name.substring(0, name.length() - ".json".length());
+        }
+        return target.resolveSibling(name + ".collapsed");
+    }
+
+    private void complete(Stage stage, long nanos, long allocated) {
+        if (stage.parent == null) {
+            current.remove();
+        } else {
+            current.set(stage.parent);
+            stage.parent.childNanos += nanos;
+        }
+        stages.computeIfAbsent(stage.path, path -> new Aggregate())
+                .add(stage.item, nanos, nanos - stage.childNanos, allocated);
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1000d) / 1000d;
+    }
+
+    /**
+     * A running stage.
+     */
+    public static final class Stage implements AutoCloseable {
+        private final GenerationProfiler profiler;
+        private final Stage parent;
+        private final String path;
+        private final String item;
+        private final long start;
+        private final long startAllocated;
+        // the Flight Recorder event, if any
+        private final Object event;
+        // time spent in nested stages
+        private long childNanos;
+
+        private Stage(GenerationProfiler profiler, Stage parent, String path, String item) {
+            this.profiler = profiler;
+            this.parent = parent;
+            this.path = path;
+            this.item = item;
+            this.event = profiler == null ? null : profiler.instrumentation.beginEvent();
+            this.startAllocated = profiler == null ? 0 : profiler.instrumentation.allocatedBytes();
+            this.start = System.nanoTime();
+        }
+
+        @Override
+        public void close() {
+            if (profiler == null) {
+                return;
+            }
+            long nanos = System.nanoTime() - start;
+            long allocated = profiler.instrumentation.allocatedBytes() - startAllocated;
+            profiler.complete(this, nanos, allocated);
+            profiler.instrumentation.commitEvent(event, path, item, allocated);
+        }
+    }
+
+    private static final class Aggregate {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder selfNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder allocated = new LongAdder();
+        // the slowest items, the fastest one first
+        private final PriorityQueue<ItemProfile> slowest = new PriorityQueue<>(Comparator.comparingLong(i -> i.nanos));
+
+        void add(String item, long nanos, long self, long allocatedBytes) {
+            count.increment();
+            totalNanos.add(nanos);
+            selfNanos.add(self);
+            maxNanos.accumulate(nanos);
+            allocated.add(allocatedBytes);
+            if (item != null) {
+                synchronized (slowest) {
+                    if (slowest.size() < SLOWEST_ITEMS) {
+                        slowest.add(new ItemProfile(item, nanos));
+                    } else if (slowest.peek().nanos < nanos) {
+                        slowest.poll();
+                        slowest.add(new ItemProfile(item, nanos));
+                    }
+                }
+            }
+        }
+
+        StageProfile toProfile(String path) {
+            List<ItemProfile> items;
+            synchronized (slowest) {
+                items = new ArrayList<>(slowest);
+            }
+            items.sort(Comparator.comparingLong((ItemProfile i) -> i.nanos).reversed());
+            return new StageProfile(path, count.sum(), totalNanos.sum(), selfNanos.sum(), maxNanos.get(), allocated.sum(), items);
+        }
+    }
+
+    /**
+     * The measurements of all runs of a stage.
+     */
+    public static final class StageProfile {
+        private final String stage;
+        private final long count;
+        private final long totalNanos;
+        private final long selfNanos;
+        private final long maxNanos;
+        private final long allocatedBytes;
+        private final List<ItemProfile> slowest;
+
+        private StageProfile(String stage, long count, long totalNanos, long selfNanos, long maxNanos, long allocatedBytes, List<ItemProfile> slowest) {
+            this.stage = stage;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.selfNanos = selfNanos;
+            this.maxNanos = maxNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.slowest = slowest;
+        }
+
+        /**
+         * @return The path of the stage, the names of the stage and its enclosing stages separated by ';'
+         */
+        public String getStage() {
+            return stage;
+        }
+
+        /**
+         * @return The number of times the stage ran
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return The time spent in the stage, nested stages included
+         */
+        public double getTotalMillis() {
+            return millis(totalNanos);
+        }
+
+        /**
+         * @return The time spent in the stage itself, nested stages excluded
+         */
+        public double getSelfMillis() {
+            return millis(selfNanos);
+        }
+
+        /**
+         * @return The longest run of the stage
+         */
+        public double getMaxMillis() {
+            return millis(maxNanos);
+        }
+
+        /**
+         * @return The bytes allocated by the stage, nested stages included, or 0 if allocations are not tracked
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        /**
+         * @return The slowest items processed by the stage, the slowest one first
+         */
+        public List<ItemProfile> getSlowest() {
+            return slowest;
+        }
+    }
+
+    /**
+     * The time spent processing one item in a stage.
+     */
+    public static final class ItemProfile {
+        private final String item;
+        private final long nanos;
+
+        private ItemProfile(String item, long nanos) {
+            this.item = item;
+            this.nanos = nanos;
+        }
+
+        public String getItem() {
+            return item;
+        }
+
+        public double getMillis() {
+            return millis(nanos);
+        }
+    }
+
+    private final class ProfiledOutputSink implements OutputSink {
+        private final OutputSink delegate;
+
+        private ProfiledOutputSink(OutputSink delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean exists(Path path) {
+            return delegate.exists(path);
+        }
+
+        @Override
+        public byte[] read(Path path) throws IOException {
+            try (Stage ignored = start("read", path.toString())) {
+                return delegate.read(path);
+            }
+        }
+
+        @Override
+        public void write(Path path, byte[] contents) throws IOException {
+            try (Stage ignored = start("write", path.toString())) {
+                delegate.write(path, contents);
+            }
+        }
+
+        @Override
+        public boolean isLocal() {
+            return delegate.isLocal();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.profiling;
+
+import jdk.jfr.*;
+import org.openapitools.codegen.utils.SuppressForbidden;
+
+/**
+ * A JDK Flight Recorder event spanning a stage of a profiled generation, so that stages can be correlated with the
+ * garbage collections, allocations and samples of a recording.
+ */
+@Name("org.openapitools.codegen.GenerationStage")
+@Label("Generation Stage")
+@Category("OpenAPI Generator")
+@Description("A stage of a code generation run")
+@StackTrace(false)
+@SuppressForbidden(reason = "jdk.jfr is optional, this event is only created through JvmInstrumentation when the JVM has it")
+class GenerationStageEvent extends Event {
+    @Label("Stage")
+    @Description("The stage and its enclosing stages, separated by ';'")
+    String stage;
+
+    @Label("Item")
+    @Description("The model, operation or file processed by the stage")
+    String item;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocated;
+}
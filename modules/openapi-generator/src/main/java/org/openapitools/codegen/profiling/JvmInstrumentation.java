@@ -0,0 +1,121 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openapitools.codegen.profiling;
+
+import org.openapitools.codegen.utils.SuppressForbidden;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * The non-portable JVM facilities used by an enabled {@link GenerationProfiler}: the bytes allocated by each thread and
+ * JDK Flight Recorder events. Each one is used only if the running JVM provides it.
+ * <p>
+ * This class is loaded only once profiling is requested, so that runs without profiling neither load these APIs nor
+ * turn on the JVM-wide accounting of thread allocations.
+ */
+@SuppressForbidden(reason = "Allocations are read from com.sun.management.ThreadMXBean and stages are emitted as "
+        + "jdk.jfr events, both optional: the profiler still records timings without them")
+final class JvmInstrumentation {
+    private static final Logger LOGGER = LoggerFactory.getLogger(JvmInstrumentation.class);
+
+    private final com.sun.management.ThreadMXBean allocations;
+    private final boolean flightRecorder;
+
+    private JvmInstrumentation(com.sun.management.ThreadMXBean allocations, boolean flightRecorder) {
+        this.allocations = allocations;
+        this.flightRecorder = flightRecorder;
+    }
+
+    /**
+     * Looks up the facilities of the running JVM, turning on the accounting of thread allocations if it is supported.
+     *
+     * @return The instrumentation of the running JVM
+     */
+    static JvmInstrumentation create() {
+        return new JvmInstrumentation(allocationTracking(), ModuleLayer.boot().findModule("jdk.jfr").isPresent());
+    }
+
+    /**
+     * @return true if the bytes allocated by each thread can be read
+     */
+    boolean isTrackingAllocations() {
+        return allocations != null;
+    }
+
+    /**
+     * @return The bytes allocated so far by the current thread, or 0 if allocations are not tracked
+     */
+    long allocatedBytes() {
+        return allocations == null ? 0 : allocations.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Starts a Flight Recorder event spanning a stage.
+     *
+     * @return The event, to be passed to {@link #commitEvent}, or null if the JVM has no Flight Recorder
+     */
+    Object beginEvent() {
+        if (!flightRecorder) {
+            return null;
+        }
+        GenerationStageEvent event = new GenerationStageEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends a Flight Recorder event, and records it if the stage is long enough for the current recordings.
+     *
+     * @param started   The event returned by {@link #beginEvent()}
+     * @param stage     The path of the stage
+     * @param item      The item processed by the stage, if any
+     * @param allocated The bytes allocated by the stage
+     */
+    void commitEvent(Object started, String stage, String item, long allocated) {
+        if (started == null) {
+            return;
+        }
+        GenerationStageEvent event = (GenerationStageEvent) started;
+        event.end();
+        if (event.shouldCommit()) {
+            event.stage = stage;
+            event.item = item;
+            event.allocated = allocated;
+            event.commit();
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean allocationTracking() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+            try {
+                if (allocations.isThreadAllocatedMemorySupported()) {
+                    if (!allocations.isThreadAllocatedMemoryEnabled()) {
+                        allocations.setThreadAllocatedMemoryEnabled(true);
+                    }
+                    return allocations;
+                }
+            } catch (UnsupportedOperationException | SecurityException e) {
+                LOGGER.debug("Allocations are not tracked: {}", e.getMessage());
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.templating;
+
+import org.openapitools.codegen.api.OutputSink;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes generated files to a {@link FileSystem}, by default the file system of the host.
+ */
+public class FileSystemOutputSink implements OutputSink {
+    private final FileSystem fileSystem;
+
+    /**
+     * Constructs a sink writing to the default file system
+     */
+    public FileSystemOutputSink() {
+        this(FileSystems.getDefault());
+    }
+
+    /**
+     * Constructs a sink writing to the given file system, e.g. an in-memory or a zip file system
+     *
+     * @param fileSystem The file system to write to
+     */
+    public FileSystemOutputSink(FileSystem fileSystem) {
+        this.fileSystem = fileSystem;
+    }
+
+    private Path resolve(Path path) {
+        return path.getFileSystem() == fileSystem ? path : fileSystem.getPath(path.toAbsolutePath().toString());
+    }
+
+    @Override
+    public boolean exists(Path path) {
+        return Files.exists(resolve(path));
+    }
+
+    @Override
+    public byte[] read(Path path) throws IOException {
+        Path target = resolve(path);
+        return Files.isRegularFile(target) ? Files.readAllBytes(target) : null;
+    }
+
+    @Override
+    public void write(Path path, byte[] contents) throws IOException {
+        Path target = resolve(path);
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        Files.write(target, contents);
+    }
+
+    @Override
+    public boolean isLocal() {
+        return fileSystem == FileSystems.getDefault();
+    }
+}
@@ -7,12 +7,21 @@ import org.openapitools.codegen.api.TemplatePathLocator;
 
 import java.io.File;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Locates templates according to {@link CodegenConfig} settings.
+ * <p>
+ * Resolved paths are memoized per instance, keyed by template dir, embedded template dir, library and template name,
+ * so every partial of every rendered file only hits the file system and class path once per run.
  */
 public class GeneratorTemplateContentLocator implements TemplatePathLocator {
     private final CodegenConfig codegenConfig;
+    private final Map<List<String>, Optional<String>> resolvedPaths = new ConcurrentHashMap<>();
 
     /**
      * Constructs a new instance of {@link GeneratorTemplateContentLocator} for the provided {@link CodegenConfig}
@@ -23,6 +32,13 @@ public class GeneratorTemplateContentLocator implements TemplatePathLocator {
         this.codegenConfig = codegenConfig;
     }
 
+    /**
+     * Clears all memoized template paths.
+     */
+    public void invalidateCache() {
+        resolvedPaths.clear();
+    }
+
     private String buildLibraryFilePath(String dir, String library, String file) {
         return Paths.get(dir, "libraries", library, file).normalize().toString();
     }
@@ -58,6 +74,12 @@ public class GeneratorTemplateContentLocator implements TemplatePathLocator {
     @Override
     public String getFullTemplatePath(String relativeTemplateFile) {
         CodegenConfig config = this.codegenConfig;
+        List<String> key = Arrays.asList(config.templateDir(), config.embeddedTemplateDir(), config.getLibrary(), relativeTemplateFile);
+        return resolvedPaths.computeIfAbsent(key, k -> Optional.ofNullable(resolveFullTemplatePath(relativeTemplateFile))).orElse(null);
+    }
+
+    private String resolveFullTemplatePath(String relativeTemplateFile) {
+        CodegenConfig config = this.codegenConfig;
 
         //check the supplied template library folder for the file
         final String library = config.getLibrary();
@@ -16,10 +16,14 @@
 
 package org.openapitools.codegen.templating;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.jknack.handlebars.Context;
 import com.github.jknack.handlebars.Handlebars;
 import com.github.jknack.handlebars.Jackson2Helper;
+import com.github.jknack.handlebars.Parser;
 import com.github.jknack.handlebars.Template;
+import com.github.jknack.handlebars.cache.TemplateCache;
 import com.github.jknack.handlebars.context.JavaBeanValueResolver;
 import com.github.jknack.handlebars.context.MapValueResolver;
 import com.github.jknack.handlebars.context.MethodValueResolver;
@@ -29,7 +33,6 @@ import com.github.jknack.handlebars.io.AbstractTemplateLoader;
 import com.github.jknack.handlebars.io.StringTemplateSource;
 import com.github.jknack.handlebars.io.TemplateLoader;
 import com.github.jknack.handlebars.io.TemplateSource;
-import lombok.Setter;
 import org.openapitools.codegen.api.AbstractTemplatingEngineAdapter;
 import org.openapitools.codegen.api.TemplatingExecutor;
 import org.openapitools.codegen.templating.handlebars.AccessAwareFieldValueResolver;
@@ -37,7 +40,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
@@ -48,7 +53,13 @@ public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
     // We use this as a simple lookup for valid file name extensions. This adapter will inspect .mustache (built-in) and infer the relevant handlebars filename
     private final String[] canCompileFromExtensions = {".handlebars", ".hbs", ".mustache"};
     private boolean infiniteLoops = false;
-    @Setter private boolean prettyPrint = false;
+    private boolean prettyPrint = false;
+
+    // the configured engine is shared by all files rendered through this adapter; partials are looked up through the
+    // executor of the file currently being rendered on this thread
+    private final ThreadLocal<TemplatingExecutor> currentExecutor = new ThreadLocal<>();
+    private final ContentTemplateCache templateCache = new ContentTemplateCache();
+    private Handlebars handlebars;
 
     /**
      * Provides an identifier used to load the adapter. This could be a name, uuid, or any other string.
@@ -63,13 +74,6 @@ public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
     @Override
     public String compileTemplate(TemplatingExecutor executor,
                                   Map<String, Object> bundle, String templateFile) throws IOException {
-        TemplateLoader loader = new AbstractTemplateLoader() {
-            @Override
-            public TemplateSource sourceAt(String location) {
-                return findTemplate(executor, location);
-            }
-        };
-
         Context context = Context
                 .newBuilder(bundle)
                 .resolver(
@@ -79,19 +83,43 @@ public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
                         AccessAwareFieldValueResolver.INSTANCE)
                 .build();
 
-        Handlebars handlebars = new Handlebars(loader);
-        handlebars.registerHelperMissing((obj, options) -> {
-            LOGGER.warn(String.format(Locale.ROOT, "Unregistered helper name '%s', processing template:%n%s", options.helperName, options.fn.text()));
-            return "";
-        });
-        handlebars.registerHelper("json", Jackson2Helper.INSTANCE);
-        StringHelpers.register(handlebars);
-        handlebars.registerHelpers(ConditionalHelpers.class);
-        handlebars.registerHelpers(org.openapitools.codegen.templating.handlebars.StringHelpers.class);
-        handlebars.setInfiniteLoops(infiniteLoops);
-        handlebars.setPrettyPrint(prettyPrint);
-        Template tmpl = handlebars.compile(templateFile);
-        return tmpl.apply(context);
+        TemplatingExecutor previous = currentExecutor.get();
+        currentExecutor.set(executor);
+        try {
+            Template tmpl = getHandlebars().compile(templateFile);
+            return tmpl.apply(context);
+        } finally {
+            if (previous == null) {
+                currentExecutor.remove();
+            } else {
+                currentExecutor.set(previous);
+            }
+        }
+    }
+
+    private synchronized Handlebars getHandlebars() {
+        if (handlebars == null) {
+            TemplateLoader loader = new AbstractTemplateLoader() {
+                @Override
+                public TemplateSource sourceAt(String location) {
+                    return findTemplate(currentExecutor.get(), location);
+                }
+            };
+
+            Handlebars configured = new Handlebars(loader).with(templateCache);
+            configured.registerHelperMissing((obj, options) -> {
+                LOGGER.warn(String.format(Locale.ROOT, "Unregistered helper name '%s', processing template:%n%s", options.helperName, options.fn.text()));
+                return "";
+            });
+            configured.registerHelper("json", Jackson2Helper.INSTANCE);
+            StringHelpers.register(configured);
+            configured.registerHelpers(ConditionalHelpers.class);
+            configured.registerHelpers(org.openapitools.codegen.templating.handlebars.StringHelpers.class);
+            configured.setInfiniteLoops(infiniteLoops);
+            configured.setPrettyPrint(prettyPrint);
+            handlebars = configured;
+        }
+        return handlebars;
     }
 
     @SuppressWarnings("java:S108")
@@ -136,10 +164,63 @@ public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
      * @param infiniteLoops Whether to enable (true) or disable (false)
      * @return this object
      */
-    public HandlebarsEngineAdapter infiniteLoops(boolean infiniteLoops) {
+    public synchronized HandlebarsEngineAdapter infiniteLoops(boolean infiniteLoops) {
         this.infiniteLoops = infiniteLoops;
+        this.handlebars = null;
+        this.templateCache.clear();
         return this;
     }
 
+    /**
+     * Enable/disable prettyPrint setting for the Handlebars engine. Enabling this removes blank lines left by flow control tags.
+     *
+     * @param prettyPrint Whether to enable (true) or disable (false)
+     */
+    public synchronized void setPrettyPrint(boolean prettyPrint) {
+        this.prettyPrint = prettyPrint;
+        this.handlebars = null;
+        this.templateCache.clear();
+    }
+
+    /**
+     * Caches compiled templates by file name and content. Template sources are read through the executor on every
+     * lookup, so a changed template or partial is compiled again instead of served stale.
+     */
+    private static class ContentTemplateCache implements TemplateCache {
+        private static final int MAXIMUM_SIZE = 1000;
+
+        private final Cache<List<String>, Template> templates = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .build();
+
+        @Override
+        public void clear() {
+            templates.invalidateAll();
+        }
+
+        @Override
+        public void evict(TemplateSource source) {
+            templates.asMap().keySet().removeIf(key -> key.get(0).equals(source.filename()));
+        }
+
+        @Override
+        public Template get(TemplateSource source, Parser parser) throws IOException {
+            List<String> key = List.of(source.filename(), source.content(StandardCharsets.UTF_8));
+            Template template = templates.getIfPresent(key);
+            if (template == null) {
+                // parse outside the cache's compute lock, parsing may resolve further templates through this cache
+                template = parser.parse(source);
+                templates.put(key, template);
+            }
+            return template;
+        }
+
+        @Override
+        public TemplateCache setReload(boolean reload) {
+            // sources are always compared by content
+            return this;
+        }
+    }
+
 }
 
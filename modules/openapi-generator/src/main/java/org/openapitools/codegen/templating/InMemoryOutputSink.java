@@ -0,0 +1,73 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.templating;
+
+import org.openapitools.codegen.api.OutputSink;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Keeps generated files in memory, e.g. to inspect them in tests or to hand them to another {@link OutputSink} once
+ * generation succeeded.
+ */
+public class InMemoryOutputSink implements OutputSink {
+    private final NavigableMap<Path, byte[]> files = new ConcurrentSkipListMap<>();
+
+    private static Path key(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public boolean exists(Path path) {
+        return files.containsKey(key(path));
+    }
+
+    @Override
+    public byte[] read(Path path) {
+        byte[] contents = files.get(key(path));
+        return contents == null ? null : contents.clone();
+    }
+
+    @Override
+    public void write(Path path, byte[] contents) {
+        files.put(key(path), contents.clone());
+    }
+
+    /**
+     * @return the written files by their absolute path, in path order
+     */
+    public Map<Path, byte[]> getFiles() {
+        return Collections.unmodifiableMap(files);
+    }
+
+    /**
+     * Writes all files held by this sink to another sink, in path order
+     *
+     * @param target The sink to write to
+     * @throws IOException If a file cannot be written.
+     */
+    public void copyTo(OutputSink target) throws IOException {
+        for (Map.Entry<Path, byte[]> file : files.entrySet()) {
+            target.write(file.getKey(), file.getValue());
+        }
+    }
+}
@@ -23,6 +23,7 @@ import lombok.Setter;
 import org.openapitools.codegen.CodegenConstants;
 import org.openapitools.codegen.api.TemplatingEngineAdapter;
 import org.openapitools.codegen.api.TemplatingExecutor;
+import org.openapitools.codegen.config.GlobalSettings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,9 +49,29 @@ public class MustacheEngineAdapter implements TemplatingEngineAdapter {
     }
 
     private final String[] extensions = {"mustache"};
-    @Getter @Setter
+    @Getter
     Mustache.Compiler compiler = Mustache.compiler();
 
+    /**
+     * Whether compiled templates are cached, see {@link MustacheTemplateCache}.
+     */
+    @Getter @Setter
+    private boolean templateCacheEnabled = Boolean.parseBoolean(GlobalSettings.getProperty(MustacheTemplateCache.TEMPLATE_CACHE_ENABLED_PROPERTY, "true"));
+
+    private MustacheTemplateCache templateCache;
+
+    public synchronized void setCompiler(Mustache.Compiler compiler) {
+        this.compiler = compiler;
+        this.templateCache = null;
+    }
+
+    private synchronized MustacheTemplateCache getTemplateCache() {
+        if (templateCache == null) {
+            templateCache = new MustacheTemplateCache(this, compiler.defaultValue(""));
+        }
+        return templateCache;
+    }
+
     /**
      * Compiles a template into a string
      *
@@ -62,10 +83,16 @@ public class MustacheEngineAdapter implements TemplatingEngineAdapter {
      */
     @Override
     public String compileTemplate(TemplatingExecutor executor, Map<String, Object> bundle, String templateFile) throws IOException {
-        Template tmpl = compiler
-                .withLoader(name -> findTemplate(executor, name))
-                .defaultValue("")
-                .compile(executor.getFullTemplateContents(templateFile));
+        MustacheTemplateCache cache = templateCacheEnabled ? getTemplateCache() : null;
+        Template tmpl;
+        if (cache != null) {
+            tmpl = cache.getTemplate(executor, templateFile);
+        } else {
+            tmpl = compiler
+                    .withLoader(name -> findTemplate(executor, name))
+                    .defaultValue("")
+                    .compile(executor.getFullTemplateContents(templateFile));
+        }
         StringWriter out = new StringWriter();
 
         // the value of bundle[MUSTACHE_PARENT_CONTEXT] is used a parent content in mustache.
@@ -77,7 +104,11 @@ public class MustacheEngineAdapter implements TemplatingEngineAdapter {
             // avoid NPE
             parent = new Object();
         }
-        tmpl.execute(bundle, parent, out);
+        if (cache != null) {
+            cache.execute(executor, tmpl, bundle, parent, out);
+        } else {
+            tmpl.execute(bundle, parent, out);
+        }
         return out.toString();
     }
 
@@ -0,0 +1,406 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.templating;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.samskivert.mustache.DefaultCollector;
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import org.openapitools.codegen.api.TemplatingExecutor;
+import org.openapitools.codegen.config.GlobalSettings;
+
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A cache of compiled mustache templates, shared by all {@link MustacheEngineAdapter} instances.
+ * <p>
+ * A compiled template is keyed by its resolved template path and contents, and by the keys of the partials it includes.
+ * This allows a template and its partials to be parsed once and reused for every generated file (and across
+ * generation runs), while a change to the template or to any partial it includes results in a recompilation.
+ */
+public class MustacheTemplateCache {
+    /**
+     * Enable or disable the compiled template cache. Template authors may want to disable it while iterating on templates.
+     */
+    public static final String TEMPLATE_CACHE_ENABLED_PROPERTY = "org.openapitools.codegen.templating.mustache.templatecache.enabled";
+    /**
+     * Set the cache size (entry count) of the compiled template cache.
+     */
+    public static final String TEMPLATE_CACHE_SIZE_PROPERTY = "org.openapitools.codegen.templating.mustache.templatecache.cachesize";
+    /**
+     * Set the cache expiry (in seconds) of the compiled template cache.
+     */
+    public static final String TEMPLATE_CACHE_EXPIRY_PROPERTY = "org.openapitools.codegen.templating.mustache.templatecache.expireafter.seconds";
+
+    // the number of distinct partial resolutions kept for a single template source before they are discarded
+    private static final int MAX_VARIANTS_PER_SOURCE = 16;
+
+    private static final Cache<SourceKey, CompiledSource> compiledSources;
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    // The executor used to resolve partials, which mustache loads lazily while a template is executed.
+    private static final ThreadLocal<TemplatingExecutor> currentExecutor = new ThreadLocal<>();
+
+    static {
+        int cacheSize = Integer.parseInt(GlobalSettings.getProperty(TEMPLATE_CACHE_SIZE_PROPERTY, "1000"));
+        int cacheExpiry = Integer.parseInt(GlobalSettings.getProperty(TEMPLATE_CACHE_EXPIRY_PROPERTY, "600"));
+        compiledSources = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterAccess(cacheExpiry, TimeUnit.SECONDS)
+                .ticker(Ticker.systemTicker())
+                .build();
+    }
+
+    private final MustacheEngineAdapter adapter;
+    private final CompilerSettings settings;
+    private final CachingCompiler cachingCompiler;
+    // Resolved template keys per executor (i.e. per generation run), by template file name.
+    private final Map<TemplatingExecutor, RunKeys> resolvedKeys = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Constructs a new instance of {@link MustacheTemplateCache}
+     *
+     * @param adapter  The adapter used to look up partials when they can't be resolved through the cache
+     * @param compiler The fully configured compiler used to compile templates
+     */
+    MustacheTemplateCache(MustacheEngineAdapter adapter, Mustache.Compiler compiler) {
+        this.adapter = adapter;
+        this.settings = new CompilerSettings(compiler);
+        this.cachingCompiler = new CachingCompiler(compiler);
+    }
+
+    /**
+     * Gets the compiled template for the given template file, compiling it (and its partials) only if no up-to-date
+     * compiled version is cached.
+     *
+     * @param executor     From where we can fetch the templates content (e.g. an instance of TemplateManager)
+     * @param templateFile The name of the template (e.g. model.mustache )
+     * @return The compiled template
+     */
+    Template getTemplate(TemplatingExecutor executor, String templateFile) {
+        return getTemplate(resolveKey(executor, templateFile, new HashMap<>()));
+    }
+
+    /**
+     * Executes a template obtained from this cache. Partials are resolved through the given executor.
+     *
+     * @param executor From where we can fetch the templates content (e.g. an instance of TemplateManager)
+     * @param template The compiled template
+     * @param context  The template context
+     * @param parent   The parent context
+     * @param out      Where to write the processed template
+     */
+    void execute(TemplatingExecutor executor, Template template, Object context, Object parent, Writer out) {
+        TemplatingExecutor previous = currentExecutor.get();
+        currentExecutor.set(executor);
+        try {
+            template.execute(context, parent, out);
+        } finally {
+            if (previous == null) {
+                currentExecutor.remove();
+            } else {
+                currentExecutor.set(previous);
+            }
+        }
+    }
+
+    /**
+     * @return The number of requests for a compiled template which were served from the cache.
+     */
+    public static long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of requests for a compiled template which required the template to be compiled.
+     */
+    public static long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Discards all compiled templates and resets the hit/miss counters.
+     */
+    public static void invalidateAll() {
+        compiledSources.invalidateAll();
+        hits.reset();
+        misses.reset();
+    }
+
+    private Template getTemplate(TemplateKey key) {
+        CompiledSource compiled = compiledSources.get(key.source, this::compile);
+        return compiled.variant(key.includes, () -> cachingCompiler.compile(key.source.content));
+    }
+
+    private CompiledSource compile(SourceKey source) {
+        return new CompiledSource(cachingCompiler.compile(source.content));
+    }
+
+    private TemplateKey resolveKey(TemplatingExecutor executor, String templateFile, Map<String, SourceKey> inProgress) {
+        RunKeys runKeys = resolvedKeys.computeIfAbsent(executor, e -> new RunKeys());
+        TemplateKey key = runKeys.keys.get(templateFile);
+        if (key != null) {
+            return key;
+        }
+
+        Path fullPath = executor.getFullTemplatePath(templateFile);
+        String path = fullPath == null ? templateFile : fullPath.toString();
+        SourceKey source = new SourceKey(settings, path, executor.getFullTemplateContents(templateFile));
+        CompiledSource compiled = compiledSources.get(source, this::compile);
+
+        inProgress.put(templateFile, source);
+        List<TemplateKey> includes = new ArrayList<>(compiled.includes.size());
+        for (String include : compiled.includes) {
+            includes.add(resolveIncludeKey(executor, include, inProgress, runKeys));
+        }
+        inProgress.remove(templateFile);
+
+        key = new TemplateKey(source, includes);
+        runKeys.keys.put(templateFile, key);
+        return key;
+    }
+
+    private TemplateKey resolveIncludeKey(TemplatingExecutor executor, String name, Map<String, SourceKey> inProgress, RunKeys runKeys) {
+        for (String templateFile : partialFiles(name)) {
+            SourceKey recursive = inProgress.get(templateFile);
+            if (recursive != null) {
+                // a recursive partial can't be keyed by its contents alone, so it is only reused within this run
+                return new TemplateKey(recursive, Collections.singletonList(new TemplateKey(runKeys.token, name)));
+            }
+            try {
+                return resolveKey(executor, templateFile, inProgress);
+            } catch (Exception ignored) {
+                // try the next extension; a partial which can't be found only fails once it is rendered
+            }
+        }
+        return new TemplateKey(null, name);
+    }
+
+    private List<String> partialFiles(String name) {
+        String[] extensions = adapter.getFileExtensions();
+        List<String> files = new ArrayList<>(extensions.length);
+        for (String extension : extensions) {
+            files.add(name + "." + extension);
+        }
+        return files;
+    }
+
+    /**
+     * A compiler which looks up the partials included by a template in the cache.
+     */
+    private final class CachingCompiler extends Mustache.Compiler {
+        CachingCompiler(Mustache.Compiler compiler) {
+            super(compiler.standardsMode, compiler.strictSections, compiler.nullValue, compiler.missingIsNull,
+                    compiler.emptyStringIsFalse, compiler.zeroIsFalse, compiler.formatter, compiler.escaper,
+                    name -> adapter.findTemplate(currentExecutor.get(), name), compiler.collector, compiler.delims);
+        }
+
+        @Override
+        public Template loadTemplate(String name) {
+            TemplatingExecutor executor = currentExecutor.get();
+            if (executor != null) {
+                RunKeys runKeys = resolvedKeys.computeIfAbsent(executor, e -> new RunKeys());
+                TemplateKey key = resolveIncludeKey(executor, name, new HashMap<>(), runKeys);
+                if (key.source != null) {
+                    return getTemplate(key);
+                }
+            }
+            // report the missing template as mustache would without the cache
+            return super.loadTemplate(name);
+        }
+    }
+
+    /**
+     * A compiled template source, along with the partial resolutions it has been compiled for.
+     * <p>
+     * Mustache memoizes partials within a compiled template, so one compiled instance is kept per distinct set of
+     * resolved partials.
+     */
+    private static final class CompiledSource {
+        private final List<String> includes = new ArrayList<>();
+        private final Map<List<TemplateKey>, Template> variants = new HashMap<>();
+        // the template compiled to determine the included partials, handed to the first variant
+        private Template unclaimed;
+
+        CompiledSource(Template template) {
+            this.unclaimed = template;
+            template.visit(new Mustache.Visitor() {
+                @Override
+                public void visitText(String text) {
+                }
+
+                @Override
+                public void visitVariable(String name) {
+                }
+
+                @Override
+                public boolean visitInclude(String name) {
+                    if (!includes.contains(name)) {
+                        includes.add(name);
+                    }
+                    // don't load the partial, it is keyed (and visited) separately
+                    return false;
+                }
+
+                @Override
+                public boolean visitSection(String name) {
+                    return true;
+                }
+
+                @Override
+                public boolean visitInvertedSection(String name) {
+                    return true;
+                }
+            });
+        }
+
+        synchronized Template variant(List<TemplateKey> includeKeys, Supplier<Template> compiler) {
+            Template template = variants.get(includeKeys);
+            if (template != null) {
+                hits.increment();
+                return template;
+            }
+            misses.increment();
+            if (unclaimed != null) {
+                template = unclaimed;
+                unclaimed = null;
+            } else {
+                template = compiler.get();
+            }
+            if (variants.size() >= MAX_VARIANTS_PER_SOURCE) {
+                variants.clear();
+            }
+            variants.put(includeKeys, template);
+            return template;
+        }
+    }
+
+    /**
+     * Keys resolved for a single executor. The token distinguishes keys which are only valid within that run.
+     */
+    private static final class RunKeys {
+        private final Object token = new Object();
+        private final Map<String, TemplateKey> keys = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Identifies a template source: the compiler settings it is compiled with, its resolved path and its contents.
+     */
+    private static final class SourceKey {
+        private final CompilerSettings settings;
+        private final String path;
+        private final String content;
+        private final int hash;
+
+        SourceKey(CompilerSettings settings, String path, String content) {
+            this.settings = settings;
+            this.path = path;
+            this.content = content;
+            this.hash = Objects.hash(settings, path, content);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            SourceKey that = (SourceKey) o;
+            return hash == that.hash && settings.equals(that.settings) && path.equals(that.path) && content.equals(that.content);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Identifies a compiled template: its source along with the keys of the partials it includes.
+     * Partials which can't be resolved are identified by their name (and, if recursive, by the run they belong to).
+     */
+    private static final class TemplateKey {
+        private final SourceKey source;
+        private final List<TemplateKey> includes;
+        private final Object unresolved;
+        private final int hash;
+
+        TemplateKey(SourceKey source, List<TemplateKey> includes) {
+            this.source = source;
+            this.includes = includes;
+            this.unresolved = null;
+            this.hash = Objects.hash(source, includes);
+        }
+
+        TemplateKey(Object scope, String name) {
+            this.source = null;
+            this.includes = Collections.emptyList();
+            this.unresolved = scope == null ? name : Arrays.asList(scope, name);
+            this.hash = Objects.hashCode(unresolved);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            TemplateKey that = (TemplateKey) o;
+            return hash == that.hash && Objects.equals(source, that.source) && includes.equals(that.includes)
+                    && Objects.equals(unresolved, that.unresolved);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * The settings of a {@link Mustache.Compiler} which affect how a template is compiled and executed.
+     */
+    private static final class CompilerSettings {
+        private final List<Object> values;
+
+        CompilerSettings(Mustache.Compiler compiler) {
+            // the default collector is stateless, but a new instance is created for each compiler
+            Object collector = compiler.collector.getClass() == DefaultCollector.class ? DefaultCollector.class : compiler.collector;
+            // the delimiters aren't accessible, so custom delimiters are detected by compiling a probe template
+            boolean defaultDelims = "x".equals(compiler.compile("{{.}}").execute("x"));
+            this.values = Arrays.asList(compiler.standardsMode, compiler.strictSections, compiler.nullValue,
+                    compiler.missingIsNull, compiler.emptyStringIsFalse, compiler.zeroIsFalse, compiler.formatter,
+                    compiler.escaper, collector, defaultDelims ? Boolean.TRUE : new Object());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            return values.equals(((CompilerSettings) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return values.hashCode();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.templating;
+
+import org.apache.commons.lang3.StringUtils;
+import org.openapitools.codegen.api.OutputSink;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Streams generated files as entries of a zip archive, without writing them to disk first.
+ * <p>
+ * Entries are written as soon as the files are generated, so a file can't be replaced once written and this sink
+ * reports no contents for files which have been written.
+ */
+public class ZipOutputSink implements OutputSink, Closeable {
+    private final ZipOutputStream zip;
+    private final Path root;
+    private final String prefix;
+    private final Set<String> entries = new HashSet<>();
+
+    /**
+     * Constructs a sink writing a zip archive to the given stream
+     *
+     * @param out    The stream receiving the archive, closed along with this sink
+     * @param root   The output directory of the generation, the entries are named relative to it
+     * @param prefix The directory containing all entries in the archive, or null to put them at the root
+     */
+    public ZipOutputSink(OutputStream out, Path root, String prefix) {
+        this.zip = new ZipOutputStream(out);
+        this.root = root.toAbsolutePath().normalize();
+        this.prefix = StringUtils.isEmpty(prefix) ? "" : StringUtils.removeEnd(prefix, "/") + "/";
+    }
+
+    private String entryName(Path path) throws IOException {
+        Path absolute = path.toAbsolutePath().normalize();
+        if (!absolute.startsWith(root)) {
+            throw new IOException("Can't write " + path + " outside of " + root + " to a zip archive");
+        }
+        return prefix + root.relativize(absolute).toString().replace(absolute.getFileSystem().getSeparator(), "/");
+    }
+
+    @Override
+    public synchronized boolean exists(Path path) {
+        try {
+            return entries.contains(entryName(path));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public byte[] read(Path path) {
+        return null;
+    }
+
+    @Override
+    public synchronized void write(Path path, byte[] contents) throws IOException {
+        String name = entryName(path);
+        if (!entries.add(name)) {
+            throw new IOException("The zip archive already contains " + name);
+        }
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(contents);
+        zip.closeEntry();
+    }
+
+    /**
+     * Completes the archive and closes the underlying stream
+     *
+     * @throws IOException If the archive cannot be completed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        zip.close();
+    }
+}
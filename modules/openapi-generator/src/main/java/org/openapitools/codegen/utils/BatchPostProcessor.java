@@ -0,0 +1,195 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import lombok.Getter;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Collects post-processing commands of the form {@code <command...> <file>} and runs each distinct command once per
+ * chunk of files, instead of once per file. Chunks are executed by a pool of parallel workers.
+ */
+public class BatchPostProcessor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchPostProcessor.class);
+
+    private final int batchSize;
+    private final int workers;
+    // command prefix -> queued file arguments, in the order the commands were first seen
+    private final Map<List<String>, List<String>> queued = new LinkedHashMap<>();
+
+    /**
+     * @param batchSize maximum number of files passed to a single command invocation
+     * @param workers   number of commands executed in parallel
+     */
+    public BatchPostProcessor(int batchSize, int workers) {
+        this.batchSize = Math.max(1, batchSize);
+        this.workers = Math.max(1, workers);
+    }
+
+    /**
+     * Queues a post-processing command. The last element is the file argument, everything before it is the command.
+     *
+     * @param commandArr the command and its arguments, ending with the file to process
+     */
+    public synchronized void add(String[] commandArr) {
+        if (commandArr.length < 2) {
+            throw new IllegalArgumentException("A batched post-processing command must end with a file argument");
+        }
+        List<String> command = List.of(Arrays.copyOf(commandArr, commandArr.length - 1));
+        queued.computeIfAbsent(command, k -> new ArrayList<>()).add(commandArr[commandArr.length - 1]);
+    }
+
+    /**
+     * @return true if no commands are queued
+     */
+    public synchronized boolean isEmpty() {
+        return queued.isEmpty();
+    }
+
+    /**
+     * Runs all queued commands and clears the queue.
+     *
+     * @return the aggregated outcome of all executed batches
+     */
+    public Report run() {
+        List<List<String>> batches = new ArrayList<>();
+        List<Integer> fileCounts = new ArrayList<>();
+        synchronized (this) {
+            for (Map.Entry<List<String>, List<String>> entry : queued.entrySet()) {
+                List<String> command = tokenize(entry.getKey());
+                List<String> files = entry.getValue();
+                for (int from = 0; from < files.size(); from += batchSize) {
+                    List<String> chunk = files.subList(from, Math.min(files.size(), from + batchSize));
+                    List<String> batch = new ArrayList<>(command);
+                    batch.addAll(chunk);
+                    batches.add(batch);
+                    fileCounts.add(chunk.size());
+                }
+            }
+            queued.clear();
+        }
+
+        Report report = new Report();
+        if (batches.isEmpty()) {
+            return report;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(workers, batches.size()));
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (List<String> batch : batches) {
+                results.add(executor.submit(() -> execute(batch)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                report.record(waitFor(results.get(i)), fileCounts.get(i));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return report;
+    }
+
+    private static int waitFor(Future<Integer> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        } catch (ExecutionException e) {
+            LOGGER.error("Error running post-processing batch. Exception: {}", e.getCause().getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Splits the command the same way {@link Runtime#exec(String)} does, so that user-supplied commands such as
+     * {@code /usr/bin/prettier -w} keep working, while file arguments are passed through untouched.
+     */
+    private static List<String> tokenize(List<String> command) {
+        List<String> tokens = new ArrayList<>();
+        StringTokenizer tokenizer = new StringTokenizer(String.join(" ", command));
+        while (tokenizer.hasMoreTokens()) {
+            tokens.add(tokenizer.nextToken());
+        }
+        return tokens;
+    }
+
+    private static int execute(List<String> batch) {
+        String command = String.join(" ", batch);
+        try {
+            Process p = new ProcessBuilder(batch).redirectErrorStream(true).start();
+            // drain the output while the process runs, large batches can otherwise block on a full pipe
+            String output = IOUtils.toString(p.getInputStream(), StandardCharsets.UTF_8);
+            int exitValue = p.waitFor();
+            if (exitValue != 0) {
+                LOGGER.error("Error running the command ({}). Exit value: {}, Error output: {}", command, exitValue, output.trim());
+            } else {
+                LOGGER.debug("Successfully executed: {}", command);
+            }
+            return exitValue;
+        } catch (IOException e) {
+            LOGGER.error("Error running the command ({}). Exception: {}", command, e.getMessage());
+            return -1;
+        } catch (InterruptedException e) {
+            LOGGER.error("Error running the command ({}). Exception: {}", command, e.getMessage());
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    /**
+     * Aggregated outcome of a {@link #run()}.
+     */
+    @Getter
+    public static class Report {
+        private int batches;
+        private int files;
+        private int failedBatches;
+        /**
+         * Number of batches per exit code; -1 stands for batches which could not be executed.
+         */
+        private final Map<Integer, Integer> exitCodes = new TreeMap<>();
+
+        private void record(int exitCode, int filesInBatch) {
+            batches++;
+            files += filesInBatch;
+            if (exitCode != 0) {
+                failedBatches++;
+            }
+            exitCodes.merge(exitCode, 1, Integer::sum);
+        }
+
+        public boolean isSuccessful() {
+            return failedBatches == 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%d files in %d batches, %d failed, exit codes %s", files, batches, failedBatches, exitCodes);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Fingerprints of the inputs of each generated file, as kept in {@code .openapi-generator/FINGERPRINTS}.
+ * <p>
+ * Each line of the manifest holds a fingerprint and the path of the generated file relative to the output directory,
+ * separated by a space. A file whose fingerprint matches the one recorded by the previous run does not need to be
+ * rendered again.
+ */
+public class FingerprintManifest {
+    public static final String FILENAME = "FINGERPRINTS";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FingerprintManifest.class);
+
+    private final Map<String, String> previous = new ConcurrentHashMap<>();
+    private final SortedMap<String, String> current = new ConcurrentSkipListMap<>();
+
+    /**
+     * Creates a manifest holding the fingerprints of the previous run, if any.
+     *
+     * @param previousManifest the manifest written by the previous run; it does not have to exist
+     */
+    public FingerprintManifest(Path previousManifest) {
+        if (Files.isRegularFile(previousManifest)) {
+            try {
+                for (String line : Files.readAllLines(previousManifest, StandardCharsets.UTF_8)) {
+                    int separator = line.indexOf(' ');
+                    if (separator > 0) {
+                        previous.put(line.substring(separator + 1), line.substring(0, separator));
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Unable to read {}, all files will be generated: {}", previousManifest, e.getMessage());
+                previous.clear();
+            }
+        }
+    }
+
+    /**
+     * Combines the parts of an input fingerprint.
+     *
+     * @param parts the parts, e.g. digests of the template and the template data
+     * @return the hex encoded fingerprint
+     */
+    public static String fingerprint(String... parts) {
+        MessageDigest md = TemplateDataDigest.newDigest();
+        for (String part : parts) {
+            md.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+            md.update((byte) 0);
+        }
+        return TemplateDataDigest.toHex(md.digest());
+    }
+
+    /**
+     * Records the fingerprint of a generated file for the next run.
+     *
+     * @param path        the path relative to the output directory
+     * @param fingerprint the fingerprint of the inputs of the file
+     * @return true if the previous run recorded the same fingerprint for the file
+     */
+    public boolean record(String path, String fingerprint) {
+        current.put(path, fingerprint);
+        return fingerprint.equals(previous.get(path));
+    }
+
+    /**
+     * @return the fingerprints recorded by this run, by path
+     */
+    public Map<String, String> getFingerprints() {
+        return Collections.unmodifiableMap(current);
+    }
+
+    /**
+     * @return the contents of the manifest for the fingerprints recorded by this run
+     */
+    public String serialize() {
+        StringBuilder sb = new StringBuilder();
+        current.forEach((path, fingerprint) -> sb.append(fingerprint).append(' ').append(path).append('\n'));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import java.util.*;
+
+/**
+ * The models referenced by the properties of each model, and the cycles among them.
+ * <p>
+ * Cycles are found once for the whole graph, by computing its strongly connected components: a reference from a model
+ * to another one is circular if and only if both belong to the same component, i.e. the referenced model leads back to
+ * the referencing one.
+ * <p>
+ * The models reachable from each component are computed once as well, the first time they are queried, from those of
+ * the components it references.
+ */
+public final class ModelDependencyGraph {
+    private final Map<String, List<String>> dependencies;
+    private final Map<String, Integer> componentOf = new HashMap<>();
+    private final List<Set<String>> components = new ArrayList<>();
+    private final BitSet cyclicComponents = new BitSet();
+    // the components reachable from each component, by component
+    private BitSet[] closures;
+
+    private ModelDependencyGraph(Map<String, List<String>> dependencies) {
+        this.dependencies = dependencies;
+    }
+
+    /**
+     * Builds the graph of the given dependencies.
+     *
+     * @param dependencies The data types referenced by each model, keyed by model name. Referenced data types which are
+     *                     not keys of this map are models without dependencies.
+     * @return the graph
+     */
+    public static ModelDependencyGraph of(Map<String, ? extends Collection<String>> dependencies) {
+        Map<String, List<String>> copy = new LinkedHashMap<>();
+        dependencies.forEach((model, referenced) -> copy.put(model, Collections.unmodifiableList(new ArrayList<>(new LinkedHashSet<>(referenced)))));
+        ModelDependencyGraph graph = new ModelDependencyGraph(Collections.unmodifiableMap(copy));
+        graph.findComponents();
+        return graph;
+    }
+
+    /**
+     * @return The models of the graph, in the order they were given
+     */
+    public Set<String> getModels() {
+        return dependencies.keySet();
+    }
+
+    /**
+     * @param model The name of a model
+     * @return The distinct data types referenced by the model, or an empty list if it's unknown
+     */
+    public List<String> getDependencies(String model) {
+        return dependencies.getOrDefault(model, Collections.emptyList());
+    }
+
+    /**
+     * Determines whether a reference from a model to a data type is part of a cycle, i.e. whether the model can be
+     * reached again by following the references from the data type.
+     *
+     * @param model    The name of the referencing model
+     * @param dataType The referenced data type
+     * @return true if the reference is circular
+     */
+    public boolean isCircularReference(String model, String dataType) {
+        if (model.equals(dataType)) {
+            return true;
+        }
+        Integer component = componentOf.get(model);
+        return component != null && component.equals(componentOf.get(dataType));
+    }
+
+    /**
+     * @param model The name of a model
+     * @return true if the model references itself, directly or through other models
+     */
+    public boolean isInCycle(String model) {
+        Integer component = componentOf.get(model);
+        return component != null && cyclicComponents.get(component);
+    }
+
+    /**
+     * @param model The name of a model
+     * @return The models which reference each other along with the given model, itself included, or an empty set if
+     * the model is not part of a cycle
+     */
+    public Set<String> getCycle(String model) {
+        return isInCycle(model) ? components.get(componentOf.get(model)) : Collections.emptySet();
+    }
+
+    /**
+     * Determines whether a model references another one, directly or through other models.
+     *
+     * @param model    The name of the referencing model
+     * @param dataType The referenced data type
+     * @return true if {@code dataType} is reached by following the references of {@code model}, which is the case for
+     * {@code model} itself only if it is part of a cycle
+     */
+    public boolean reaches(String model, String dataType) {
+        Integer source = componentOf.get(model);
+        Integer target = componentOf.get(dataType);
+        if (source == null || target == null) {
+            return false;
+        }
+        if (source.equals(target)) {
+            return cyclicComponents.get(source);
+        }
+        return getClosures()[source].get(target);
+    }
+
+    /**
+     * @param model The name of a model
+     * @return The data types referenced by the model, directly or through other models. The model itself is included
+     * only if it is part of a cycle.
+     */
+    public Set<String> getTransitiveDependencies(String model) {
+        Integer source = componentOf.get(model);
+        if (source == null) {
+            return Collections.emptySet();
+        }
+        Set<String> result = new LinkedHashSet<>();
+        if (cyclicComponents.get(source)) {
+            result.addAll(components.get(source));
+        }
+        getClosures()[source].stream().forEach(component -> result.addAll(components.get(component)));
+        return result;
+    }
+
+    /**
+     * @return The sets of models which reference each other, each one a strongly connected component of the graph
+     */
+    public List<Set<String>> getCycles() {
+        List<Set<String>> cycles = new ArrayList<>();
+        cyclicComponents.stream().forEach(component -> cycles.add(components.get(component)));
+        return cycles;
+    }
+
+    /**
+     * Components are numbered in reverse topological order: the components referenced by a component are found, and
+     * numbered, before it. The closure of each component can therefore be computed from the closures of lower numbers.
+     */
+    private synchronized BitSet[] getClosures() {
+        if (closures == null) {
+            BitSet[] result = new BitSet[components.size()];
+            for (int component = 0; component < result.length; component++) {
+                BitSet closure = new BitSet();
+                for (String member : components.get(component)) {
+                    for (String dependency : getDependencies(member)) {
+                        int referenced = componentOf.get(dependency);
+                        if (referenced != component && !closure.get(referenced)) {
+                            closure.set(referenced);
+                            closure.or(result[referenced]);
+                        }
+                    }
+                }
+                result[component] = closure;
+            }
+            closures = result;
+        }
+        return closures;
+    }
+
+    /**
+     * Finds the strongly connected components with Tarjan's algorithm, iteratively so that long chains of references
+     * don't overflow the stack.
+     */
+    private void findComponents() {
+        Map<String, Node> nodes = new HashMap<>();
+        Deque<Node> stack = new ArrayDeque<>();
+        Deque<Node> path = new ArrayDeque<>();
+        int index = 0;
+
+        for (String model : dependencies.keySet()) {
+            if (nodes.containsKey(model)) {
+                continue;
+            }
+            Node root = new Node(model, index++, getDependencies(model).iterator());
+            nodes.put(model, root);
+            stack.push(root);
+            path.push(root);
+
+            while (!path.isEmpty()) {
+                Node node = path.peek();
+                if (node.successors.hasNext()) {
+                    String successor = node.successors.next();
+                    Node next = nodes.get(successor);
+                    if (next == null) {
+                        next = new Node(successor, index++, getDependencies(successor).iterator());
+                        nodes.put(successor, next);
+                        stack.push(next);
+                        path.push(next);
+                    } else if (next.onStack) {
+                        node.lowLink = Math.min(node.lowLink, next.index);
+                    }
+                    continue;
+                }
+
+                path.pop();
+                if (!path.isEmpty()) {
+                    Node parent = path.peek();
+                    parent.lowLink = Math.min(parent.lowLink, node.lowLink);
+                }
+                if (node.lowLink == node.index) {
+                    int component = components.size();
+                    Set<String> members = new LinkedHashSet<>();
+                    Node member;
+                    do {
+                        member = stack.pop();
+                        member.onStack = false;
+                        members.add(member.name);
+                        componentOf.put(member.name, component);
+                    } while (member != node);
+                    components.add(Collections.unmodifiableSet(members));
+                    if (members.size() > 1 || getDependencies(node.name).contains(node.name)) {
+                        cyclicComponents.set(component);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class Node {
+        private final String name;
+        private final int index;
+        private final Iterator<String> successors;
+        private int lowLink;
+        private boolean onStack = true;
+
+        private Node(String name, int index, Iterator<String> successors) {
+            this.name = name;
+            this.index = index;
+            this.lowLink = index;
+            this.successors = successors;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.util.*;
+
+/**
+ * Index of how the schemas under 'components/schemas' are used by an OpenAPI document, built with a single traversal
+ * of its paths.
+ * <p>
+ * The index holds the content types each schema is referenced with, and the children of each parent schema. It is a
+ * snapshot, which does not see later modifications of the document.
+ */
+public final class SpecIndex {
+    private static final Set<String> FORM_CONTENT_TYPES = Set.of("application/x-www-form-urlencoded", "multipart/form-data");
+
+    // content types of each usage of a referenced schema (null if unknown), in the order the schemas are first referenced
+    private final Map<String, List<String>> usages = new LinkedHashMap<>();
+    // references found in a form content type, in the order they are found
+    private final List<String> formUsages = new ArrayList<>();
+    private final Map<String, List<String>> childrenMap;
+    private final List<String> declaredSchemas;
+
+    SpecIndex(OpenAPI openAPI) {
+        ModelUtils.visitOpenAPI(openAPI, (s, t) -> {
+            if (s != null && s.get$ref() != null) {
+                String ref = ModelUtils.getSimpleRef(s.get$ref());
+                usages.computeIfAbsent(ref, k -> new ArrayList<>()).add(t);
+                if (isFormContentType(t)) {
+                    formUsages.add(ref);
+                }
+            }
+        });
+
+        Map<String, List<String>> children;
+        try {
+            children = ModelUtils.getChildrenMap(openAPI);
+        } catch (NullPointerException npe) {
+            // in rare cases, such as a spec document with only one top-level oneOf schema and multiple referenced schemas,
+            // resolving the parents in getChildrenMap will raise an NPE
+            children = new HashMap<>();
+        }
+        this.childrenMap = Collections.unmodifiableMap(children);
+
+        this.declaredSchemas = List.copyOf(ModelUtils.getSchemas(openAPI).keySet());
+    }
+
+    private static boolean isFormContentType(String contentType) {
+        return contentType != null && FORM_CONTENT_TYPES.contains(contentType.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * @param name the name of a schema in 'components/schemas'
+     * @return the content types the schema is referenced with, one per usage (null for usages outside of a content,
+     * e.g. in a parameter or a property), or an empty list if the schema is not referenced from the paths
+     */
+    public List<String> getContentTypes(String name) {
+        return Collections.unmodifiableList(usages.getOrDefault(name, Collections.emptyList()));
+    }
+
+    /**
+     * @param name the name of a schema in 'components/schemas'
+     * @return the names of the schemas which have the schema as parent
+     */
+    public List<String> getChildren(String name) {
+        return Collections.unmodifiableList(childrenMap.getOrDefault(name, Collections.emptyList()));
+    }
+
+    /**
+     * @return the children per parent schema, see {@link ModelUtils#getChildrenMap(OpenAPI)}
+     */
+    public Map<String, List<String>> getChildrenMap() {
+        return childrenMap;
+    }
+
+    /**
+     * @return the schemas referenced from the paths, each followed by its children the first time it is referenced
+     */
+    public Set<String> getUsedSchemas() {
+        Set<String> usedSchemas = new LinkedHashSet<>();
+        for (String ref : usages.keySet()) {
+            usedSchemas.add(ref);
+            usedSchemas.addAll(getChildren(ref));
+        }
+        return usedSchemas;
+    }
+
+    /**
+     * @return the schemas of 'components/schemas' which are neither referenced nor the child of a referenced schema,
+     * in the order they are declared
+     */
+    public List<String> getUnusedSchemas() {
+        Set<String> usedSchemas = getUsedSchemas();
+        List<String> unusedSchemas = new ArrayList<>();
+        for (String name : declaredSchemas) {
+            if (!usedSchemas.contains(name)) {
+                unusedSchemas.add(name);
+            }
+        }
+        return unusedSchemas;
+    }
+
+    /**
+     * @return the schemas referenced only in a 'application/x-www-form-urlencoded' or 'multipart/form-data' content
+     */
+    public List<String> getSchemasUsedOnlyInFormParam() {
+        List<String> result = new ArrayList<>();
+        for (String ref : formUsages) {
+            if (usages.get(ref).stream().allMatch(SpecIndex::isFormContentType)) {
+                result.add(ref);
+            }
+        }
+        return result;
+    }
+}
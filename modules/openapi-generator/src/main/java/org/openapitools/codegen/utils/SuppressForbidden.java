@@ -0,0 +1,31 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openapitools.codegen.utils;
+
+import java.lang.annotation.*;
+
+/**
+ * Exempts a class, method or field from the forbiddenapis check, for code which needs a non-portable JDK API and
+ * degrades gracefully when it is missing. The reason must be given, and the annotated code kept as small as possible.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.TYPE, ElementType.METHOD, ElementType.CONSTRUCTOR, ElementType.FIELD})
+public @interface SuppressForbidden {
+    /**
+     * @return Why the forbidden API is needed
+     */
+    String reason();
+}
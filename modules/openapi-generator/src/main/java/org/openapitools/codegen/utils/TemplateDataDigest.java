@@ -0,0 +1,292 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.samskivert.mustache.Mustache;
+import io.swagger.v3.core.util.Json;
+import org.openapitools.codegen.CodegenConfig;
+import org.openapitools.codegen.CodegenModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Computes a stable digest of the data passed to a template, for use as the data part of an input fingerprint.
+ * <p>
+ * The maps and collections making up the template data (e.g. the bundle of the supporting files, or the models map of
+ * a model file) are traversed explicitly, with map entries sorted by key. The objects they hold (models, operations and
+ * properties, the OpenAPI document) are digested by their JSON serialization with sorted properties, i.e. what the
+ * debugModels and debugOperations options print, except that the parent and the interfaces of a model, which these
+ * options leave out, are included by name. JDK objects are digested by their string value. Lambdas and generator
+ * instances only contribute their class name, as their output depends on inputs which are digested anyway.
+ * <p>
+ * Template data shares large objects between files (the supporting files all receive the same OpenAPI document, and
+ * every model is also part of the supporting files' data). Digests of these objects are therefore cached by identity
+ * until {@link #clear()} is called. Callers must not modify cached objects between {@link #digest(Map)} and
+ * {@link #clear()}.
+ */
+public class TemplateDataDigest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TemplateDataDigest.class);
+
+    private static final ObjectWriter JSON_WRITER = Json.mapper()
+            .copy()
+            .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+            .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
+            .addMixIn(CodegenModel.class, CodegenModelMixIn.class)
+            .writer();
+
+    // digest of an object which can't be serialized
+    private static final byte[] UNDIGESTIBLE = new byte[0];
+
+    private final Set<Object> volatileValues = Collections.newSetFromMap(new IdentityHashMap<>());
+    // digests of the objects digested by their JSON serialization, kept until clear()
+    private final Map<Object, byte[]> digests = new IdentityHashMap<>();
+    // maps, collections and arrays being traversed, a container holding itself is only digested once
+    private final Set<Object> traversing = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * @param volatileValues values which change on every run, e.g. the generation date. Wherever these instances are
+     *                       found in the maps and collections of the template data, they are digested as a placeholder.
+     */
+    public TemplateDataDigest(Collection<?> volatileValues) {
+        this.volatileValues.addAll(volatileValues);
+    }
+
+    /**
+     * Digests template data.
+     *
+     * @param data the template data
+     * @return the hex encoded digest, or null if the data holds an object which can't be serialized. The files rendered
+     * from such data can't be fingerprinted, and must be rendered on every run.
+     */
+    public String digest(Map<String, Object> data) {
+        MessageDigest md = newDigest();
+        try {
+            writeMap(md, data);
+        } catch (UndigestibleValueException e) {
+            return null;
+        } finally {
+            traversing.clear();
+        }
+        return toHex(md.digest());
+    }
+
+    /**
+     * Forgets the digests cached for shared objects.
+     */
+    public void clear() {
+        digests.clear();
+    }
+
+    private void writeValue(MessageDigest md, Object value) {
+        if (value == null) {
+            md.update((byte) 'N');
+        } else if (volatileValues.contains(value)) {
+            md.update((byte) 'V');
+        } else if (value instanceof CharSequence) {
+            md.update((byte) 'S');
+            writeString(md, value.toString());
+        } else if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            md.update((byte) 'P');
+            writeString(md, value.getClass().getName());
+            writeString(md, value.toString());
+        } else if (value instanceof Enum) {
+            md.update((byte) 'E');
+            writeString(md, value.getClass().getName());
+            writeString(md, ((Enum<?>) value).name());
+        } else if (value instanceof Class) {
+            md.update((byte) 'C');
+            writeString(md, ((Class<?>) value).getName());
+        } else if (isOpaque(value)) {
+            md.update((byte) 'F');
+            writeString(md, value.getClass().isSynthetic() ? "" : value.getClass().getName());
+        } else if (value instanceof Map) {
+            writeMap(md, (Map<?, ?>) value);
+        } else if (value instanceof Collection) {
+            writeCollection(md, (Collection<?>) value);
+        } else if (value.getClass().isArray()) {
+            writeArray(md, value);
+        } else if (isJdkType(value.getClass())) {
+            md.update((byte) 'T');
+            writeString(md, value.getClass().getName());
+            writeString(md, value.getClass() == Object.class ? "" : value.toString());
+        } else {
+            md.update((byte) 'J');
+            md.update(jsonDigest(value));
+        }
+    }
+
+    private void writeMap(MessageDigest md, Map<?, ?> map) {
+        if (!traversing.add(map)) {
+            md.update((byte) 'R');
+            return;
+        }
+        md.update((byte) 'M');
+        writeInt(md, map.size());
+        // keys are digested first, so that entries can be sorted whatever the type of the keys
+        List<Map.Entry<byte[], Object>> entries = new ArrayList<>(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            MessageDigest key = newDigest();
+            writeValue(key, entry.getKey());
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(key.digest(), entry.getValue()));
+        }
+        entries.sort((a, b) -> Arrays.compare(a.getKey(), b.getKey()));
+        for (Map.Entry<byte[], Object> entry : entries) {
+            md.update(entry.getKey());
+            writeValue(md, entry.getValue());
+        }
+        traversing.remove(map);
+    }
+
+    private void writeCollection(MessageDigest md, Collection<?> collection) {
+        if (!traversing.add(collection)) {
+            md.update((byte) 'R');
+            return;
+        }
+        // in iteration order, which is the order templates render the items in
+        md.update((byte) 'L');
+        writeInt(md, collection.size());
+        for (Object item : collection) {
+            writeValue(md, item);
+        }
+        traversing.remove(collection);
+    }
+
+    private void writeArray(MessageDigest md, Object array) {
+        if (!traversing.add(array)) {
+            md.update((byte) 'R');
+            return;
+        }
+        md.update((byte) 'A');
+        writeString(md, array.getClass().getComponentType().getName());
+        int length = Array.getLength(array);
+        writeInt(md, length);
+        for (int i = 0; i < length; i++) {
+            writeValue(md, Array.get(array, i));
+        }
+        traversing.remove(array);
+    }
+
+    private byte[] jsonDigest(Object value) {
+        byte[] digest = digests.get(value);
+        if (digest == null) {
+            MessageDigest md = newDigest();
+            writeString(md, value.getClass().getName());
+            try (OutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), md)) {
+                JSON_WRITER.writeValue(out, value);
+                digest = md.digest();
+            } catch (IOException | RuntimeException e) {
+                LOGGER.warn("Unable to serialize {} to fingerprint the template data, the files using it will be generated on every run: {}",
+                        value.getClass().getName(), e.getMessage());
+                LOGGER.debug("Serialization failure", e);
+                digest = UNDIGESTIBLE;
+            }
+            digests.put(value, digest);
+        }
+        if (digest == UNDIGESTIBLE) {
+            throw new UndigestibleValueException();
+        }
+        return digest;
+    }
+
+    private static boolean isOpaque(Object value) {
+        return value instanceof Mustache.Lambda
+                || value instanceof CodegenConfig
+                || value.getClass().isSynthetic()
+                || value.getClass().getName().contains("$$Lambda");
+    }
+
+    private static boolean isJdkType(Class<?> type) {
+        String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.") || name.startsWith("sun.") || name.startsWith("com.sun.");
+    }
+
+    private static void writeString(MessageDigest md, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeInt(md, bytes.length);
+        md.update(bytes);
+    }
+
+    private static void writeInt(MessageDigest md, int value) {
+        md.update((byte) (value >>> 24));
+        md.update((byte) (value >>> 16));
+        md.update((byte) (value >>> 8));
+        md.update((byte) value);
+    }
+
+    /**
+     * Serializes the parent and the interfaces of a model by name. The model holds them as references to other models,
+     * which is why they are left out of its JSON serialization, but templates use them.
+     */
+    @JsonIgnoreProperties({})
+    private abstract static class CodegenModelMixIn {
+        @JsonSerialize(using = ModelNameSerializer.class)
+        public CodegenModel parentModel;
+        @JsonSerialize(contentUsing = ModelNameSerializer.class)
+        public List<CodegenModel> interfaceModels;
+    }
+
+    private static final class ModelNameSerializer extends StdSerializer<CodegenModel> {
+        public ModelNameSerializer() {
+            super(CodegenModel.class);
+        }
+
+        @Override
+        public void serialize(CodegenModel model, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeString(model.name);
+        }
+    }
+
+    private static final class UndigestibleValueException extends RuntimeException {
+        UndigestibleValueException() {
+            super(null, null, false, false);
+        }
+    }
+
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+}
@@ -11,12 +11,16 @@ import org.openapitools.codegen.utils.ModelUtils;
 import org.openapitools.codegen.validation.*;
 
 import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * A validator which evaluates an OpenAPI 3.x specification document
  */
 public class OpenApiEvaluator implements Validator<OpenAPI> {
     private RuleConfiguration ruleConfiguration;
+    private final boolean parallel;
+    private final ValidationTimings timings;
 
     /**
      * Constructs a new instance of {@link OpenApiEvaluator} with applied rules.
@@ -24,7 +28,21 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
      * @param ruleConfiguration The set of rules to be applied to evaluation.
      */
     public OpenApiEvaluator(RuleConfiguration ruleConfiguration) {
+        this(ruleConfiguration, false, null);
+    }
+
+    /**
+     * Constructs a new instance of {@link OpenApiEvaluator} with applied rules.
+     *
+     * @param ruleConfiguration The set of rules to be applied to evaluation.
+     * @param parallel          Whether the schemas, operations, security schemes and parameters are validated in parallel.
+     *                          The validation results are in the same order either way.
+     * @param timings           The timings to record the time taken by each rule to, or null to not record them.
+     */
+    public OpenApiEvaluator(RuleConfiguration ruleConfiguration, boolean parallel, ValidationTimings timings) {
         this.ruleConfiguration = ruleConfiguration;
+        this.parallel = parallel;
+        this.timings = timings;
     }
 
     /**
@@ -45,15 +63,24 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
 
         if (ruleConfiguration.isEnableUnusedSchemasRecommendation()) {
             ValidationRule unusedSchema = ValidationRule.create(Severity.WARNING, "Unused schema", "A schema was determined to be unused.", s -> ValidationRule.Pass.empty());
-            ModelUtils.getUnusedSchemas(specification).forEach(schemaName -> validationResult.addResult(Validated.invalid(unusedSchema, "Unused model: " + schemaName)));
+            long start = System.nanoTime();
+            List<String> unusedSchemas = ModelUtils.getUnusedSchemas(specification);
+            if (timings != null) {
+                timings.record(unusedSchema, System.nanoTime() - start);
+            }
+            unusedSchemas.forEach(schemaName -> validationResult.addResult(Validated.invalid(unusedSchema, "Unused model: " + schemaName)));
         }
 
+        // Each schema, operation, security scheme and parameter is validated independently of the others, so the
+        // validations are collected first and run sequentially or in parallel, in the order they were collected.
+        List<Supplier<ValidationResult>> validations = new ArrayList<>();
+
         // Get list of all schemas under /components/schemas, including nested schemas defined inline and composed schema.
         // The validators must be able to validate every schema defined in the OAS document.
         List<Schema> schemas = ModelUtils.getAllSchemas(specification);
         schemas.forEach(schema -> {
             SchemaWrapper wrapper = new SchemaWrapper(specification, schema);
-            validationResult.consume(schemaValidations.validate(wrapper));
+            validations.add(() -> schemaValidations.validate(wrapper, timings));
         });
 
         List<Parameter> parameters = new ArrayList<>(50);
@@ -73,7 +100,7 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
                         }
 
                         OperationWrapper wrapper = new OperationWrapper(specification, op, httpMethod);
-                        validationResult.consume(operationValidations.validate(wrapper));
+                        validations.add(() -> operationValidations.validate(wrapper, timings));
                     }
                 });
             });
@@ -85,7 +112,7 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
             if (securitySchemes != null && !securitySchemes.isEmpty()) {
                 securitySchemes.values().forEach(securityScheme -> {
                     SecuritySchemeWrapper wrapper = new SecuritySchemeWrapper(specification, securityScheme);
-                    validationResult.consume(securitySchemeValidations.validate(wrapper));
+                    validations.add(() -> securitySchemeValidations.validate(wrapper, timings));
                 });
             }
 
@@ -94,11 +121,16 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
             }
         }
 
-        parameters.forEach(parameter -> {
-            parameter = ModelUtils.getReferencedParameter(specification, parameter);
-            ParameterWrapper wrapper = new ParameterWrapper(specification, parameter);
-            validationResult.consume(parameterValidations.validate(wrapper));
-        });
+        parameters.forEach(parameter -> validations.add(() -> {
+            ParameterWrapper wrapper = new ParameterWrapper(specification, ModelUtils.getReferencedParameter(specification, parameter));
+            return parameterValidations.validate(wrapper, timings);
+        }));
+
+        // parallel streams keep the encounter order when collecting to a list
+        (parallel ? validations.parallelStream() : validations.stream())
+                .map(Supplier::get)
+                .collect(Collectors.toList())
+                .forEach(validationResult::consume);
 
         List<Tag> tags = specification.getTags();
         if (tags != null && tags.size() > 1) {
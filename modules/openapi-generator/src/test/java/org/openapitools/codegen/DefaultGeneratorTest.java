@@ -1,5 +1,9 @@
 package org.openapitools.codegen;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import com.samskivert.mustache.Mustache;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
@@ -13,8 +17,10 @@ import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
 import org.openapitools.codegen.config.CodegenConfigurator;
 import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.languages.JavaClientCodegen;
 import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.OperationsMap;
+import org.openapitools.codegen.templating.InMemoryOutputSink;
 import org.openapitools.codegen.utils.ModelUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -25,7 +31,12 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 public class DefaultGeneratorTest {
 
@@ -180,6 +191,272 @@ public class DefaultGeneratorTest {
         }
     }
 
+    @Test
+    public void parallelRenderingMatchesSequentialOutput() throws IOException {
+        assertParallelRenderingMatchesSequentialOutput(generatePetstore("java", null, "src/test/resources/3_0/petstore.yaml", Collections.emptyMap()));
+    }
+
+    @Test
+    public void parallelRenderingKeepsStatefulLambdasPerFile() throws IOException {
+        // the generichost model template pairs lambda.copy with lambda.paste, which share state within a file
+        assertParallelRenderingMatchesSequentialOutput(generatePetstore("csharp", "generichost",
+                "src/test/resources/3_0/csharp/petstore-with-fake-endpoints-models-for-testing-with-http-signature.yaml",
+                Collections.singletonMap("packageGuid", "{321C8C3F-0156-40C1-AE42-D59761FB9B6C}")));
+    }
+
+    @Test
+    public void parallelRendersDoNotOverlapConfigProcessing() throws IOException {
+        Path target = Files.createTempDirectory("test");
+        try {
+            Path templates = Files.createDirectories(target.resolve("templates"));
+            Files.write(templates.resolve("model.mustache"),
+                    "{{#models}}{{#model}}{{#vars}}{{#lambda.modelName}}{{classname}}_{{name}}{{/lambda.modelName}}\n{{/vars}}{{/model}}{{/models}}".getBytes(StandardCharsets.UTF_8));
+            Files.write(templates.resolve("api.mustache"),
+                    "{{#operations}}{{#operation}}{{#lambda.modelName}}{{nickname}}_result{{/lambda.modelName}}\n{{/operation}}{{/operations}}".getBytes(StandardCharsets.UTF_8));
+
+            AtomicInteger processing = new AtomicInteger();
+            AtomicInteger overlaps = new AtomicInteger();
+            Set<String> lambdaThreads = ConcurrentHashMap.newKeySet();
+            JavaClientCodegen config = new JavaClientCodegen() {
+                @Override
+                protected ImmutableMap.Builder<String, Mustache.Lambda> addMustacheLambdas() {
+                    return super.addMustacheLambdas().put("modelName", (fragment, writer) -> {
+                        lambdaThreads.add(Thread.currentThread().getName());
+                        if (processing.get() > 0) {
+                            overlaps.incrementAndGet();
+                        }
+                        // calls back into the generator and its model name cache
+                        writer.write(toModelName(fragment.execute()));
+                    });
+                }
+
+                @Override
+                public OperationsMap postProcessOperationsWithModels(OperationsMap objs, List<ModelMap> allModels) {
+                    return whileProcessing(() -> super.postProcessOperationsWithModels(objs, allModels));
+                }
+
+                @Override
+                public String modelFilename(String templateName, String modelName) {
+                    return whileProcessing(() -> super.modelFilename(templateName, modelName));
+                }
+
+                private <T> T whileProcessing(Supplier<T> step) {
+                    processing.incrementAndGet();
+                    try {
+                        // leaves queued renders time to run, were they started before the phase is prepared
+                        Thread.sleep(20);
+                        return step.get();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RuntimeException(e);
+                    } finally {
+                        processing.decrementAndGet();
+                    }
+                }
+            };
+            config.setOutputDir(target.resolve("out").toAbsolutePath().toString());
+            config.additionalProperties().put(CodegenConstants.TEMPLATE_DIR, templates.toAbsolutePath().toString());
+            config.setRenderThreads(4);
+
+            DefaultGenerator generator = new DefaultGenerator();
+            generator.setGenerateMetadata(false);
+            generator.opts(new ClientOptInput()
+                    .openAPI(TestUtils.parseFlattenSpec("src/test/resources/3_0/petstore.yaml"))
+                    .config(config));
+            generator.generate();
+
+            Assert.assertEquals(overlaps.get(), 0);
+            Assert.assertTrue(lambdaThreads.stream().allMatch(name -> name.startsWith("openapi-generator-render-")), lambdaThreads.toString());
+            Path out = target.resolve("out/src/main/java/org/openapitools/client");
+            Assert.assertEquals(Files.readAllLines(out.resolve("model/Tag.java")), Arrays.asList("TagId", "TagName"));
+            Assert.assertTrue(Files.readAllLines(out.resolve("api/PetApi.java")).contains("AddPetResult"));
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
+
+    private static void assertParallelRenderingMatchesSequentialOutput(BiFunction<Path, Integer, List<File>> generate) throws IOException {
+        Path sequentialTarget = Files.createTempDirectory("test");
+        Path parallelTarget = Files.createTempDirectory("test");
+        try {
+            List<File> sequentialFiles = generate.apply(sequentialTarget, 1);
+            List<File> parallelFiles = generate.apply(parallelTarget, 4);
+
+            Assert.assertEquals(relativePaths(parallelTarget, parallelFiles), relativePaths(sequentialTarget, sequentialFiles));
+            for (File file : sequentialFiles) {
+                Path relative = sequentialTarget.toAbsolutePath().relativize(file.toPath().toAbsolutePath());
+                Assert.assertEquals(Files.readAllBytes(parallelTarget.resolve(relative)), Files.readAllBytes(file.toPath()), relative.toString());
+            }
+            Assert.assertEquals(Files.readAllBytes(parallelTarget.resolve(".openapi-generator/FILES")),
+                    Files.readAllBytes(sequentialTarget.resolve(".openapi-generator/FILES")));
+        } finally {
+            sequentialTarget.toFile().deleteOnExit();
+            parallelTarget.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void reportsPathsOnlyDifferingInCase() throws IOException {
+        Path target = Files.createTempDirectory("test");
+        try {
+            final CodegenConfigurator configurator = new CodegenConfigurator()
+                    .setGeneratorName("java")
+                    .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                    .addModelNameMapping("Tag", "PET")
+                    .setOutputDir(target.toAbsolutePath().toString());
+            DefaultGenerator generator = new DefaultGenerator();
+            generator.opts(configurator.toClientOptInput()).generate();
+
+            String modelDir = target.toAbsolutePath().resolve("src/main/java/org/openapitools/client/model").toString();
+            Set<String> duplicates = generator.getDuplicateFilePaths();
+            Assert.assertTrue(duplicates.contains(modelDir + File.separator + "PET.java")
+                    || duplicates.contains(modelDir + File.separator + "Pet.java"), duplicates.toString());
+            Assert.assertTrue(duplicates.stream().noneMatch(p -> p.endsWith("Category.java")), duplicates.toString());
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void incrementalUpdateOnlyRendersFilesWithChangedInputs() throws IOException {
+        Path target = Files.createTempDirectory("test");
+        try {
+            Path spec = target.resolve("petstore.yaml");
+            Files.copy(java.nio.file.Paths.get("src/test/resources/3_0/petstore.yaml"), spec);
+            Path output = target.resolve("out");
+            Path modelDir = output.resolve("src/main/java/org/openapitools/client/model");
+
+            List<File> files = generateIncrementally(spec, output);
+            Assert.assertTrue(Files.exists(output.resolve(".openapi-generator/FINGERPRINTS")));
+            String manifest = new String(Files.readAllBytes(output.resolve(".openapi-generator/FINGERPRINTS")), StandardCharsets.UTF_8);
+            Assert.assertTrue(manifest.contains(" src/main/java/org/openapitools/client/model/Tag.java\n"), manifest);
+
+            // nothing changed: no file is rendered again, but they are still reported
+            FileTime old = FileTime.fromMillis(0);
+            for (File file : files) {
+                Files.setLastModifiedTime(file.toPath(), old);
+            }
+            List<String> unchanged = relativePaths(output, generateIncrementally(spec, output));
+            Assert.assertTrue(unchanged.contains("README.md"), unchanged.toString());
+            Assert.assertTrue(unchanged.contains(java.nio.file.Paths.get("src/main/java/org/openapitools/client/model/Tag.java").toString()), unchanged.toString());
+            Assert.assertEquals(Files.getLastModifiedTime(modelDir.resolve("Tag.java")), old);
+            Assert.assertEquals(Files.getLastModifiedTime(output.resolve("README.md")), old);
+
+            // a changed schema only renders the files using it
+            String content = new String(Files.readAllBytes(spec), StandardCharsets.UTF_8);
+            Files.write(spec, content.replace("description: A tag for a pet", "description: A label for a pet").getBytes(StandardCharsets.UTF_8));
+            generateIncrementally(spec, output);
+            Assert.assertNotEquals(Files.getLastModifiedTime(modelDir.resolve("Tag.java")), old);
+            Assert.assertTrue(new String(Files.readAllBytes(modelDir.resolve("Tag.java")), StandardCharsets.UTF_8).contains("A label for a pet"));
+            Assert.assertEquals(Files.getLastModifiedTime(modelDir.resolve("Category.java")), old);
+            Assert.assertEquals(Files.getLastModifiedTime(modelDir.resolve("User.java")), old);
+            Assert.assertEquals(Files.getLastModifiedTime(output.resolve("src/main/java/org/openapitools/client/api/StoreApi.java")), old);
+
+            // a missing file is generated again
+            Files.delete(modelDir.resolve("User.java"));
+            generateIncrementally(spec, output);
+            Assert.assertTrue(Files.exists(modelDir.resolve("User.java")));
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void incrementalUpdateRendersFilesAgainWhenAPartialChanges() throws IOException {
+        Path target = Files.createTempDirectory("test");
+        try {
+            Path spec = target.resolve("petstore.yaml");
+            Files.copy(java.nio.file.Paths.get("src/test/resources/3_0/petstore.yaml"), spec);
+            Path templates = Files.createDirectories(target.resolve("templates"));
+            Files.write(templates.resolve("model.mustache"), "{{#models}}{{#model}}{{>modelName}}{{/model}}{{/models}}\n".getBytes(StandardCharsets.UTF_8));
+            Files.write(templates.resolve("modelName.mustache"), "{{>modelPrefix}}{{classname}}".getBytes(StandardCharsets.UTF_8));
+            Files.write(templates.resolve("modelPrefix.mustache"), "model ".getBytes(StandardCharsets.UTF_8));
+            Path output = target.resolve("out");
+            Path tag = output.resolve("src/main/java/org/openapitools/client/model/Tag.java");
+
+            generateIncrementally(spec, output, templates);
+            Assert.assertEquals(Files.readAllLines(tag), Collections.singletonList("model Tag"));
+            FileTime old = FileTime.fromMillis(0);
+            Files.setLastModifiedTime(tag, old);
+            generateIncrementally(spec, output, templates);
+            Assert.assertEquals(Files.getLastModifiedTime(tag), old);
+
+            // a partial included by a partial changes
+            Files.write(templates.resolve("modelPrefix.mustache"), "class ".getBytes(StandardCharsets.UTF_8));
+            generateIncrementally(spec, output, templates);
+            Assert.assertEquals(Files.readAllLines(tag), Collections.singletonList("class Tag"));
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
+
+    private static List<File> generateIncrementally(Path spec, Path output) {
+        return generateIncrementally(spec, output, null);
+    }
+
+    private static List<File> generateIncrementally(Path spec, Path output, Path templates) {
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setInputSpec(spec.toString())
+                .setEnableIncrementalUpdate(true)
+                .setOutputDir(output.toAbsolutePath().toString());
+        if (templates != null) {
+            configurator.setTemplateDir(templates.toAbsolutePath().toString());
+        }
+        return new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+    }
+
+    private static BiFunction<Path, Integer, List<File>> generatePetstore(String generatorName, String library, String spec, Map<String, Object> additionalProperties) {
+        return (target, renderThreads) -> {
+            final CodegenConfigurator configurator = new CodegenConfigurator()
+                    .setGeneratorName(generatorName)
+                    .setLibrary(library)
+                    .setInputSpec(spec)
+                    .addAdditionalProperty(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true)
+                    .setRenderThreads(renderThreads)
+                    .setOutputDir(target.toAbsolutePath().toString());
+            additionalProperties.forEach(configurator::addAdditionalProperty);
+            return new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+        };
+    }
+
+    private static List<String> relativePaths(Path root, List<File> files) {
+        List<String> paths = new ArrayList<>();
+        for (File file : files) {
+            paths.add(root.toAbsolutePath().relativize(file.toPath().toAbsolutePath()).toString());
+        }
+        return paths;
+    }
+
+    @Test
+    public void profileRecordsGenerationStages() throws IOException {
+        Path target = Files.createTempDirectory("test");
+        try {
+            Path profile = target.resolve("profile/generation.json");
+            final CodegenConfigurator configurator = new CodegenConfigurator()
+                    .setGeneratorName("java")
+                    .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                    .setProfile(profile.toString())
+                    .setOutputDir(target.resolve("out").toAbsolutePath().toString());
+            new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+
+            JsonNode report = new ObjectMapper().readTree(profile.toFile());
+            Map<String, JsonNode> stages = new HashMap<>();
+            report.get("stages").forEach(stage -> stages.put(stage.get("stage").asText(), stage));
+            Assert.assertTrue(stages.containsKey("parse"));
+            Assert.assertTrue(stages.containsKey("generate;configure;preprocessOpenAPI"));
+            Assert.assertTrue(stages.get("generate;models;fromModel").get("count").asLong() >= 6);
+            Assert.assertEquals(stages.get("generate;apis;fromOperation").get("count").asLong(), 20);
+            Assert.assertTrue(stages.containsKey("generate;models;render;write"));
+            Assert.assertFalse(stages.get("generate;apis;fromOperation").get("slowest").isEmpty());
+
+            List<String> collapsed = Files.readAllLines(target.resolve("profile/generation.collapsed"), StandardCharsets.UTF_8);
+            Assert.assertTrue(collapsed.stream().anyMatch(line -> line.matches("generate;models;fromModel \\d+")), collapsed.toString());
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
+
     @Test
     public void dryRunWithApisOnly() throws IOException {
         Path target = Files.createTempDirectory("test");
@@ -344,6 +621,63 @@ public class DefaultGeneratorTest {
         }
     }
 
+    @Test
+    public void writesTheIgnoreListAndKeepsTestFilesOfTheOutputSink() throws IOException {
+        Path target = Files.createTempDirectory("test");
+        Path output = target.resolve("out");
+        try {
+            OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/petstore.yaml");
+            JavaClientCodegen config = new JavaClientCodegen();
+            config.setOutputDir(output.toString());
+            config.openapiGeneratorIgnoreList().add("README.md");
+
+            // test files the sink already holds, e.g. from an earlier generation
+            InMemoryOutputSink sink = new InMemoryOutputSink();
+            Path modelTest = output.resolve("src/test/java/org/openapitools/client/model/PetTest.java");
+            Path apiTest = output.resolve("src/test/java/org/openapitools/client/api/PetApiTest.java");
+            sink.write(modelTest, "model test".getBytes(StandardCharsets.UTF_8));
+            sink.write(apiTest, "api test".getBytes(StandardCharsets.UTF_8));
+
+            new DefaultGenerator().opts(new ClientOptInput().openAPI(openAPI).config(config).outputSink(sink)).generate();
+
+            String ignoreFile = new String(sink.read(output.resolve(".openapi-generator-ignore")), StandardCharsets.UTF_8);
+            Assert.assertTrue(ignoreFile.endsWith("\nREADME.md\n"), ignoreFile);
+            Assert.assertFalse(sink.exists(output.resolve("README.md")));
+            Assert.assertTrue(sink.exists(output.resolve("pom.xml")));
+            Assert.assertEquals(new String(sink.read(modelTest), StandardCharsets.UTF_8), "model test");
+            Assert.assertEquals(new String(sink.read(apiTest), StandardCharsets.UTF_8), "api test");
+            Assert.assertTrue(sink.exists(output.resolve("src/test/java/org/openapitools/client/model/TagTest.java")));
+            // nothing is written to the file system
+            Assert.assertFalse(Files.exists(output));
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void specIndexIsRebuiltAfterTheDocumentIsProcessed() throws IOException {
+        Path target = Files.createTempDirectory("test");
+        try {
+            OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/unusedSchemas.yaml");
+            JavaClientCodegen config = new JavaClientCodegen() {
+                @Override
+                public void processOpenAPI(OpenAPI openAPI) {
+                    super.processOpenAPI(openAPI);
+                    openAPI.getComponents().addSchemas("AddedObj", new StringSchema());
+                }
+            };
+            config.setOutputDir(target.toAbsolutePath().toString());
+
+            DefaultGenerator generator = new DefaultGenerator(true);
+            generator.opts(new ClientOptInput().openAPI(openAPI).config(config));
+            Assert.assertFalse(generator.getSpecIndex().getUnusedSchemas().contains("AddedObj"));
+            generator.generate();
+            Assert.assertTrue(generator.getSpecIndex().getUnusedSchemas().contains("AddedObj"));
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
+
     @Test
     public void testNonStrictProcessPaths() throws Exception {
         OpenAPI openAPI = TestUtils.createOpenAPI();
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import org.openapitools.codegen.languages.JavaClientCodegen;
+import org.openapitools.codegen.meta.Stability;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class GeneratorRegistryTest {
+
+    @Test
+    public void indexEntriesRoundTrip() {
+        GeneratorDescriptor generator = new GeneratorDescriptor("java", JavaClientCodegen.class.getName(), CodegenType.CLIENT, Stability.STABLE);
+        Assert.assertEquals(GeneratorRegistry.parse(GeneratorRegistry.format(generator)), generator);
+
+        GeneratorDescriptor unspecified = new GeneratorDescriptor("custom", "com.example.CustomCodegen", null, null);
+        Assert.assertEquals(GeneratorRegistry.parse(GeneratorRegistry.format(unspecified)), unspecified);
+    }
+
+    @Test
+    public void descriptorsMatchTheirConfigs() {
+        List<GeneratorDescriptor> generators = GeneratorRegistry.getDefault().getAll();
+        Assert.assertFalse(generators.isEmpty());
+        for (GeneratorDescriptor generator : generators) {
+            CodegenConfig config = GeneratorRegistry.getDefault().newInstance(generator);
+            Assert.assertEquals(GeneratorDescriptor.of(config), generator);
+        }
+    }
+
+    @Test
+    public void forNameInstantiatesTheRequestedGenerator() {
+        CodegenConfig config = CodegenConfigLoader.forName("java");
+        Assert.assertTrue(config instanceof JavaClientCodegen);
+        Assert.assertNotSame(CodegenConfigLoader.forName("java"), config);
+    }
+
+    @Test(expectedExceptions = GeneratorNotFoundException.class)
+    public void forNameRejectsUnknownGenerators() {
+        CodegenConfigLoader.forName("no-such-generator");
+    }
+
+    @Test
+    public void indexIsPreferredOverInstantiation() throws Exception {
+        Path root = Files.createTempDirectory("registry");
+        root.toFile().deleteOnExit();
+        Path services = root.resolve("META-INF/services/" + CodegenConfig.class.getName());
+        Files.createDirectories(services.getParent());
+        Files.write(services, "com.example.MissingCodegen # not on the classpath\n".getBytes("UTF-8"));
+        Path index = root.resolve(GeneratorRegistry.INDEX);
+        Files.createDirectories(index.getParent());
+        Files.write(index, "missing\tcom.example.MissingCodegen\tSERVER\tBETA\n".getBytes("UTF-8"));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{root.toUri().toURL()}, null)) {
+            GeneratorRegistry registry = new GeneratorRegistry(classLoader);
+            GeneratorDescriptor generator = registry.find("missing");
+            Assert.assertNotNull(generator);
+            Assert.assertEquals(generator.getTag(), CodegenType.SERVER);
+            Assert.assertEquals(generator.getStability(), Stability.BETA);
+            Assert.assertEquals(registry.getAll().size(), 1);
+        } finally {
+            for (File file : new File[]{index.toFile(), services.toFile()}) {
+                file.delete();
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class SchemaFingerprintTest {
+
+    private static Schema person() {
+        return new ObjectSchema()
+                .addProperty("name", new StringSchema().maxLength(10))
+                .addProperty("age", new Schema<>().type("integer").format("int32"))
+                .description("a person");
+    }
+
+    @Test
+    public void equalSchemasHaveEqualFingerprints() {
+        Assert.assertEquals(SchemaFingerprint.of(person()), SchemaFingerprint.of(person()));
+        Assert.assertTrue(SchemaFingerprint.structurallyEqual(person(), person()));
+    }
+
+    @Test
+    public void fingerprintFollowsSerializedForm() {
+        // an ObjectSchema serializes like a plain schema of type object
+        Schema plain = new Schema<>().type("object");
+        Assert.assertEquals(SchemaFingerprint.of(new ObjectSchema()), SchemaFingerprint.of(plain));
+        Assert.assertTrue(SchemaFingerprint.structurallyEqual(new ObjectSchema(), plain));
+    }
+
+    @Test
+    public void differingSchemasHaveDifferentFingerprints() {
+        Schema other = person();
+        ((Schema) other.getProperties().get("name")).maxLength(11);
+        Assert.assertNotEquals(SchemaFingerprint.of(other), SchemaFingerprint.of(person()));
+        Assert.assertFalse(SchemaFingerprint.structurallyEqual(other, person()));
+
+        Schema extended = person();
+        extended.addExtension("x-internal", true);
+        Assert.assertNotEquals(SchemaFingerprint.of(extended), SchemaFingerprint.of(person()));
+        Assert.assertFalse(SchemaFingerprint.structurallyEqual(extended, person()));
+
+        // property order is part of the serialized form
+        Schema reordered = new ObjectSchema()
+                .addProperty("age", new Schema<>().type("integer").format("int32"))
+                .addProperty("name", new StringSchema().maxLength(10))
+                .description("a person");
+        Assert.assertNotEquals(SchemaFingerprint.of(reordered), SchemaFingerprint.of(person()));
+    }
+
+    @Test
+    public void scalarsOfDifferentTypesDiffer() {
+        Schema numberEnum = enumOf(1);
+        Schema stringEnum = enumOf("1");
+        Assert.assertNotEquals(SchemaFingerprint.of(numberEnum), SchemaFingerprint.of(stringEnum));
+        Assert.assertFalse(SchemaFingerprint.structurallyEqual(numberEnum, stringEnum));
+        Assert.assertEquals(SchemaFingerprint.of(enumOf(1)), SchemaFingerprint.of(numberEnum));
+
+        Schema booleanDefault = new Schema<>();
+        booleanDefault.setDefault(true);
+        Schema stringDefault = new Schema<>();
+        stringDefault.setDefault("true");
+        Assert.assertNotEquals(SchemaFingerprint.of(booleanDefault), SchemaFingerprint.of(stringDefault));
+        Assert.assertFalse(SchemaFingerprint.structurallyEqual(booleanDefault, stringDefault));
+
+        Schema numberExample = new Schema<>().example(1);
+        Schema stringExample = new Schema<>().example("1");
+        Assert.assertNotEquals(SchemaFingerprint.of(numberExample), SchemaFingerprint.of(stringExample));
+        Assert.assertFalse(SchemaFingerprint.structurallyEqual(numberExample, stringExample));
+    }
+
+    private static Schema enumOf(Object value) {
+        Schema<Object> schema = new Schema<>();
+        schema.addEnumItemObject(value);
+        return schema;
+    }
+
+    @Test
+    public void cyclicSchemaHasNoFingerprint() {
+        Schema cyclic = new ObjectSchema();
+        cyclic.addProperty("self", cyclic);
+        Assert.assertNull(SchemaFingerprint.of(cyclic));
+    }
+}
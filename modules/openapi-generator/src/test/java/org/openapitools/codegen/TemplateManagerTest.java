@@ -2,10 +2,14 @@ package org.openapitools.codegen;
 
 import org.openapitools.codegen.api.TemplatePathLocator;
 import org.openapitools.codegen.templating.HandlebarsEngineAdapter;
+import org.openapitools.codegen.templating.InMemoryOutputSink;
 import org.openapitools.codegen.templating.MustacheEngineAdapter;
 import org.openapitools.codegen.templating.TemplateManagerOptions;
+import org.openapitools.codegen.templating.ZipOutputSink;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
@@ -16,6 +20,8 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import static org.testng.Assert.*;
 
@@ -248,4 +254,56 @@ public class TemplateManagerTest {
             target.toFile().delete();
         }
     }
+
+    @Test
+    public void writesToOutputSink() throws IOException {
+        TemplateManagerOptions opts = new TemplateManagerOptions(false, true);
+        InMemoryOutputSink sink = new InMemoryOutputSink();
+        TemplateManager manager = new TemplateManager(opts, mustacheEngineAdapter, new TemplatePathLocator[]{locator}, sink);
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", "Teddy");
+        data.put("age", "3");
+
+        Path target = Paths.get("target", "in-memory").toAbsolutePath();
+        File output = target.resolve("simple.txt").toFile();
+        File written = manager.write(data, "simple.mustache", output);
+
+        assertEquals(written, output);
+        assertFalse(output.exists());
+        assertEquals(new String(sink.read(output.toPath()), StandardCharsets.UTF_8), "Teddy and 3");
+
+        // skip overwrite evaluates the files already written to the sink
+        data.put("age", "4");
+        manager.write(data, "simple.mustache", output);
+        assertEquals(new String(sink.read(output.toPath()), StandardCharsets.UTF_8), "Teddy and 3");
+        assertEquals(sink.getFiles().size(), 1);
+    }
+
+    @Test
+    public void streamsFilesToZip() throws IOException {
+        TemplateManagerOptions opts = new TemplateManagerOptions(false, false);
+        Path root = Paths.get("target", "zipped").toAbsolutePath();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputSink sink = new ZipOutputSink(bytes, root, "petstore")) {
+            TemplateManager manager = new TemplateManager(opts, mustacheEngineAdapter, new TemplatePathLocator[]{locator}, sink);
+            Map<String, Object> data = new HashMap<>();
+            data.put("name", "Teddy");
+            data.put("age", "3");
+            manager.write(data, "simple.mustache", root.resolve("docs").resolve("simple.txt").toFile());
+            manager.writeToFile(root.resolve("README.md").toString(), "readme".getBytes(StandardCharsets.UTF_8));
+            assertTrue(sink.exists(root.resolve("README.md")));
+        }
+        assertFalse(root.toFile().exists());
+
+        Map<String, String> entries = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        assertEquals(entries.size(), 2);
+        assertEquals(entries.get("petstore/docs/simple.txt"), "Teddy and 3");
+        assertEquals(entries.get("petstore/README.md"), "readme");
+    }
 }
@@ -1,5 +1,7 @@
 package org.openapitools.codegen.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.google.common.collect.ImmutableMap;
 import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -8,12 +10,16 @@ import org.openapitools.codegen.ClientOptInput;
 import org.openapitools.codegen.DefaultGenerator;
 import org.openapitools.codegen.java.assertions.JavaFileAssert;
 import org.openapitools.codegen.languages.SpringCodegen;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -30,6 +36,25 @@ public class MergedSpecBuilderTest {
         mergeSpecs("json");
     }
 
+    @Test
+    public void shouldIgnoreFilesWithoutPaths() throws IOException {
+        File output = Files.createTempDirectory("spec-directory").toFile().getCanonicalFile();
+        output.deleteOnExit();
+
+        Files.copy(Paths.get("src/test/resources/bugs/mergerTest/spec1.yaml"), output.toPath().resolve("spec1.yaml"));
+        Files.write(output.toPath().resolve("components.yaml"),
+                "openapi: 3.0.3\ncomponents:\n  schemas:\n    Shared:\n      type: string\n".getBytes(StandardCharsets.UTF_8));
+        Files.write(output.toPath().resolve("README.md"), "# specs\n".getBytes(StandardCharsets.UTF_8));
+
+        String mergedSpec = new MergedSpecBuilder(output.getAbsolutePath(), "_merged_file")
+                .buildMergedSpec();
+
+        Map<?, ?> merged = new ObjectMapper(new YAMLFactory()).readValue(new File(mergedSpec), Map.class);
+        Assert.assertEquals(merged.get("openapi"), "3.0.3");
+        Assert.assertEquals(((Map<?, ?>) merged.get("paths")).keySet(),
+                new HashSet<>(Arrays.asList("/spec1", "/spec1/complex/{param1}/path")));
+    }
+
     private void mergeSpecs(String fileExt) throws IOException {
         File output = Files.createTempDirectory("spec-directory").toFile().getCanonicalFile();
         output.deleteOnExit();
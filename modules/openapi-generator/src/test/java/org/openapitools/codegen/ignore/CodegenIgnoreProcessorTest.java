@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.ignore;
+
+import org.openapitools.codegen.ignore.rules.IgnoreRuleMatcher;
+import org.openapitools.codegen.ignore.rules.Rule;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+public class CodegenIgnoreProcessorTest {
+
+    private static CodegenIgnoreProcessor processor(String... lines) throws IOException {
+        Path directory = Files.createDirectories(new File("target/test-ignore").toPath());
+        Path ignoreFile = directory.resolve(".openapi-generator-ignore");
+        Files.write(ignoreFile, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return new CodegenIgnoreProcessor(ignoreFile.toFile());
+    }
+
+    private static boolean allows(CodegenIgnoreProcessor processor, String path) {
+        return processor.allowsFile(new File("target/test-ignore", path));
+    }
+
+    @Test
+    public void evaluatesRulesOfIgnoreFile() throws IOException {
+        CodegenIgnoreProcessor processor = processor(
+                "# hand-written code",
+                "build/",
+                "src/**/generated/",
+                "*.log",
+                "docs/**/*.md",
+                "!docs/keep/important.md",
+                "src/main/Foo.java",
+                "!src/**/generated/Keep.java");
+
+        Assert.assertFalse(allows(processor, "build/out.txt"));
+        Assert.assertFalse(allows(processor, "build/classes/Out.class"));
+        Assert.assertFalse(allows(processor, "src/a/generated/Model.java"));
+        // a file excluded by its directory can't be included again
+        Assert.assertFalse(allows(processor, "src/a/generated/Keep.java"));
+        Assert.assertFalse(allows(processor, "app.log"));
+        Assert.assertTrue(allows(processor, "logs/app.log"));
+        Assert.assertFalse(allows(processor, "docs/api/pet.md"));
+        Assert.assertTrue(allows(processor, "docs/keep/important.md"));
+        Assert.assertTrue(allows(processor, "docs/README.md"));
+        Assert.assertFalse(allows(processor, "src/main/Foo.java"));
+        Assert.assertTrue(allows(processor, "src/main/Bar.java"));
+    }
+
+    @Test
+    public void directoryRuleIncludesExcludedDirectory() throws IOException {
+        CodegenIgnoreProcessor processor = processor("lib/", "!lib/keep/");
+
+        Assert.assertFalse(allows(processor, "lib/a.txt"));
+        Assert.assertTrue(allows(processor, "lib/keep/a.txt"));
+        Assert.assertTrue(allows(processor, "lib/keep/nested/a.txt"));
+    }
+
+    @Test
+    public void compiledRulesMatchLikeEachRule() {
+        String[] globs = {"*.txt", "**/*.txt", "a/*/c", "a/**/c", "{x,y}/z?", "[a-c]*.java", "[!a]b", "\\*star", "docs/**", "v1.0/**"};
+        String[] paths = {"a.txt", "a/b.txt", "a/b/c", "a/c", "a/b/d/c", "x/z1", "y/z", "b.java", "ab", "bb", "*star",
+                "docs/x", "docs", "v1.0/a", "v1x0/a"};
+        for (String glob : globs) {
+            Rule rule = Rule.create(glob);
+            IgnoreRuleMatcher matcher = IgnoreRuleMatcher.compile(Collections.singletonList(rule), Collections.emptyList());
+            for (String path : paths) {
+                Assert.assertEquals(matcher.excludes(path), Boolean.TRUE.equals(rule.matches(path)), glob + " on " + path);
+            }
+        }
+    }
+}
@@ -624,6 +624,103 @@ public class JavaClientCodegenTest {
         );
     }
 
+    @Test
+    public void testJdkHttpClientStreamingDeserialization() {
+        final Path output = newTempFolder();
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .addAdditionalProperty(CodegenConstants.API_PACKAGE, "xyz.abcdef.api")
+                .addAdditionalProperty(JavaClientCodegen.USE_STREAMING_DESERIALIZATION, true)
+                .setLibrary(JavaClientCodegen.NATIVE)
+                .setInputSpec("src/test/resources/3_0/pingSomeObj.yaml")
+                .setOutputDir(output.toString().replace("\\", "/"));
+
+        List<File> files = new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+
+        validateJavaSourceFiles(files);
+        assertThat(output.resolve("src/main/java/xyz/abcdef/api/PingApi.java")).content()
+                .contains(
+                        "private final ObjectReader postPingResponseReader;",
+                        "postPingResponseReader = memberVarObjectMapper.readerFor(new TypeReference<SomeObj>() {});",
+                        "SomeObj localVarResult = ApiClient.readResponseBody(postPingResponseReader, localVarResponse.body());")
+                .doesNotContain("memberVarObjectMapper.readValue(responseBody");
+        assertThat(output.resolve("src/main/java/xyz/abcdef/ApiClient.java")).content()
+                .contains("public static <T> T readResponseBody(ObjectReader reader, InputStream body) throws IOException {")
+                .doesNotContain("asStringResponse");
+    }
+
+    @Test
+    public void testJdkHttpAsyncClientStreamingDeserialization() {
+        final Path output = newTempFolder();
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .addAdditionalProperty(CodegenConstants.API_PACKAGE, "xyz.abcdef.api")
+                .addAdditionalProperty(JavaClientCodegen.ASYNC_NATIVE, true)
+                .addAdditionalProperty(JavaClientCodegen.USE_STREAMING_DESERIALIZATION, true)
+                .setLibrary(JavaClientCodegen.NATIVE)
+                .setInputSpec("src/test/resources/3_0/pingSomeObj.yaml")
+                .setOutputDir(output.toString().replace("\\", "/"));
+
+        List<File> files = new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+
+        validateJavaSourceFiles(files);
+        assertThat(output.resolve("src/main/java/xyz/abcdef/api/PingApi.java")).content()
+                .contains(
+                        "HttpResponse.BodyHandlers.ofByteArray()",
+                        "memberVarAsyncResponseInterceptor.accept(ApiClient.asStringResponse(localVarResponse));",
+                        "SomeObj localVarResult = ApiClient.readResponseBody(postPingResponseReader, localVarResponse.body());")
+                .doesNotContain("HttpResponse.BodyHandlers.ofString()");
+        assertThat(output.resolve("src/main/java/xyz/abcdef/ApiClient.java")).content()
+                .contains("public static HttpResponse<String> asStringResponse(HttpResponse<byte[]> response) {");
+    }
+
+    @Test
+    public void testJdkHttpAsyncClientWithVirtualThreads() {
+        final Path output = newTempFolder();
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .addAdditionalProperty(CodegenConstants.API_PACKAGE, "xyz.abcdef.api")
+                .addAdditionalProperty(JavaClientCodegen.ASYNC_NATIVE, true)
+                .addAdditionalProperty(JavaClientCodegen.USE_VIRTUAL_THREADS, true)
+                .setLibrary(JavaClientCodegen.NATIVE)
+                .setInputSpec("src/test/resources/3_0/pingSomeObj.yaml")
+                .setOutputDir(output.toString().replace("\\", "/"));
+
+        List<File> files = new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+
+        validateJavaSourceFiles(files);
+        assertThat(output.resolve("src/main/java/xyz/abcdef/ApiClient.java")).content().contains(
+                "setExecutor(createDefaultExecutor());",
+                "return Executors.newVirtualThreadPerTaskExecutor();",
+                "public ApiClient setHttpVersion(HttpClient.Version httpVersion) {",
+                "this.httpVersion = Objects.requireNonNull(httpVersion, \"httpVersion must not be null\");"
+        );
+        assertThat(output.resolve("src/main/java/xyz/abcdef/api/PingApi.java")).content().contains(
+                "memberVarAsyncExecutor = apiClient.getExecutor() != null ? apiClient.getExecutor() : new CompletableFuture<Void>().defaultExecutor();",
+                "memberVarAsyncExecutor\n      );"
+        );
+        assertThat(output.resolve("pom.xml")).content().contains("<maven.compiler.source>21</maven.compiler.source>");
+        assertThat(output.resolve("build.gradle")).content().contains("sourceCompatibility = JavaVersion.VERSION_21");
+    }
+
+    @Test
+    public void testJdkHttpClientWithoutAsyncExecutor() {
+        final Path output = newTempFolder();
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .addAdditionalProperty(CodegenConstants.API_PACKAGE, "xyz.abcdef.api")
+                .setLibrary(JavaClientCodegen.NATIVE)
+                .setInputSpec("src/test/resources/3_0/pingSomeObj.yaml")
+                .setOutputDir(output.toString().replace("\\", "/"));
+
+        List<File> files = new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+
+        validateJavaSourceFiles(files);
+        assertThat(output.resolve("src/main/java/xyz/abcdef/api/PingApi.java")).content()
+                .doesNotContain("import java.util.concurrent.Executor;", "memberVarAsyncExecutor");
+        assertThat(output.resolve("pom.xml")).content().contains("<maven.compiler.source>11</maven.compiler.source>");
+    }
+
     @Test
     public void testReferencedHeader() {
         final OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/issue855.yaml");
@@ -2806,6 +2903,32 @@ public class JavaClientCodegenTest {
         );
     }
 
+    @Test
+    public void testOkHttpGsonStreamingTypeAdapters() {
+        final Path output = newTempFolder();
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setLibrary(JavaClientCodegen.OKHTTP_GSON)
+                .addAdditionalProperty(JavaClientCodegen.USE_STREAMING_TYPE_ADAPTERS, true)
+                .setInputSpec("src/test/resources/3_0/java/petstore-with-fake-endpoints-models-for-testing-okhttp-gson.yaml")
+                .setOutputDir(output.toString().replace("\\", "/"));
+
+        List<File> files = new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+
+        validateJavaSourceFiles(files);
+        TestUtils.assertFileContains(output.resolve("src/main/java/org/openapitools/client/model/Pet.java"),
+                "final TypeAdapter<String> nameFieldAdapter = gson.getAdapter(new TypeToken<String>(){}).nullSafe();",
+                "case \"photoUrls\":\n                   photoUrlsPresent = true;\n                   if (in.peek() == JsonToken.NULL) {",
+                "if (in.peek() != JsonToken.NULL && in.peek() != JsonToken.BEGIN_ARRAY) {",
+                "instance.photoUrls = photoUrlsFieldAdapter.read(in);",
+                "if (!namePresent) {");
+        TestUtils.assertFileNotContains(output.resolve("src/main/java/org/openapitools/client/model/Pet.java"),
+                "thisAdapter.fromJsonTree");
+        // models extending another model keep the tree based adapter, their inherited fields are private
+        TestUtils.assertFileContains(output.resolve("src/main/java/org/openapitools/client/model/Cat.java"),
+                "thisAdapter.fromJsonTree");
+    }
+
     /**
      * Regression test for <a href="https://github.com/OpenAPITools/openapi-generator/issues/6496">#6496</a>
      */
@@ -419,6 +419,19 @@ public class PythonClientCodegenTest {
         assertFileContains(p, "openapi_client.ApiClient(configuration) as api_client");
     }
 
+    @Test(description = "check the ApiClient deserializes responses through compiled deserializers")
+    public void apiClientCompiledDeserializersTest() throws Exception {
+        final DefaultCodegen codegen = new PythonClientCodegen();
+        final String outputPath = generateFiles(codegen, "src/test/resources/3_0/generic.yaml");
+        final Path p = Paths.get(outputPath + "openapi_client/api_client.py");
+
+        assertFileExists(p);
+        assertFileContains(p,
+                "return self.__deserializer(klass)(data)",
+                "return [sub_deserializer(sub_data) for sub_data in data]",
+                "klass = getattr(openapi_client.models, klass)");
+    }
+
     // Helper function, intended to reduce boilerplate
     static private String generateFiles(DefaultCodegen codegen, String filePath) throws IOException {
         final File output = Files.createTempDirectory("test").toFile().getCanonicalFile();
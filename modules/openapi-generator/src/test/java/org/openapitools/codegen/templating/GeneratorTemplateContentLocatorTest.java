@@ -0,0 +1,59 @@
+package org.openapitools.codegen.templating;
+
+import org.apache.commons.io.FileUtils;
+import org.openapitools.codegen.DefaultCodegen;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.testng.Assert.*;
+
+public class GeneratorTemplateContentLocatorTest {
+
+    @Test
+    public void memoizesResolvedPaths() throws IOException {
+        Path templateDir = Files.createTempDirectory("test-locator");
+        try {
+            Path template = Files.write(templateDir.resolve("model.mustache"), "{{name}}".getBytes(StandardCharsets.UTF_8));
+            DefaultCodegen codegen = new DefaultCodegen();
+            codegen.setTemplateDir(templateDir.toString());
+            GeneratorTemplateContentLocator locator = new GeneratorTemplateContentLocator(codegen);
+
+            String expected = templateDir + File.separator + "model.mustache";
+            assertEquals(locator.getFullTemplatePath("model.mustache"), expected);
+
+            Files.delete(template);
+            assertEquals(locator.getFullTemplatePath("model.mustache"), expected);
+
+            locator.invalidateCache();
+            assertNull(locator.getFullTemplatePath("model.mustache"));
+        } finally {
+            FileUtils.deleteDirectory(templateDir.toFile());
+        }
+    }
+
+    @Test
+    public void resolvesAgainWhenLibraryChanges() throws IOException {
+        Path templateDir = Files.createTempDirectory("test-locator");
+        try {
+            Files.write(templateDir.resolve("api.mustache"), "root".getBytes(StandardCharsets.UTF_8));
+            Path libraryDir = Files.createDirectories(templateDir.resolve("libraries").resolve("custom"));
+            Files.write(libraryDir.resolve("api.mustache"), "library".getBytes(StandardCharsets.UTF_8));
+            DefaultCodegen codegen = new DefaultCodegen();
+            codegen.setTemplateDir(templateDir.toString());
+            GeneratorTemplateContentLocator locator = new GeneratorTemplateContentLocator(codegen);
+
+            assertEquals(locator.getFullTemplatePath("api.mustache"), templateDir + File.separator + "api.mustache");
+
+            codegen.supportedLibraries().put("custom", "custom library");
+            codegen.setLibrary("custom");
+            assertEquals(locator.getFullTemplatePath("api.mustache"), libraryDir.resolve("api.mustache").toString());
+        } finally {
+            FileUtils.deleteDirectory(templateDir.toFile());
+        }
+    }
+}
@@ -77,6 +77,29 @@ public class HandlebarsEngineAdapterTest {
                 "  private property: raw_data3");
     }
 
+    @Test(description = "reused engine should pick up changed templates and partials")
+    public void testReusedEngineRecompilesChangedTemplates() throws IOException {
+        // Given
+        HandlebarsEngineAdapter adapter = new HandlebarsEngineAdapter();
+        TemplatingExecutor first = Mockito.mock(TemplatingExecutor.class);
+        Mockito.when(first.getFullTemplateContents("outerTemplate.hbs")).thenReturn("{{capitalizeFirst name}}: {{>innerTemplate}}");
+        Mockito.when(first.getFullTemplateContents("innerTemplate.hbs")).thenReturn("first");
+        TemplatingExecutor second = Mockito.mock(TemplatingExecutor.class);
+        Mockito.when(second.getFullTemplateContents("outerTemplate.hbs")).thenReturn("{{capitalizeFirst name}}: {{>innerTemplate}}");
+        Mockito.when(second.getFullTemplateContents("innerTemplate.hbs")).thenReturn("second");
+        Map<String, Object> bundle = Map.of("name", "pet");
+
+        // When
+        String firstFile = adapter.compileTemplate(first, bundle, "outerTemplate.hbs");
+        String secondFile = adapter.compileTemplate(second, bundle, "outerTemplate.hbs");
+        String firstAgain = adapter.compileTemplate(first, bundle, "outerTemplate.hbs");
+
+        // Then
+        assertEquals(firstFile, "Pet: first");
+        assertEquals(secondFile, "Pet: second");
+        assertEquals(firstAgain, "Pet: first");
+    }
+
     static class PropertyObject {
         /**
          * getter-exposed
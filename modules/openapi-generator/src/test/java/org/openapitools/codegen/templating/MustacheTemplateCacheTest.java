@@ -0,0 +1,129 @@
+package org.openapitools.codegen.templating;
+
+import org.openapitools.codegen.CodegenConstants;
+import org.openapitools.codegen.api.TemplatingExecutor;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+
+public class MustacheTemplateCacheTest {
+    static class MapTemplatingExecutor implements TemplatingExecutor {
+        private final Map<String, String> templates = new HashMap<>();
+
+        MapTemplatingExecutor with(String name, String contents) {
+            templates.put(name, contents);
+            return this;
+        }
+
+        @Override
+        public String getFullTemplateContents(String name) {
+            String contents = templates.get(name);
+            if (contents == null) {
+                throw new TemplateNotFoundException(name);
+            }
+            return contents;
+        }
+
+        @Override
+        public Path getFullTemplatePath(String name) {
+            return Paths.get("templates", name);
+        }
+    }
+
+    private final Map<String, Object> bundle = Map.of(
+            "name", "Teddy",
+            CodegenConstants.MUSTACHE_PARENT_CONTEXT, new Object());
+
+    @BeforeMethod
+    public void setUp() {
+        MustacheTemplateCache.invalidateAll();
+    }
+
+    @Test
+    public void reusesCompiledTemplatesAcrossFiles() throws IOException {
+        MustacheEngineAdapter adapter = new MustacheEngineAdapter();
+        MapTemplatingExecutor executor = new MapTemplatingExecutor()
+                .with("model.mustache", "model {{>partial}}")
+                .with("partial.mustache", "{{name}}");
+
+        assertEquals(adapter.compileTemplate(executor, bundle, "model.mustache"), "model Teddy");
+        long misses = MustacheTemplateCache.missCount();
+        assertEquals(adapter.compileTemplate(executor, bundle, "model.mustache"), "model Teddy");
+        assertEquals(adapter.compileTemplate(executor, bundle, "model.mustache"), "model Teddy");
+
+        assertEquals(MustacheTemplateCache.missCount(), misses);
+        assertEquals(MustacheTemplateCache.hitCount(), 2L);
+    }
+
+    @Test
+    public void reusesCompiledTemplatesAcrossRuns() throws IOException {
+        MapTemplatingExecutor first = new MapTemplatingExecutor()
+                .with("model.mustache", "model {{>partial}}")
+                .with("partial.mustache", "{{name}}");
+        MapTemplatingExecutor second = new MapTemplatingExecutor()
+                .with("model.mustache", "model {{>partial}}")
+                .with("partial.mustache", "{{name}}");
+
+        assertEquals(new MustacheEngineAdapter().compileTemplate(first, bundle, "model.mustache"), "model Teddy");
+        long misses = MustacheTemplateCache.missCount();
+        assertEquals(new MustacheEngineAdapter().compileTemplate(second, bundle, "model.mustache"), "model Teddy");
+
+        assertEquals(MustacheTemplateCache.missCount(), misses);
+    }
+
+    @Test
+    public void recompilesWhenPartialChanges() throws IOException {
+        MapTemplatingExecutor first = new MapTemplatingExecutor()
+                .with("model.mustache", "model {{>partial}}")
+                .with("partial.mustache", "{{name}}");
+        MapTemplatingExecutor second = new MapTemplatingExecutor()
+                .with("model.mustache", "model {{>partial}}")
+                .with("partial.mustache", "[{{name}}]");
+
+        MustacheEngineAdapter adapter = new MustacheEngineAdapter();
+        assertEquals(adapter.compileTemplate(first, bundle, "model.mustache"), "model Teddy");
+        assertEquals(adapter.compileTemplate(second, bundle, "model.mustache"), "model [Teddy]");
+        assertEquals(adapter.compileTemplate(first, bundle, "model.mustache"), "model Teddy");
+    }
+
+    @Test
+    public void rendersRecursivePartials() throws IOException {
+        MapTemplatingExecutor executor = new MapTemplatingExecutor()
+                .with("model.mustache", "{{>node}}")
+                .with("node.mustache", "{{name}}{{#child}}({{>node}}){{/child}}");
+        Map<String, Object> tree = new HashMap<>(bundle);
+        tree.put("child", Map.of("name", "Jack", "child", Map.of("name", "Jill", "child", false)));
+
+        assertEquals(new MustacheEngineAdapter().compileTemplate(executor, tree, "model.mustache"), "Teddy(Jack(Jill))");
+    }
+
+    @Test
+    public void ignoresMissingPartialsWhichAreNotRendered() throws IOException {
+        MapTemplatingExecutor executor = new MapTemplatingExecutor()
+                .with("model.mustache", "model{{#missing}}{{>missing}}{{/missing}}");
+
+        assertEquals(new MustacheEngineAdapter().compileTemplate(executor, bundle, "model.mustache"), "model");
+    }
+
+    @Test
+    public void doesNotCacheWhenDisabled() throws IOException {
+        MustacheEngineAdapter adapter = new MustacheEngineAdapter();
+        adapter.setTemplateCacheEnabled(false);
+        MapTemplatingExecutor executor = new MapTemplatingExecutor()
+                .with("model.mustache", "model {{>partial}}")
+                .with("partial.mustache", "{{name}}");
+
+        assertEquals(adapter.compileTemplate(executor, bundle, "model.mustache"), "model Teddy");
+        assertEquals(adapter.compileTemplate(executor, bundle, "model.mustache"), "model Teddy");
+
+        assertEquals(MustacheTemplateCache.hitCount(), 0L);
+        assertEquals(MustacheTemplateCache.missCount(), 0L);
+    }
+}
@@ -0,0 +1,76 @@
+package org.openapitools.codegen.utils;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.SystemUtils;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+public class BatchPostProcessorTest {
+
+    @BeforeMethod
+    public void requireUnixCommands() {
+        if (SystemUtils.IS_OS_WINDOWS) {
+            throw new SkipException("uses the unix 'touch' and 'false' commands");
+        }
+    }
+
+    @Test
+    public void runsOneCommandPerBatch() throws IOException {
+        Path dir = Files.createTempDirectory("test-postprocess");
+        try {
+            BatchPostProcessor processor = new BatchPostProcessor(2, 2);
+            for (int i = 0; i < 5; i++) {
+                processor.add(new String[]{"touch", dir.resolve("file" + i).toString()});
+            }
+            assertFalse(processor.isEmpty());
+
+            BatchPostProcessor.Report report = processor.run();
+
+            assertTrue(processor.isEmpty());
+            assertTrue(report.isSuccessful());
+            assertEquals(report.getBatches(), 3);
+            assertEquals(report.getFiles(), 5);
+            assertEquals(report.getExitCodes(), Map.of(0, 3));
+            for (int i = 0; i < 5; i++) {
+                assertTrue(new File(dir.toFile(), "file" + i).exists());
+            }
+        } finally {
+            FileUtils.deleteDirectory(dir.toFile());
+        }
+    }
+
+    @Test
+    public void groupsByCommandAndAggregatesExitCodes() {
+        BatchPostProcessor processor = new BatchPostProcessor(10, 4);
+        processor.add(new String[]{"false", "a"});
+        processor.add(new String[]{"true", "b"});
+        processor.add(new String[]{"false", "c"});
+
+        BatchPostProcessor.Report report = processor.run();
+
+        assertFalse(report.isSuccessful());
+        assertEquals(report.getBatches(), 2);
+        assertEquals(report.getFiles(), 3);
+        assertEquals(report.getFailedBatches(), 1);
+        assertEquals(report.getExitCodes(), Map.of(0, 1, 1, 1));
+    }
+
+    @Test
+    public void reportsCommandsWhichCannotBeStarted() {
+        BatchPostProcessor processor = new BatchPostProcessor(10, 1);
+        processor.add(new String[]{"/does/not/exist/formatter --write", "a"});
+
+        BatchPostProcessor.Report report = processor.run();
+
+        assertEquals(report.getExitCodes(), Map.of(-1, 1));
+    }
+}
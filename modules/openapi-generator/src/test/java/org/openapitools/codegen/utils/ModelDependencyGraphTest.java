@@ -0,0 +1,82 @@
+package org.openapitools.codegen.utils;
+
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class ModelDependencyGraphTest {
+
+    @Test
+    public void findsCyclesAmongModels() {
+        Map<String, List<String>> dependencies = new LinkedHashMap<>();
+        dependencies.put("Inbound", Collections.singletonList("RoundA"));
+        dependencies.put("RoundA", Collections.singletonList("RoundB"));
+        dependencies.put("RoundB", Collections.singletonList("RoundC"));
+        dependencies.put("RoundC", Arrays.asList("RoundA", "Outbound", "Outbound"));
+        dependencies.put("Node", Arrays.asList("Node", "string"));
+        dependencies.put("Outbound", Collections.emptyList());
+
+        ModelDependencyGraph graph = ModelDependencyGraph.of(dependencies);
+
+        assertEquals(graph.getDependencies("RoundC"), Arrays.asList("RoundA", "Outbound"));
+        assertFalse(graph.isCircularReference("Inbound", "RoundA"));
+        assertTrue(graph.isCircularReference("RoundA", "RoundB"));
+        assertTrue(graph.isCircularReference("RoundC", "RoundA"));
+        assertFalse(graph.isCircularReference("RoundC", "Outbound"));
+        assertTrue(graph.isCircularReference("Node", "Node"));
+        assertFalse(graph.isCircularReference("Node", "string"));
+
+        assertFalse(graph.isInCycle("Inbound"));
+        assertTrue(graph.isInCycle("RoundB"));
+        assertTrue(graph.isInCycle("Node"));
+        assertFalse(graph.isInCycle("Outbound"));
+        assertEquals(graph.getCycle("RoundB"), new HashSet<>(Arrays.asList("RoundA", "RoundB", "RoundC")));
+        assertTrue(graph.getCycle("Outbound").isEmpty());
+        assertEquals(graph.getCycles().size(), 2);
+    }
+
+    @Test
+    public void findsModelsReachedThroughOtherModels() {
+        Map<String, List<String>> dependencies = new LinkedHashMap<>();
+        dependencies.put("Inbound", Collections.singletonList("RoundA"));
+        dependencies.put("RoundA", Collections.singletonList("RoundB"));
+        dependencies.put("RoundB", Arrays.asList("RoundA", "Outbound"));
+        dependencies.put("Outbound", Collections.singletonList("Leaf"));
+        dependencies.put("Node", Collections.singletonList("Node"));
+
+        ModelDependencyGraph graph = ModelDependencyGraph.of(dependencies);
+
+        assertTrue(graph.reaches("Inbound", "Leaf"));
+        assertTrue(graph.reaches("RoundA", "RoundA"));
+        assertTrue(graph.reaches("RoundB", "Outbound"));
+        assertTrue(graph.reaches("Node", "Node"));
+        assertFalse(graph.reaches("Inbound", "Inbound"));
+        assertFalse(graph.reaches("Outbound", "RoundA"));
+        assertFalse(graph.reaches("Leaf", "Leaf"));
+        assertFalse(graph.reaches("Unknown", "Leaf"));
+
+        assertEquals(graph.getTransitiveDependencies("Inbound"), new HashSet<>(Arrays.asList("RoundA", "RoundB", "Outbound", "Leaf")));
+        assertEquals(graph.getTransitiveDependencies("RoundB"), new HashSet<>(Arrays.asList("RoundA", "RoundB", "Outbound", "Leaf")));
+        assertEquals(graph.getTransitiveDependencies("Node"), Collections.singleton("Node"));
+        assertTrue(graph.getTransitiveDependencies("Leaf").isEmpty());
+    }
+
+    @Test
+    public void handlesLongChainsOfReferences() {
+        Map<String, List<String>> dependencies = new LinkedHashMap<>();
+        int models = 50_000;
+        for (int i = 0; i < models; i++) {
+            dependencies.put("Model" + i, Collections.singletonList("Model" + (i + 1)));
+        }
+        dependencies.put("Model" + models, Collections.singletonList("Model0"));
+
+        ModelDependencyGraph graph = ModelDependencyGraph.of(dependencies);
+
+        assertTrue(graph.isCircularReference("Model0", "Model1"));
+        assertEquals(graph.getCycle("Model42").size(), models + 1);
+        assertTrue(graph.reaches("Model" + models, "Model0"));
+        assertEquals(graph.getTransitiveDependencies("Model0").size(), models + 1);
+    }
+}
@@ -28,6 +28,7 @@ import org.testng.annotations.Test;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -105,6 +106,8 @@ public class ModelUtilsTest {
         );
         Assert.assertEquals(unusedSchemas.size(), expectedUnusedSchemas.size());
         Assert.assertTrue(unusedSchemas.containsAll(expectedUnusedSchemas));
+        // unused schemas are listed in the order they are declared
+        Assert.assertEquals(unusedSchemas, expectedUnusedSchemas);
     }
 
     @Test
@@ -120,6 +123,20 @@ public class ModelUtilsTest {
         Assert.assertTrue(unusedSchemas.contains("SomeObj7"), "contains 'SomeObj7'");
     }
 
+    @Test
+    public void testSpecIndex() {
+        final OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/unusedSchemas.yaml");
+        SpecIndex index = ModelUtils.getSpecIndex(openAPI);
+        Assert.assertEquals(index.getContentTypes("SomeObj2"), Collections.singletonList("application/x-www-form-urlencoded"));
+        Assert.assertEquals(index.getChildren("Parent30"), Arrays.asList("AChild30", "BChild30"));
+        Assert.assertEquals(index.getUnusedSchemas(), ModelUtils.getUnusedSchemas(openAPI));
+
+        // the index is a snapshot, the queries always see the current document
+        openAPI.getComponents().addSchemas("AddedObj", new ObjectSchema());
+        Assert.assertFalse(index.getUnusedSchemas().contains("AddedObj"));
+        Assert.assertTrue(ModelUtils.getUnusedSchemas(openAPI).contains("AddedObj"));
+    }
+
     @Test
     public void testNestedFormParameter() {
         final OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/2_0/nestedFormParameter.yaml");
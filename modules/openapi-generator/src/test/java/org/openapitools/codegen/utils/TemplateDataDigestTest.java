@@ -0,0 +1,122 @@
+package org.openapitools.codegen.utils;
+
+import org.openapitools.codegen.CodegenModel;
+import org.openapitools.codegen.CodegenProperty;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class TemplateDataDigestTest {
+
+    @Test
+    public void isStableAndIgnoresVolatileValues() {
+        String firstDate = new String("2024-01-01");
+        String secondDate = new String("2025-02-02");
+        TemplateDataDigest digest = new TemplateDataDigest(Collections.singleton(firstDate));
+
+        Map<String, Object> first = data(model("Pet", "name"), firstDate);
+        first.put("nested", new HashMap<>(Collections.singletonMap("generatedDate", firstDate)));
+        Map<String, Object> second = data(model("Pet", "name"), secondDate);
+        second.put("nested", new HashMap<>(Collections.singletonMap("generatedDate", secondDate)));
+
+        assertEquals(new TemplateDataDigest(Collections.singleton(secondDate)).digest(second), digest.digest(first));
+        assertNotEquals(digest.digest(data(model("Pet", "id"), firstDate)), digest.digest(first));
+        // equal strings which are not the volatile instance are digested by content
+        assertNotEquals(digest.digest(data(model("Pet", "name"), "2024-01-01")), digest.digest(data(model("Pet", "name"), firstDate)));
+    }
+
+    @Test
+    public void sortsMapEntriesAndKeepsListOrder() {
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("a", "1");
+        first.put("b", Arrays.asList("x", "y"));
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("b", Arrays.asList("x", "y"));
+        second.put("a", "1");
+        Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("a", "1");
+        reordered.put("b", Arrays.asList("y", "x"));
+
+        TemplateDataDigest digest = new TemplateDataDigest(Collections.emptySet());
+        assertEquals(digest.digest(second), digest.digest(first));
+        assertNotEquals(digest.digest(reordered), digest.digest(first));
+    }
+
+    @Test
+    public void digestsCyclicModelsByContent() {
+        CodegenModel parent = model("Animal", "name");
+        CodegenModel child = model("Dog", "bark");
+        link(parent, child);
+
+        CodegenModel otherParent = model("Animal", "name");
+        CodegenModel otherChild = model("Dog", "bark");
+        link(otherParent, otherChild);
+
+        TemplateDataDigest digest = new TemplateDataDigest(Collections.emptySet());
+        String childDigest = digest.digest(data(child, null));
+        String parentDigest = digest.digest(data(parent, null));
+        assertNotEquals(childDigest, parentDigest);
+
+        // the same graph built again and digested in a different order
+        TemplateDataDigest fresh = new TemplateDataDigest(Collections.emptySet());
+        assertEquals(fresh.digest(data(otherParent, null)), parentDigest);
+        assertEquals(fresh.digest(data(otherChild, null)), childDigest);
+
+        // a change to the child is part of the parent's digest
+        otherChild.vars.get(0).description = "changed";
+        fresh.clear();
+        assertNotEquals(fresh.digest(data(otherParent, null)), parentDigest);
+
+        // the parent model is digested by name
+        CodegenModel renamedParent = model("Pet", "name");
+        CodegenModel movedChild = model("Dog", "bark");
+        link(renamedParent, movedChild);
+        movedChild.parent = "Animal";
+        assertNotEquals(fresh.digest(data(movedChild, null)), childDigest);
+    }
+
+    @Test
+    public void doesNotDigestDataWhichCanNotBeSerialized() {
+        TemplateDataDigest digest = new TemplateDataDigest(Collections.emptySet());
+        Map<String, Object> data = data(model("Pet", "name"), null);
+        data.put("broken", new Unserializable());
+
+        assertNull(digest.digest(data));
+        assertNull(digest.digest(data));
+        data.remove("broken");
+        assertNotNull(digest.digest(data));
+    }
+
+    private static class Unserializable {
+        public String getValue() {
+            throw new IllegalStateException("not serializable");
+        }
+    }
+
+    private static CodegenModel model(String name, String property) {
+        CodegenModel model = new CodegenModel();
+        model.name = name;
+        model.classname = name;
+        CodegenProperty var = new CodegenProperty();
+        var.name = property;
+        var.baseName = property;
+        model.vars = new ArrayList<>(Collections.singletonList(var));
+        return model;
+    }
+
+    private static void link(CodegenModel parent, CodegenModel child) {
+        child.parent = parent.name;
+        child.parentModel = parent;
+        parent.children = new ArrayList<>(Collections.singletonList(child));
+    }
+
+    private static Map<String, Object> data(CodegenModel model, String generatedDate) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("model", model);
+        data.put("generatedDate", generatedDate);
+        data.put("lambda", (Runnable) () -> { });
+        return data;
+    }
+}
@@ -0,0 +1,56 @@
+package org.openapitools.codegen.validations.oas;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openapitools.codegen.TestUtils;
+import org.openapitools.codegen.validation.Invalid;
+import org.openapitools.codegen.validation.ValidationResult;
+import org.openapitools.codegen.validation.ValidationTimings;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class OpenApiEvaluatorTest {
+
+    private static List<String> describe(List<Invalid> invalids) {
+        return invalids.stream()
+                .map(invalid -> invalid.getMessage() + ": " + invalid.getDetails())
+                .collect(Collectors.toList());
+    }
+
+    @Test(description = "Parallel validation reports the same results, in the same order, as sequential validation")
+    public void parallelValidationIsDeterministic() {
+        OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/petstore-with-fake-endpoints-models-for-testing.yaml");
+        RuleConfiguration config = new RuleConfiguration();
+        config.setEnableRecommendations(true);
+
+        ValidationResult sequential = new OpenApiEvaluator(config).validate(openAPI);
+        Assert.assertFalse(sequential.getWarnings().isEmpty(), "Expected the spec to raise recommendations.");
+
+        for (int i = 0; i < 5; i++) {
+            ValidationResult parallel = new OpenApiEvaluator(config, true, null).validate(openAPI);
+            Assert.assertEquals(parallel.getAll().size(), sequential.getAll().size());
+            Assert.assertEquals(describe(parallel.getWarnings()), describe(sequential.getWarnings()));
+            Assert.assertEquals(describe(parallel.getErrors()), describe(sequential.getErrors()));
+        }
+    }
+
+    @Test
+    public void recordsRuleTimings() {
+        OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_1/null-types.yaml");
+        RuleConfiguration config = new RuleConfiguration();
+        config.setEnableRecommendations(true);
+        ValidationTimings timings = new ValidationTimings();
+
+        new OpenApiEvaluator(config, true, timings).validate(openAPI);
+
+        List<ValidationTimings.Timing> recorded = timings.getTimings();
+        Assert.assertTrue(recorded.stream().anyMatch(timing -> "Schema uses the 'null' type but OAS document is version 3.0.".equals(timing.getName())
+                && timing.getCount() > 0), "Expected the schema rules to be timed.");
+        Assert.assertTrue(recorded.stream().anyMatch(timing -> "Unused schema".equals(timing.getName())));
+        for (int i = 1; i < recorded.size(); i++) {
+            Assert.assertTrue(recorded.get(i - 1).getTotal().compareTo(recorded.get(i).getTotal()) >= 0);
+        }
+    }
+}
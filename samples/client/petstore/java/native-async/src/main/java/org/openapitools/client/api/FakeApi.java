@@ -63,6 +63,7 @@ import java.util.Set;
 import java.util.function.Consumer;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.13.0-SNAPSHOT")
 public class FakeApi {
@@ -73,6 +74,7 @@ public class FakeApi {
   private final Duration memberVarReadTimeout;
   private final Consumer<HttpResponse<InputStream>> memberVarResponseInterceptor;
   private final Consumer<HttpResponse<String>> memberVarAsyncResponseInterceptor;
+  private final Executor memberVarAsyncExecutor;
 
   public FakeApi() {
     this(Configuration.getDefaultApiClient());
@@ -86,6 +88,8 @@ public class FakeApi {
     memberVarReadTimeout = apiClient.getReadTimeout();
     memberVarResponseInterceptor = apiClient.getResponseInterceptor();
     memberVarAsyncResponseInterceptor = apiClient.getAsyncResponseInterceptor();
+    // without an executor, continuations run where thenComposeAsync would run them by default
+    memberVarAsyncExecutor = apiClient.getExecutor() != null ? apiClient.getExecutor() : new CompletableFuture<Void>().defaultExecutor();
   }
 
   private ApiException getApiException(String operationId, HttpResponse<String> response) {
@@ -123,7 +127,7 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -159,7 +163,8 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -210,7 +215,7 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -246,7 +251,8 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -298,7 +304,7 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -335,7 +341,8 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -393,7 +400,7 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -430,7 +437,8 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -488,7 +496,7 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -525,7 +533,8 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -583,7 +592,7 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -620,7 +629,8 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -672,7 +682,7 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -708,7 +718,8 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -759,7 +770,7 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -795,7 +806,8 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -840,7 +852,7 @@ public class FakeApi {
               return CompletableFuture.failedFuture(getApiException("testAdditionalPropertiesReference", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -869,7 +881,8 @@ public class FakeApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -924,7 +937,7 @@ public class FakeApi {
               return CompletableFuture.failedFuture(getApiException("testBodyWithFileSchema", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -953,7 +966,8 @@ public class FakeApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -1009,7 +1023,7 @@ public class FakeApi {
               return CompletableFuture.failedFuture(getApiException("testBodyWithQueryParams", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -1039,7 +1053,8 @@ public class FakeApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -1120,7 +1135,7 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -1157,7 +1172,8 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -1225,7 +1241,7 @@ public class FakeApi {
               return CompletableFuture.failedFuture(getApiException("testEndpointParameters", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -1267,7 +1283,8 @@ public class FakeApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -1388,7 +1405,7 @@ public class FakeApi {
               return CompletableFuture.failedFuture(getApiException("testEnumParameters", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -1424,7 +1441,8 @@ public class FakeApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -1554,7 +1572,7 @@ public class FakeApi {
               return CompletableFuture.failedFuture(getApiException("testGroupParameters", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -1588,7 +1606,8 @@ public class FakeApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -1749,7 +1768,7 @@ public class FakeApi {
               return CompletableFuture.failedFuture(getApiException("testInlineAdditionalProperties", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -1778,7 +1797,8 @@ public class FakeApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -1833,7 +1853,7 @@ public class FakeApi {
               return CompletableFuture.failedFuture(getApiException("testInlineFreeformAdditionalProperties", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -1862,7 +1882,8 @@ public class FakeApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -1918,7 +1939,7 @@ public class FakeApi {
               return CompletableFuture.failedFuture(getApiException("testJsonFormData", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -1948,7 +1969,8 @@ public class FakeApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -2022,7 +2044,7 @@ public class FakeApi {
               return CompletableFuture.failedFuture(getApiException("testQueryParameterCollectionFormat", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -2055,7 +2077,8 @@ public class FakeApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -2143,7 +2166,7 @@ public class FakeApi {
               return CompletableFuture.failedFuture(getApiException("testStringMapReference", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -2172,7 +2195,8 @@ public class FakeApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
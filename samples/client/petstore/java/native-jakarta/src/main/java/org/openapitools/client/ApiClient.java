@@ -32,7 +32,9 @@ import java.time.format.DateTimeFormatter;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -65,6 +67,9 @@ public class ApiClient {
   private Consumer<HttpResponse<String>> asyncResponseInterceptor;
   private Duration readTimeout;
   private Duration connectTimeout;
+  private Executor executor;
+  private HttpClient.Version httpVersion;
+  private HttpClient.Redirect followRedirects;
 
   public static String valueToString(Object value) {
     if (value == null) {
@@ -454,4 +459,82 @@ public class ApiClient {
   public Duration getConnectTimeout() {
     return connectTimeout;
   }
+
+  /**
+   * Set the executor of the http client, which also runs the continuations
+   * of async calls.
+   *
+   * <p>The same executor can be shared by several clients. Blocking calls
+   * can be made from virtual threads, the http client parks the calling
+   * thread while it waits for the response.</p>
+   *
+   * @param executor The executor.
+   * @return This object.
+   * @throws NullPointerException if the executor is null.
+   */
+  public ApiClient setExecutor(Executor executor) {
+    this.executor = Objects.requireNonNull(executor, "executor must not be null");
+    this.builder.executor(executor);
+    return this;
+  }
+
+  /**
+   * Get the executor that was set.
+   *
+   * @return The executor, or null if none was set, in which case the http
+   * client uses its own executor and async continuations run on the default
+   * executor of {@link java.util.concurrent.CompletableFuture}.
+   */
+  public Executor getExecutor() {
+    return executor;
+  }
+
+  /**
+   * Set the preferred HTTP protocol version of the http client.
+   *
+   * <p>The http client uses HTTP/2 by default, and falls back to HTTP/1.1 if
+   * the server doesn't support it. With HTTP/2, concurrent calls to the same
+   * server are multiplexed on a single connection.</p>
+   *
+   * @param httpVersion The HTTP protocol version.
+   * @return This object.
+   * @throws NullPointerException if the version is null.
+   */
+  public ApiClient setHttpVersion(HttpClient.Version httpVersion) {
+    this.httpVersion = Objects.requireNonNull(httpVersion, "httpVersion must not be null");
+    this.builder.version(httpVersion);
+    return this;
+  }
+
+  /**
+   * Get the HTTP protocol version that was set.
+   *
+   * @return The HTTP protocol version, or null if none was set.
+   */
+  public HttpClient.Version getHttpVersion() {
+    return httpVersion;
+  }
+
+  /**
+   * Set whether the http client follows redirects.
+   *
+   * @param followRedirects The redirect policy, {@link HttpClient.Redirect#NEVER}
+   *                        by default.
+   * @return This object.
+   * @throws NullPointerException if the redirect policy is null.
+   */
+  public ApiClient setFollowRedirects(HttpClient.Redirect followRedirects) {
+    this.followRedirects = Objects.requireNonNull(followRedirects, "followRedirects must not be null");
+    this.builder.followRedirects(followRedirects);
+    return this;
+  }
+
+  /**
+   * Get the redirect policy that was set.
+   *
+   * @return The redirect policy, or null if none was set.
+   */
+  public HttpClient.Redirect getFollowRedirects() {
+    return followRedirects;
+  }
 }
@@ -0,0 +1,181 @@
+/*
+ * OpenAPI Petstore
+ * This is a sample server Petstore server. For this sample, you can use the api key `special-key` to test the authorization filters.
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.api;
+
+import org.openapitools.client.ApiException;
+import java.io.File;
+import org.openapitools.client.model.ModelApiResponse;
+import org.openapitools.client.model.Pet;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * API tests for PetApi
+ */
+@Disabled
+public class PetApiTest {
+
+    private final PetApi api = new PetApi();
+
+    
+    /**
+     * Add a new pet to the store
+     *
+     * 
+     *
+     * @throws ApiException
+     *          if the Api call fails
+     */
+    @Test
+    public void addPetTest() throws ApiException {
+        Pet pet = null;
+        CompletableFuture<Pet> response = 
+        api.addPet(pet);
+        
+        // TODO: test validations
+    }
+    
+    /**
+     * Deletes a pet
+     *
+     * 
+     *
+     * @throws ApiException
+     *          if the Api call fails
+     */
+    @Test
+    public void deletePetTest() throws ApiException {
+        Long petId = null;
+        String apiKey = null;
+        
+        CompletableFuture<Void> response = api.deletePet(petId, apiKey);
+        
+        // TODO: test validations
+    }
+    
+    /**
+     * Finds Pets by status
+     *
+     * Multiple status values can be provided with comma separated strings
+     *
+     * @throws ApiException
+     *          if the Api call fails
+     */
+    @Test
+    public void findPetsByStatusTest() throws ApiException {
+        List<String> status = null;
+        CompletableFuture<List<Pet>> response = 
+        api.findPetsByStatus(status);
+        
+        // TODO: test validations
+    }
+    
+    /**
+     * Finds Pets by tags
+     *
+     * Multiple tags can be provided with comma separated strings. Use tag1, tag2, tag3 for testing.
+     *
+     * @throws ApiException
+     *          if the Api call fails
+     */
+    @Test
+    public void findPetsByTagsTest() throws ApiException {
+        List<String> tags = null;
+        CompletableFuture<List<Pet>> response = 
+        api.findPetsByTags(tags);
+        
+        // TODO: test validations
+    }
+    
+    /**
+     * Find pet by ID
+     *
+     * Returns a single pet
+     *
+     * @throws ApiException
+     *          if the Api call fails
+     */
+    @Test
+    public void getPetByIdTest() throws ApiException {
+        Long petId = null;
+        CompletableFuture<Pet> response = 
+        api.getPetById(petId);
+        
+        // TODO: test validations
+    }
+    
+    /**
+     * Update an existing pet
+     *
+     * 
+     *
+     * @throws ApiException
+     *          if the Api call fails
+     */
+    @Test
+    public void updatePetTest() throws ApiException {
+        Pet pet = null;
+        CompletableFuture<Pet> response = 
+        api.updatePet(pet);
+        
+        // TODO: test validations
+    }
+    
+    /**
+     * Updates a pet in the store with form data
+     *
+     * 
+     *
+     * @throws ApiException
+     *          if the Api call fails
+     */
+    @Test
+    public void updatePetWithFormTest() throws ApiException {
+        Long petId = null;
+        String name = null;
+        String status = null;
+        
+        CompletableFuture<Void> response = api.updatePetWithForm(petId, name, status);
+        
+        // TODO: test validations
+    }
+    
+    /**
+     * uploads an image
+     *
+     * 
+     *
+     * @throws ApiException
+     *          if the Api call fails
+     */
+    @Test
+    public void uploadFileTest() throws ApiException {
+        Long petId = null;
+        String additionalMetadata = null;
+        File _file = null;
+        CompletableFuture<ModelApiResponse> response = 
+        api.uploadFile(petId, additionalMetadata, _file);
+        
+        // TODO: test validations
+    }
+    
+}
@@ -0,0 +1,146 @@
+package org.openapitools.client.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openapitools.client.ApiClient;
+import org.openapitools.client.api.PetApi;
+import org.openapitools.client.model.Pet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the throughput of concurrent async calls made by the generated client, with the default executor of
+ * {@code useVirtualThreads}, a new virtual thread per task, and with a fixed pool of platform threads, for each
+ * HTTP version. The calls are answered by a server on the loopback interface, so the results reflect the client.
+ * <p>
+ * Run the benchmarks with
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openapitools.client.benchmark.ApiClientBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiClientBenchmark {
+    private static final int CONCURRENT_CALLS = 64;
+    private static final byte[] PET = "{\"id\":1,\"name\":\"doggie\",\"photoUrls\":[],\"status\":\"available\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Param({"virtual", "platform"})
+    public String executor;
+
+    @Param({"HTTP_1_1", "HTTP_2"})
+    public HttpClient.Version httpVersion;
+
+    private HttpServer server;
+    private ExecutorService serverThreads;
+    private ExecutorService platformThreads;
+    private PetApi api;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        serverThreads = Executors.newFixedThreadPool(8);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), CONCURRENT_CALLS);
+        server.createContext("/v2/pet/", ApiClientBenchmark::answer);
+        server.setExecutor(serverThreads);
+        server.start();
+
+        ApiClient client = new ApiClient();
+        if ("platform".equals(executor)) {
+            platformThreads = Executors.newFixedThreadPool(CONCURRENT_CALLS);
+            client.setExecutor(platformThreads);
+        }
+        client.setHttpVersion(httpVersion);
+        client.setFollowRedirects(HttpClient.Redirect.NORMAL);
+        client.updateBaseUri("http://localhost:" + server.getAddress().getPort() + "/v2");
+        // the api builds its http client from the settings of the client
+        api = new PetApi(client);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.stop(0);
+        serverThreads.shutdownNow();
+        if (platformThreads != null) {
+            platformThreads.shutdownNow();
+        }
+    }
+
+    // the pet with id 2 redirects to the pet with id 1
+    private static void answer(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (exchange.getRequestURI().getPath().endsWith("/2")) {
+                exchange.getResponseHeaders().set("Location", "/v2/pet/1");
+                exchange.sendResponseHeaders(302, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, PET.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(PET);
+            }
+        }
+    }
+
+    private List<Pet> getPets(long petId) throws Exception {
+        List<CompletableFuture<Pet>> calls = IntStream.range(0, CONCURRENT_CALLS)
+                .mapToObj(i -> {
+                    try {
+                        return api.getPetById(petId);
+                    } catch (Exception e) {
+                        return CompletableFuture.<Pet>failedFuture(e);
+                    }
+                })
+                .collect(Collectors.toList());
+        CompletableFuture.allOf(calls.toArray(new CompletableFuture[0])).get();
+        return calls.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENT_CALLS)
+    public List<Pet> getPetById() throws Exception {
+        return getPets(1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENT_CALLS)
+    public List<Pet> getRedirectedPetById() throws Exception {
+        return getPets(2);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ApiClientBenchmark.class.getName()).build()).run();
+    }
+}
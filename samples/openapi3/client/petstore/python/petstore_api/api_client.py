@@ -16,6 +16,7 @@ import datetime
 from dateutil.parser import parse
 from enum import Enum
 import decimal
+import functools
 import json
 import mimetypes
 import os
@@ -23,7 +24,7 @@ import re
 import tempfile
 
 from urllib.parse import quote
-from typing import Tuple, Optional, List, Dict, Union
+from typing import Any, Callable, Tuple, Optional, List, Dict, Union
 from pydantic import SecretStr
 
 from petstore_api.configuration import Configuration
@@ -92,6 +93,8 @@ class ApiClient:
         # Set default User-Agent.
         self.user_agent = 'OpenAPI-Generator/1.0.0/python'
         self.client_side_validation = configuration.client_side_validation
+        # deserializers by response type, compiled on first use
+        self._deserializers: Dict[Any, Callable[[Any], Any]] = {}
 
     def __enter__(self):
         return self
@@ -427,23 +430,53 @@ class ApiClient:
 
         :return: object.
         """
-        if data is None:
-            return None
+        return self.__deserializer(klass)(data)
+
+    def __deserializer(self, klass) -> Callable[[Any], Any]:
+        """Returns the deserializer of a type, compiled on first use.
+
+        Type names are parsed and models looked up once per type, not for
+        every element of every list or dict.
+
+        :param klass: class literal, or string of class name.
+
+        :return: callable deserializing dict, list, str into an object.
+        """
+        deserializer = self._deserializers.get(klass)
+        if deserializer is None:
+            deserializer = self.__compile_deserializer(klass)
+            self._deserializers[klass] = deserializer
+        return deserializer
 
+    def __compile_deserializer(self, klass) -> Callable[[Any], Any]:
+        """Compiles the deserializer of a type.
+
+        :param klass: class literal, or string of class name.
+
+        :return: callable deserializing dict, list, str into an object.
+        """
         if isinstance(klass, str):
             if klass.startswith('List['):
                 m = re.match(r'List\[(.*)]', klass)
                 assert m is not None, "Malformed List type definition"
-                sub_kls = m.group(1)
-                return [self.__deserialize(sub_data, sub_kls)
-                        for sub_data in data]
+                sub_deserializer = self.__deserializer(m.group(1))
+
+                def deserialize_list(data):
+                    if data is None:
+                        return None
+                    return [sub_deserializer(sub_data) for sub_data in data]
+                return deserialize_list
 
             if klass.startswith('Dict['):
                 m = re.match(r'Dict\[([^,]*), (.*)]', klass)
                 assert m is not None, "Malformed Dict type definition"
-                sub_kls = m.group(2)
-                return {k: self.__deserialize(v, sub_kls)
-                        for k, v in data.items()}
+                sub_deserializer = self.__deserializer(m.group(2))
+
+                def deserialize_dict(data):
+                    if data is None:
+                        return None
+                    return {k: sub_deserializer(v) for k, v in data.items()}
+                return deserialize_dict
 
             # convert str to class
             if klass in self.NATIVE_TYPES_MAPPING:
@@ -451,20 +484,27 @@ class ApiClient:
             else:
                 klass = getattr(petstore_api.models, klass)
 
+        deserialize: Callable[[Any], Any]
         if klass in self.PRIMITIVE_TYPES:
-            return self.__deserialize_primitive(data, klass)
+            deserialize = functools.partial(self.__deserialize_primitive, klass=klass)
         elif klass == object:
-            return self.__deserialize_object(data)
+            deserialize = self.__deserialize_object
         elif klass == datetime.date:
-            return self.__deserialize_date(data)
+            deserialize = self.__deserialize_date
         elif klass == datetime.datetime:
-            return self.__deserialize_datetime(data)
+            deserialize = self.__deserialize_datetime
         elif klass == decimal.Decimal:
-            return decimal.Decimal(data)
+            deserialize = decimal.Decimal
         elif issubclass(klass, Enum):
-            return self.__deserialize_enum(data, klass)
+            deserialize = functools.partial(self.__deserialize_enum, klass=klass)
         else:
-            return self.__deserialize_model(data, klass)
+            deserialize = functools.partial(self.__deserialize_model, klass=klass)
+
+        def deserialize_value(data):
+            if data is None:
+                return None
+            return deserialize(data)
+        return deserialize_value
 
     def parameters_to_tuples(self, params, collection_formats):
         """Get parameters as list of tuples, formatting collections.